@@ -0,0 +1,61 @@
+package com.hamkkebu.boilerplate.common.exception;
+
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BusinessException 생성 + 처리 비용 벤치마크
+ *
+ * <p>실제 요청 처리 스택과 비슷한 깊이(depth)에서 예외를 던지고 GlobalExceptionHandler로 응답을 만듭니다.</p>
+ * <ul>
+ *   <li>AUTHENTICATION_FAILED (4xx): 스택 트레이스 생성 안 함, 기본 에러 응답 재사용</li>
+ *   <li>INTERNAL_SERVER_ERROR (5xx): 스택 트레이스 생성 (기존 동작과 동일한 비용)</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BusinessExceptionBenchmark {
+
+    @Param({"20", "100"})
+    private int depth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> clientErrorStackless() {
+        return throwAndHandle(ErrorCode.AUTHENTICATION_FAILED);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> serverErrorWithStackTrace() {
+        return throwAndHandle(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    private ResponseEntity<ApiResponse<Void>> throwAndHandle(ErrorCode errorCode) {
+        try {
+            recurse(depth, errorCode);
+            throw new IllegalStateException("unreachable");
+        } catch (BusinessException e) {
+            return handler.handleBusinessException(e);
+        }
+    }
+
+    private static void recurse(int remaining, ErrorCode errorCode) {
+        if (remaining == 0) {
+            throw new BusinessException(errorCode);
+        }
+        recurse(remaining - 1, errorCode);
+    }
+}
@@ -0,0 +1,127 @@
+package com.hamkkebu.boilerplate.common.grpc;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hamkkebu.boilerplate.grpc.user.GetUsersRequest;
+import com.hamkkebu.boilerplate.grpc.user.GetUsersResponse;
+import com.hamkkebu.boilerplate.grpc.user.User;
+import com.hamkkebu.boilerplate.grpc.user.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user_service v1(string ID, ISO 8601) vs v2(int64 ID, Timestamp) 메시지 비용 벤치마크
+ *
+ * <p>실행: {@code ./gradlew jmh} - gc 프로파일러의 gc.alloc.rate.norm 값으로 호출당 할당 바이트를 비교합니다.
+ * decode 벤치마크는 수신 측이 ID와 시각을 도메인 타입(Long, LocalDateTime)으로 변환하는 비용까지 포함합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserProtoVersionBenchmark {
+
+    @Param({"1", "100"})
+    private int userCount;
+
+    private GetUsersRequest requestV1;
+    private com.hamkkebu.boilerplate.grpc.user.v2.GetUsersRequest requestV2;
+    private GetUsersResponse responseV1;
+    private com.hamkkebu.boilerplate.grpc.user.v2.GetUsersResponse responseV2;
+    private byte[] encodedV1;
+    private byte[] encodedV2;
+
+    @Setup
+    public void setUp() {
+        GetUsersRequest.Builder requestV1Builder = GetUsersRequest.newBuilder();
+        com.hamkkebu.boilerplate.grpc.user.v2.GetUsersRequest.Builder requestV2Builder =
+                com.hamkkebu.boilerplate.grpc.user.v2.GetUsersRequest.newBuilder();
+        GetUsersResponse.Builder responseV1Builder = GetUsersResponse.newBuilder();
+        com.hamkkebu.boilerplate.grpc.user.v2.GetUsersResponse.Builder responseV2Builder =
+                com.hamkkebu.boilerplate.grpc.user.v2.GetUsersResponse.newBuilder();
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 9, 30, 12);
+        for (int i = 0; i < userCount; i++) {
+            long userId = 1_000_000L + i;
+            LocalDateTime updatedAt = createdAt.plusDays(i);
+
+            requestV1Builder.addUserIds(String.valueOf(userId));
+            requestV2Builder.addUserIds(userId);
+
+            responseV1Builder.addUsers(User.newBuilder()
+                    .setId(String.valueOf(userId))
+                    .setUsername("user" + i)
+                    .setEmail("user" + i + "@hamkkebu.com")
+                    .setNickname("nickname" + i)
+                    .setCreatedAt(createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .setUpdatedAt(updatedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .setStatus(UserStatus.ACTIVE));
+            responseV2Builder.addUsers(com.hamkkebu.boilerplate.grpc.user.v2.User.newBuilder()
+                    .setId(userId)
+                    .setUsername("user" + i)
+                    .setEmail("user" + i + "@hamkkebu.com")
+                    .setNickname("nickname" + i)
+                    .setCreatedAt(ProtoTimestamps.of(createdAt))
+                    .setUpdatedAt(ProtoTimestamps.of(updatedAt))
+                    .setStatus(com.hamkkebu.boilerplate.grpc.user.v2.UserStatus.ACTIVE));
+        }
+
+        requestV1 = requestV1Builder.build();
+        requestV2 = requestV2Builder.build();
+        responseV1 = responseV1Builder.build();
+        responseV2 = responseV2Builder.build();
+        encodedV1 = responseV1.toByteArray();
+        encodedV2 = responseV2.toByteArray();
+    }
+
+    @Benchmark
+    public int requestSizeV1() {
+        return requestV1.toByteArray().length;
+    }
+
+    @Benchmark
+    public int requestSizeV2() {
+        return requestV2.toByteArray().length;
+    }
+
+    @Benchmark
+    public byte[] encodeResponseV1() {
+        return responseV1.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeResponseV2() {
+        return responseV2.toByteArray();
+    }
+
+    @Benchmark
+    public long decodeResponseV1() throws InvalidProtocolBufferException {
+        long checksum = 0;
+        for (User user : GetUsersResponse.parseFrom(encodedV1).getUsersList()) {
+            checksum += Long.parseLong(user.getId());
+            checksum += LocalDateTime.parse(user.getCreatedAt()).getSecond();
+            checksum += LocalDateTime.parse(user.getUpdatedAt()).getSecond();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long decodeResponseV2() throws InvalidProtocolBufferException {
+        long checksum = 0;
+        for (com.hamkkebu.boilerplate.grpc.user.v2.User user
+                : com.hamkkebu.boilerplate.grpc.user.v2.GetUsersResponse.parseFrom(encodedV2).getUsersList()) {
+            checksum += user.getId();
+            checksum += ProtoTimestamps.toLocalDateTime(user.getCreatedAt()).getSecond();
+            checksum += ProtoTimestamps.toLocalDateTime(user.getUpdatedAt()).getSecond();
+        }
+        return checksum;
+    }
+}
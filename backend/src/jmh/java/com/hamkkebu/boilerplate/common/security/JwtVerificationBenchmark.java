@@ -0,0 +1,78 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT decode + convert 비용 벤치마크 (캐시 사용/미사용 비교)
+ *
+ * <p>실행: {@code ./gradlew jmh}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private String token;
+    private JwtDecoder plainDecoder;
+    private JwtDecoder cachingDecoder;
+    private KeycloakJwtAuthenticationConverter converter;
+    private JwtVerificationCache cache;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("bench").generate();
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("user-1")
+                .claim("preferred_username", "bench-user")
+                .claim("realm_access", Map.of("roles", List.of("USER", "ADMIN")))
+                .claim("resource_access", Map.of("hamkkebu-backend", Map.of("roles", List.of("view", "edit"))))
+                .issueTime(new Date())
+                .expirationTime(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .build();
+        SignedJWT signedJwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("bench").build(), claims);
+        signedJwt.sign(new RSASSASigner(rsaKey));
+        token = signedJwt.serialize();
+
+        plainDecoder = NimbusJwtDecoder.withPublicKey(rsaKey.toRSAPublicKey()).build();
+        cache = new JwtVerificationCache(true, 10_000, 300, new SimpleMeterRegistry());
+        cachingDecoder = new CachingJwtDecoder(plainDecoder, cache);
+        converter = new KeycloakJwtAuthenticationConverter();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken decodeAndConvertWithoutCache() {
+        Jwt jwt = plainDecoder.decode(token);
+        return converter.convert(jwt);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken decodeAndConvertWithCache() {
+        Jwt jwt = cachingDecoder.decode(token);
+        return cache.convert(jwt, converter);
+    }
+}
@@ -0,0 +1,92 @@
+package com.hamkkebu.boilerplate.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse 직렬화 비용 벤치마크 (ObjectMapper vs ApiResponseWriter)
+ *
+ * <p>실행: {@code ./gradlew jmh} - gc 프로파일러의 gc.alloc.rate.norm 값으로 응답당 할당 바이트를 비교합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseWriterBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponseWriter apiResponseWriter;
+    private CountingOutputStream outputStream;
+    private Map<String, Object> data;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        apiResponseWriter = new ApiResponseWriter(objectMapper);
+        outputStream = new CountingOutputStream();
+        data = Map.of("ledgerId", 1L, "name", "생활비", "memberCount", 3);
+    }
+
+    @Benchmark
+    public long rateLimitErrorWithObjectMapper() throws IOException {
+        ApiResponse<Void> response = ApiResponse.error(
+                ErrorCode.RATE_LIMIT_EXCEEDED.getCode(), ErrorCode.RATE_LIMIT_EXCEEDED.getMessage());
+        outputStream.write(objectMapper.writeValueAsString(response).getBytes(StandardCharsets.UTF_8));
+        return outputStream.count;
+    }
+
+    @Benchmark
+    public long rateLimitErrorPreEncoded() throws IOException {
+        apiResponseWriter.writeError(outputStream, ErrorCode.RATE_LIMIT_EXCEEDED);
+        return outputStream.count;
+    }
+
+    @Benchmark
+    public long successWithObjectMapper() throws IOException {
+        objectMapper.writeValue(outputStream, ApiResponse.success(data));
+        return outputStream.count;
+    }
+
+    @Benchmark
+    public long successStreamed() throws IOException {
+        apiResponseWriter.writeSuccess(outputStream, data, "Success");
+        return outputStream.count;
+    }
+
+    /**
+     * 바이트 수만 세는 출력 스트림 (버퍼 할당이 측정에 섞이지 않도록)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // ObjectMapper.writeValue가 스트림을 닫아도 재사용
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.hamkkebu.boilerplate.common.archive;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Soft Delete 행 아카이브 처리기
+ *
+ * <p>{@link com.hamkkebu.boilerplate.common.entity.BaseEntity#delete()}로 삭제 표시된 뒤 보관 기간이 지난 행을
+ * {@code <table>_archive} 테이블로 옮기고 원본 테이블에서 물리 삭제합니다.
+ * 살아있는 테이블과 인덱스에 죽은 행이 쌓이지 않도록 하기 위한 것입니다.</p>
+ *
+ * <p>청크 단위로 처리합니다. 한 청크는 하나의 트랜잭션입니다.</p>
+ * <ol>
+ *   <li>대상 ID 조회 (FOR UPDATE SKIP LOCKED: 여러 인스턴스가 동시에 실행해도 같은 행을 처리하지 않음)</li>
+ *   <li>INSERT INTO {@code <table>_archive} SELECT t.*, NOW() ... WHERE id IN (...)</li>
+ *   <li>DELETE FROM {@code <table>} WHERE id IN (...)</li>
+ * </ol>
+ *
+ * <p>아카이브 테이블은 원본과 컬럼 순서가 같고 마지막에 archived_at 컬럼이 있어야 합니다.
+ * (DDL: classpath:sql/soft-delete-archive.sql)</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * SoftDeleteArchiver archiver = new SoftDeleteArchiver(jdbcTemplate, transactionManager);
+ * int archived = archiver.archive(SoftDeleteArchiver.Target.of("tbl_ledger_members", "ledger_member_id"),
+ *         LocalDateTime.now().minusDays(30), 500);
+ * </pre>
+ */
+@Slf4j
+public class SoftDeleteArchiver {
+
+    /**
+     * 테이블/컬럼 이름 허용 패턴 (설정값이 SQL에 그대로 들어가므로 식별자 문자만 허용)
+     */
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z][A-Za-z0-9_]{0,63}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SoftDeleteArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 행 아카이브
+     *
+     * @param target    대상 테이블
+     * @param cutoff    이 시각 이전에 삭제된 행만 이동
+     * @param chunkSize 청크 크기 (트랜잭션당 행 수)
+     * @return 이동한 행 수
+     */
+    public int archive(Target target, LocalDateTime cutoff, int chunkSize) {
+        int total = 0;
+        int moved;
+        do {
+            moved = archiveChunk(target, cutoff, chunkSize);
+            total += moved;
+        } while (moved == chunkSize && !Thread.currentThread().isInterrupted());
+
+        if (total > 0) {
+            log.info("Archived {} soft-deleted rows from {} (deleted before {})", total, target.getTable(), cutoff);
+        }
+        return total;
+    }
+
+    /**
+     * 한 청크 아카이브 (단일 트랜잭션)
+     *
+     * @return 이동한 행 수 (chunkSize 미만이면 남은 대상 없음)
+     */
+    int archiveChunk(Target target, LocalDateTime cutoff, int chunkSize) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(target.selectSql, Long.class, Timestamp.valueOf(cutoff), chunkSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            String inClause = String.join(",", Collections.nCopies(ids.size(), "?"));
+            Object[] args = ids.toArray();
+            int inserted = jdbcTemplate.update(target.insertSql + inClause + ")", args);
+            int deleted = jdbcTemplate.update(target.deleteSql + inClause + ")", args);
+            if (inserted != deleted) {
+                throw new IllegalStateException("Archive row count mismatch for " + target.getTable()
+                        + ": inserted=" + inserted + ", deleted=" + deleted);
+            }
+            return deleted;
+        });
+        return moved != null ? moved : 0;
+    }
+
+    /**
+     * 아카이브 대상 테이블
+     */
+    @EqualsAndHashCode(of = {"table", "idColumn"})
+    public static final class Target {
+
+        @Getter
+        private final String table;
+        @Getter
+        private final String idColumn;
+
+        private final String selectSql;
+        private final String insertSql;
+        private final String deleteSql;
+
+        private Target(String table, String idColumn) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.selectSql = "SELECT " + idColumn + " FROM " + table
+                    + " WHERE is_deleted = TRUE AND deleted_at < ?"
+                    + " ORDER BY " + idColumn + " LIMIT ? FOR UPDATE SKIP LOCKED";
+            this.insertSql = "INSERT INTO " + table + "_archive SELECT t.*, NOW() FROM " + table
+                    + " t WHERE t." + idColumn + " IN (";
+            this.deleteSql = "DELETE FROM " + table + " WHERE " + idColumn + " IN (";
+        }
+
+        /**
+         * 대상 생성
+         *
+         * @param table    원본 테이블 (아카이브 테이블은 table + "_archive")
+         * @param idColumn PK 컬럼
+         * @throws IllegalArgumentException 식별자 형식이 아닌 경우
+         */
+        public static Target of(String table, String idColumn) {
+            if (table == null || !IDENTIFIER.matcher(table).matches()) {
+                throw new IllegalArgumentException("Invalid archive table name: " + table);
+            }
+            if (idColumn == null || !IDENTIFIER.matcher(idColumn).matches()) {
+                throw new IllegalArgumentException("Invalid archive id column: " + idColumn);
+            }
+            return new Target(table, idColumn);
+        }
+
+        /**
+         * "table:id_column" 형식 설정값 파싱
+         */
+        public static Target parse(String spec) {
+            String[] parts = spec.trim().split(":", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Archive target must be 'table:id_column': " + spec);
+            }
+            return of(parts[0].trim(), parts[1].trim());
+        }
+
+        @Override
+        public String toString() {
+            return table + ":" + idColumn;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.hamkkebu.boilerplate.common.config;
+
+import com.hamkkebu.boilerplate.common.datasource.ConnectionPath;
+import com.hamkkebu.boilerplate.common.datasource.ConnectionPathContext;
+import com.hamkkebu.boilerplate.common.datasource.ConnectionPathRoutingDataSource;
+import com.hamkkebu.boilerplate.common.datasource.HikariPoolAdvisor;
+import com.hamkkebu.boilerplate.common.datasource.HikariPoolFactory;
+import com.hamkkebu.boilerplate.common.datasource.PoolAdvisorSettings;
+import com.hamkkebu.boilerplate.common.datasource.ReadWriteRoutingDataSource;
+import com.hamkkebu.boilerplate.common.datasource.ReadYourWritesTracker;
+import com.hamkkebu.boilerplate.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource 설정 (코드 경로별 커넥션 풀)
+ *
+ * <p>요청 처리, Kafka consumer, 스케줄러가 각자의 HikariCP 풀을 사용합니다.
+ * 모든 풀은 spring.datasource.hikari 설정을 공통으로 받고, datasource.pools.{풀 이름}으로 크기 등을 덮어씁니다.</p>
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * datasource:
+ *   pools:
+ *     kafka-consumer:
+ *       maximum-pool-size: 5
+ *     scheduler:
+ *       maximum-pool-size: 3
+ * </pre>
+ *
+ * <p>HikariCP 메트릭(hikaricp.connections.acquire/usage/pending 등)은 pool 태그로 경로를 구분합니다.</p>
+ *
+ * <p>datasource.replica.enabled=true면 요청 경로의 읽기 전용 트랜잭션을 replica로 보냅니다. ({@link ReplicaDataSourceConfig})</p>
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public HikariDataSource requestDataSource(DataSourceProperties properties, Environment environment,
+                                              MeterRegistry meterRegistry) {
+        return createPool(ConnectionPath.REQUEST, properties, environment, meterRegistry);
+    }
+
+    @Bean
+    public HikariDataSource kafkaConsumerDataSource(DataSourceProperties properties, Environment environment,
+                                                    MeterRegistry meterRegistry) {
+        return createPool(ConnectionPath.KAFKA_CONSUMER, properties, environment, meterRegistry);
+    }
+
+    @Bean
+    public HikariDataSource schedulerDataSource(DataSourceProperties properties, Environment environment,
+                                                MeterRegistry meterRegistry) {
+        return createPool(ConnectionPath.SCHEDULER, properties, environment, meterRegistry);
+    }
+
+    /**
+     * JPA, JdbcTemplate 등이 사용하는 기본 DataSource (현재 스레드의 경로로 풀 선택)
+     *
+     * <p>replica가 설정되어 있으면 읽기/쓰기 라우팅으로 감싸서, 첫 SQL 실행 시점에 primary/replica를 고릅니다.</p>
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource requestDataSource, HikariDataSource kafkaConsumerDataSource,
+                                 HikariDataSource schedulerDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+                                 ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        Map<ConnectionPath, DataSource> pools = new EnumMap<>(ConnectionPath.class);
+        pools.put(ConnectionPath.REQUEST, requestDataSource);
+        pools.put(ConnectionPath.KAFKA_CONSUMER, kafkaConsumerDataSource);
+        pools.put(ConnectionPath.SCHEDULER, schedulerDataSource);
+        ConnectionPathRoutingDataSource primary = new ConnectionPathRoutingDataSource(pools);
+
+        HikariDataSource replica = replicaDataSource.getIfAvailable();
+        if (replica == null) {
+            return primary;
+        }
+        primary.afterPropertiesSet();
+        return ReadWriteRoutingDataSource.lazy(primary, replica, readYourWritesTracker.getObject(),
+                replicaLagMonitor.getObject(), meterRegistry);
+    }
+
+    /**
+     * {@literal @}Scheduled 스레드를 SCHEDULER 경로로 지정
+     */
+    @Bean
+    public TaskSchedulerCustomizer connectionPathTaskSchedulerCustomizer() {
+        return scheduler -> scheduler.setThreadFactory(runnable ->
+                scheduler.newThread(ConnectionPathContext.wrap(ConnectionPath.SCHEDULER, runnable)));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.advisor", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public HikariPoolAdvisor hikariPoolAdvisor(
+            List<HikariDataSource> pools,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.advisor.headroom:1.2}") double headroom,
+            @Value("${datasource.advisor.min-pool-size:2}") int minPoolSize,
+            @Value("${datasource.advisor.max-pool-size:50}") int maxPoolSize,
+            @Value("${datasource.advisor.max-total-connections:60}") int maxTotalConnections,
+            @Value("${datasource.advisor.apply:false}") boolean apply) {
+        return new HikariPoolAdvisor(pools, PoolAdvisorSettings.builder()
+                .headroom(headroom)
+                .minPoolSize(minPoolSize)
+                .maxPoolSize(maxPoolSize)
+                .maxTotalConnections(maxTotalConnections)
+                .apply(apply)
+                .build(), meterRegistry);
+    }
+
+    private static HikariDataSource createPool(ConnectionPath path, DataSourceProperties properties,
+                                               Environment environment, MeterRegistry meterRegistry) {
+        return HikariPoolFactory.create(path.getPoolName(), properties, environment, meterRegistry);
+    }
+}
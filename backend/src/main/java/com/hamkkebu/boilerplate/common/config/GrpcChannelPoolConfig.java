@@ -0,0 +1,63 @@
+package com.hamkkebu.boilerplate.common.config;
+
+import com.hamkkebu.boilerplate.common.grpc.channel.GrpcChannelPool;
+import com.hamkkebu.boilerplate.common.grpc.channel.GrpcChannelPoolSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 내부 gRPC 채널 풀 설정
+ *
+ * <p>grpc.channel-pool.enabled=true일 때 userService/transactionService 채널 풀을 등록합니다.
+ * 주소를 따로 지정하지 않으면 grpc.client.*.address를 그대로 사용합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * UserServiceGrpc.UserServiceStub stub = UserServiceGrpc.newStub(userServiceChannelPool);
+ * </pre>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "grpc.channel-pool", name = "enabled", havingValue = "true")
+public class GrpcChannelPoolConfig {
+
+    @Value("${grpc.channel-pool.size:4}")
+    private int poolSize;
+
+    @Value("${grpc.channel-pool.max-in-flight-per-channel:100}")
+    private int maxInFlightPerChannel;
+
+    @Value("${grpc.channel-pool.load-balancing-policy:round_robin}")
+    private String loadBalancingPolicy;
+
+    @Value("${grpc.channel-pool.plaintext:true}")
+    private boolean plaintext;
+
+    @Value("${grpc.channel-pool.user-service.target:${grpc.client.user-service.address:static://localhost:9090}}")
+    private String userServiceTarget;
+
+    @Value("${grpc.channel-pool.transaction-service.target:${grpc.client.transaction-service.address:static://localhost:9090}}")
+    private String transactionServiceTarget;
+
+    @Bean(destroyMethod = "close")
+    public GrpcChannelPool userServiceChannelPool(MeterRegistry meterRegistry) {
+        return GrpcChannelPool.create("user-service", settings(userServiceTarget), meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public GrpcChannelPool transactionServiceChannelPool(MeterRegistry meterRegistry) {
+        return GrpcChannelPool.create("transaction-service", settings(transactionServiceTarget), meterRegistry);
+    }
+
+    private GrpcChannelPoolSettings settings(String target) {
+        return GrpcChannelPoolSettings.builder()
+                .target(target)
+                .poolSize(poolSize)
+                .maxInFlightPerChannel(maxInFlightPerChannel)
+                .loadBalancingPolicy(loadBalancingPolicy)
+                .plaintext(plaintext)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.hamkkebu.boilerplate.common.config;
+
+import com.hamkkebu.boilerplate.common.grpc.server.ConcurrencyLimitSettings;
+import com.hamkkebu.boilerplate.common.grpc.server.GrpcServerConcurrencyLimitInterceptor;
+import com.hamkkebu.boilerplate.common.grpc.server.GrpcServerMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+/**
+ * gRPC 서버 전역 인터셉터 설정
+ *
+ * <p>실행 순서 (바깥 → 안):</p>
+ * <ol>
+ *   <li>메트릭: 동시성 제한으로 거절된 호출도 RESOURCE_EXHAUSTED로 기록</li>
+ *   <li>동시성 제한: limit 초과 시 서비스 코드 실행 전에 거절</li>
+ * </ol>
+ *
+ * <p>동시성 제한은 기본 비활성화입니다. limit이 실제 처리량에 맞춰지기 전까지 initial-limit 초과 호출이 거절되므로,
+ * 서비스별로 측정한 동시 처리량을 initial-limit으로 지정하고 grpc.concurrency-limit.enabled=true로 활성화합니다.</p>
+ */
+@Configuration
+public class GrpcServerInterceptorConfig {
+
+    @Bean
+    @Order(10)
+    @GrpcGlobalServerInterceptor
+    public GrpcServerMetricsInterceptor grpcServerMetricsInterceptor(MeterRegistry meterRegistry) {
+        return new GrpcServerMetricsInterceptor(meterRegistry);
+    }
+
+    @Bean
+    @Order(20)
+    @GrpcGlobalServerInterceptor
+    @ConditionalOnProperty(prefix = "grpc.concurrency-limit", name = "enabled", havingValue = "true")
+    public GrpcServerConcurrencyLimitInterceptor grpcServerConcurrencyLimitInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${grpc.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${grpc.concurrency-limit.min-limit:5}") int minLimit,
+            @Value("${grpc.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${grpc.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance) {
+        return new GrpcServerConcurrencyLimitInterceptor(ConcurrencyLimitSettings.builder()
+                .initialLimit(initialLimit)
+                .minLimit(minLimit)
+                .maxLimit(maxLimit)
+                .rttTolerance(rttTolerance)
+                .build(), meterRegistry);
+    }
+}
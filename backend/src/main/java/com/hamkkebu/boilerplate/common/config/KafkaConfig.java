@@ -1,5 +1,6 @@
 package com.hamkkebu.boilerplate.common.config;
 
+import com.hamkkebu.boilerplate.common.datasource.ConnectionPathRecordInterceptor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -142,6 +143,9 @@ public class KafkaConfig {
         // 에러 핸들러 설정 (DLQ + 재시도)
         factory.setCommonErrorHandler(errorHandler());
 
+        // Consumer 스레드는 전용 커넥션 풀 사용 (요청 처리 풀과 분리)
+        factory.setRecordInterceptor(new ConnectionPathRecordInterceptor<>());
+
         return factory;
     }
 
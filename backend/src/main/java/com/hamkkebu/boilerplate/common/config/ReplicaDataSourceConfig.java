@@ -0,0 +1,84 @@
+package com.hamkkebu.boilerplate.common.config;
+
+import com.hamkkebu.boilerplate.common.datasource.HikariPoolFactory;
+import com.hamkkebu.boilerplate.common.datasource.ReadYourWritesTracker;
+import com.hamkkebu.boilerplate.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 replica DataSource 설정
+ *
+ * <p>요청 경로의 {@code @Transactional(readOnly = true)} 조회를 MySQL replica로 보냅니다.
+ * 복제 지연이 허용치를 넘거나, 직전에 쓰기를 커밋한 사용자의 조회는 primary를 사용합니다.</p>
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * datasource:
+ *   replica:
+ *     enabled: true
+ *     url: jdbc:mysql://replica:3306/hamkkebu
+ *     max-lag: 5s
+ *     stickiness-window: 5s
+ *   pools:
+ *     replica:
+ *       maximum-pool-size: 10
+ * </pre>
+ *
+ * <p>username, password, driver-class-name을 지정하지 않으면 spring.datasource 값을 사용합니다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final String REPLICA_PREFIX = "datasource.replica";
+    private static final String REPLICA_POOL_NAME = "replica";
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment,
+                                              MeterRegistry meterRegistry) {
+        DataSourceProperties replica = Binder.get(environment)
+                .bind(REPLICA_PREFIX, Bindable.of(DataSourceProperties.class))
+                .orElseGet(DataSourceProperties::new);
+        if (!StringUtils.hasText(replica.getUrl())) {
+            throw new IllegalStateException("datasource.replica.url is required");
+        }
+        if (replica.getUsername() == null) {
+            replica.setUsername(properties.determineUsername());
+        }
+        if (replica.getPassword() == null) {
+            replica.setPassword(properties.determinePassword());
+        }
+        if (replica.getDriverClassName() == null) {
+            replica.setDriverClassName(properties.determineDriverClassName());
+        }
+        return HikariPoolFactory.create(REPLICA_POOL_NAME, replica, environment, meterRegistry);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${datasource.replica.lag-check-enabled:true}") boolean lagCheckEnabled) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLag, lagCheckEnabled, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replica.stickiness-window:5s}") Duration stickinessWindow) {
+        return new ReadYourWritesTracker(stickinessWindow);
+    }
+}
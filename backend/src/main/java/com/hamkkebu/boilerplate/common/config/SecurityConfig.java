@@ -1,11 +1,22 @@
 package com.hamkkebu.boilerplate.common.config;
 
+import com.hamkkebu.boilerplate.common.security.BCryptCostCalibrator;
+import com.hamkkebu.boilerplate.common.security.CachingJwtDecoder;
+import com.hamkkebu.boilerplate.common.security.JwtVerificationCache;
 import com.hamkkebu.boilerplate.common.security.KeycloakJwtAuthenticationConverter;
+import com.hamkkebu.boilerplate.common.security.RefreshingJwkSource;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -20,6 +31,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -44,6 +56,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final KeycloakJwtAuthenticationConverter keycloakJwtAuthenticationConverter;
+    private final JwtVerificationCache jwtVerificationCache;
     private final Environment environment;
 
     @Value("${cors.allowed-origins:http://localhost:*,http://127.0.0.1:*}")
@@ -52,6 +65,33 @@ public class SecurityConfig {
     @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}")
     private String jwkSetUri;
 
+    @Value("${security.jwt.jwks.location:}")
+    private String jwksLocation;
+
+    @Value("${security.jwt.jwks.ttl-seconds:300}")
+    private long jwksTtlSeconds;
+
+    @Value("${security.jwt.jwks.refresh-ahead-seconds:60}")
+    private long jwksRefreshAheadSeconds;
+
+    @Value("${security.jwt.jwks.min-refetch-interval-seconds:30}")
+    private long jwksMinRefetchIntervalSeconds;
+
+    @Value("${security.jwt.jwks.connect-timeout-millis:2000}")
+    private int jwksConnectTimeoutMillis;
+
+    @Value("${security.jwt.jwks.read-timeout-millis:2000}")
+    private int jwksReadTimeoutMillis;
+
+    @Value("${security.password.bcrypt.target-millis:200}")
+    private long bcryptTargetMillis;
+
+    @Value("${security.password.bcrypt.min-strength:12}")
+    private int bcryptMinStrength;
+
+    @Value("${security.password.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
     /**
      * Security Filter Chain 설정
      */
@@ -137,7 +177,8 @@ public class SecurityConfig {
                 // Keycloak OAuth2 Resource Server 설정
                 .oauth2ResourceServer(oauth2 -> oauth2
                         .jwt(jwt -> jwt
-                                .jwtAuthenticationConverter(keycloakJwtAuthenticationConverter)
+                                .jwtAuthenticationConverter(jwt ->
+                                        jwtVerificationCache.convert(jwt, keycloakJwtAuthenticationConverter))
                         )
                 );
 
@@ -145,17 +186,45 @@ public class SecurityConfig {
     }
 
     /**
-     * JWT Decoder (Keycloak JWK Set URI 사용)
+     * JWT Decoder (로컬 캐싱 JWK Source 사용, 검증 결과 캐싱)
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        if (jwkSetUri != null && !jwkSetUri.isBlank()) {
-            return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+    public JwtDecoder jwtDecoder(ObjectProvider<RefreshingJwkSource> jwkSourceProvider) {
+        RefreshingJwkSource jwkSource = jwkSourceProvider.getIfAvailable();
+        if (jwkSource != null) {
+            DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+            jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+            // 클레임 검증은 Spring Security의 JwtValidators가 수행
+            jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+            return new CachingJwtDecoder(new NimbusJwtDecoder(jwtProcessor), jwtVerificationCache);
         }
         // issuer-uri를 사용하는 경우 Spring Boot가 자동 설정
         return null;
     }
 
+    /**
+     * JWK Source (시작 시 조회, 백그라운드 갱신, 실패 시 stale 키 사용)
+     *
+     * <p>security.jwt.jwks.location이 지정되면 로컬 JWKS 파일(file:, classpath:)을 사용합니다.
+     * JWK Set URI와 location이 모두 없으면 생성하지 않습니다.</p>
+     */
+    @Bean
+    @ConditionalOnExpression("'${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}' != ''"
+            + " or '${security.jwt.jwks.location:}' != ''")
+    public RefreshingJwkSource jwkSource() {
+        RefreshingJwkSource.JwkSetLoader loader;
+        if (jwksLocation != null && !jwksLocation.isBlank()) {
+            loader = RefreshingJwkSource.fromResource(new DefaultResourceLoader().getResource(jwksLocation));
+        } else {
+            loader = RefreshingJwkSource.fromUri(jwkSetUri, jwksConnectTimeoutMillis, jwksReadTimeoutMillis);
+        }
+        return new RefreshingJwkSource(
+                loader,
+                Duration.ofSeconds(jwksTtlSeconds),
+                Duration.ofSeconds(jwksRefreshAheadSeconds),
+                Duration.ofSeconds(jwksMinRefetchIntervalSeconds));
+    }
+
     /**
      * CORS 설정
      */
@@ -191,11 +260,13 @@ public class SecurityConfig {
     }
 
     /**
-     * 비밀번호 인코더 (BCrypt)
+     * 비밀번호 인코더 (BCrypt, 최소 cost에서 시작해 목표 시간 이내로 cost 상향)
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+        int strength = BCryptCostCalibrator.calibrate(
+                Duration.ofMillis(bcryptTargetMillis), bcryptMinStrength, bcryptMaxStrength);
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
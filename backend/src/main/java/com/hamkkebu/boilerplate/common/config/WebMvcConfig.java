@@ -1,21 +1,29 @@
 package com.hamkkebu.boilerplate.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hamkkebu.boilerplate.common.security.RateLimitingInterceptor;
+import com.hamkkebu.boilerplate.common.web.ApiResponseHttpMessageConverter;
+import com.hamkkebu.boilerplate.common.web.ApiResponseWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * Web MVC 설정
  *
- * <p>Rate Limiting Interceptor 등록</p>
+ * <p>Rate Limiting Interceptor, ApiResponse 응답 컨버터 등록</p>
  */
 @Configuration("boilerplateWebMvcConfig")
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final RateLimitingInterceptor rateLimitingInterceptor;
+    private final ApiResponseWriter apiResponseWriter;
+    private final ObjectMapper objectMapper;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -28,4 +36,12 @@ public class WebMvcConfig implements WebMvcConfigurer {
                         "/v3/api-docs/**"    // API Docs 제외
                 );
     }
+
+    /**
+     * ApiResponse 반환값은 기본 Jackson 컨버터보다 먼저 ApiResponseHttpMessageConverter로 출력
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ApiResponseHttpMessageConverter(apiResponseWriter, objectMapper));
+    }
 }
@@ -40,6 +40,18 @@ public class CommonConstants {
      */
     public static final int MAX_PAGE_SIZE = 100;
 
+    /**
+     * 스트리밍 조회 JDBC fetch size
+     * (MySQL Connector/J는 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍, 해당 Statement에만 적용)
+     * 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 변환 중 지연 로딩 금지
+     */
+    public static final int STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * 스트리밍 조회 JDBC fetch size (@QueryHints용 문자열, Integer.MIN_VALUE)
+     */
+    public static final String STREAM_FETCH_SIZE_HINT = "-2147483648";
+
     /**
      * 기본 정렬 방향
      */
@@ -184,6 +196,17 @@ public class CommonConstants {
      */
     public static final String PASSWORD_REGEX = "^(?=.*[a-zA-Z])(?=.*\\d)(?=.*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?]).{8,}$";
 
+    /**
+     * 비밀번호 허용 특수문자 (PASSWORD_REGEX와 동일)
+     */
+    public static final String PASSWORD_SPECIAL_CHARACTERS = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+
+    /**
+     * 비밀번호 연속/반복 문자 허용 최대 길이
+     * SECURITY: 4자 이상 연속(abcd, 1234, dcba) 또는 반복(aaaa) 금지
+     */
+    public static final int PASSWORD_MAX_SEQUENCE_LENGTH = 3;
+
     /**
      * 사용자명 최소 길이
      */
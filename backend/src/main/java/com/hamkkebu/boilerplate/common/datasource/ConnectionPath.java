@@ -0,0 +1,32 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB 커넥션을 사용하는 코드 경로 (경로별로 별도 커넥션 풀 사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ConnectionPath {
+
+    /**
+     * HTTP/gRPC 요청 처리 (기본값)
+     */
+    REQUEST("request"),
+
+    /**
+     * Kafka 이벤트 consumer
+     */
+    KAFKA_CONSUMER("kafka-consumer"),
+
+    /**
+     * {@literal @}Scheduled 작업 (Outbox 발행, 아카이브 등)
+     */
+    SCHEDULER("scheduler");
+
+    /**
+     * 커넥션 풀 이름 (HikariCP poolName, 메트릭 태그 pool)
+     */
+    private final String poolName;
+}
@@ -0,0 +1,53 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 현재 스레드의 커넥션 경로 보관
+ *
+ * <p>표시하지 않은 스레드(Tomcat, gRPC executor 등)는 {@link ConnectionPath#REQUEST}입니다.
+ * Kafka listener 스레드는 레코드 처리 동안, 스케줄러 스레드는 생성 시점부터 경로가 지정됩니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * ConnectionPathContext.bind(ConnectionPath.KAFKA_CONSUMER);
+ * try {
+ *     handle(record);
+ * } finally {
+ *     ConnectionPathContext.clear();
+ * }
+ * </pre>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectionPathContext {
+
+    private static final ThreadLocal<ConnectionPath> CURRENT = new ThreadLocal<>();
+
+    public static ConnectionPath current() {
+        ConnectionPath path = CURRENT.get();
+        return path != null ? path : ConnectionPath.REQUEST;
+    }
+
+    public static void bind(ConnectionPath path) {
+        CURRENT.set(path);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 작업 전체를 지정한 경로로 실행 (스레드 생성 시 사용)
+     */
+    public static Runnable wrap(ConnectionPath path, Runnable task) {
+        return () -> {
+            bind(path);
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+/**
+ * Kafka 레코드 처리 동안 커넥션 경로를 KAFKA_CONSUMER로 지정하는 인터셉터
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class ConnectionPathRecordInterceptor<K, V> implements RecordInterceptor<K, V> {
+
+    @Override
+    public ConsumerRecord<K, V> intercept(ConsumerRecord<K, V> record, Consumer<K, V> consumer) {
+        ConnectionPathContext.bind(ConnectionPath.KAFKA_CONSUMER);
+        return record;
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<K, V> record, Consumer<K, V> consumer) {
+        ConnectionPathContext.clear();
+    }
+}
@@ -0,0 +1,35 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 코드 경로별 커넥션 풀 라우팅 DataSource
+ *
+ * <p>커넥션을 얻는 시점의 {@link ConnectionPathContext#current()}로 풀을 고릅니다.
+ * Kafka consumer와 스케줄러가 요청 처리용 풀의 커넥션을 다 써서 API 요청이 커넥션을 기다리는 일을 막고,
+ * 풀별 HikariCP 메트릭(pool 태그)으로 경로별 대기/사용 시간을 구분합니다.</p>
+ */
+public class ConnectionPathRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * @param pools 경로별 풀 (없는 경로는 REQUEST 풀 사용)
+     */
+    public ConnectionPathRoutingDataSource(Map<ConnectionPath, DataSource> pools) {
+        DataSource requestPool = pools.get(ConnectionPath.REQUEST);
+        if (requestPool == null) {
+            throw new IllegalArgumentException("REQUEST pool is required");
+        }
+        setTargetDataSources(new HashMap<Object, Object>(pools));
+        setDefaultTargetDataSource(requestPool);
+        setLenientFallback(true);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ConnectionPathContext.current();
+    }
+}
@@ -0,0 +1,144 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HikariCP 풀 크기 권고
+ *
+ * <p>풀마다 사용 중 커넥션 수와 커넥션을 기다리는 스레드 수를 주기적으로 표본 추출하고,
+ * 평가 주기마다 최대 수요에 여유분을 더한 크기를 권고합니다. 풀이 부족하면(대기 스레드 발생) 늘리고,
+ * 과하게 크면 DB 커넥션 예산을 다른 풀/인스턴스에 돌려주도록 줄입니다.</p>
+ *
+ * <ul>
+ *   <li>메트릭: hikaricp.advisor.recommended.max (pool 태그)</li>
+ *   <li>아직 커넥션을 한 번도 얻지 않은 풀은 평가하지 않음</li>
+ *   <li>표본 사이의 짧은 burst는 보이지 않으므로 hikaricp.connections.pending / acquire 메트릭과 함께 판단</li>
+ * </ul>
+ *
+ * <p>대기 시간/사용 시간 histogram은 HikariCP Micrometer 메트릭(hikaricp.connections.acquire, usage, pending)을 사용합니다.</p>
+ */
+@Slf4j
+public class HikariPoolAdvisor {
+
+    private final PoolAdvisorSettings settings;
+    private final Map<String, PoolState> pools = new LinkedHashMap<>();
+
+    /**
+     * @param dataSources   평가할 풀
+     * @param settings      권고 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public HikariPoolAdvisor(List<HikariDataSource> dataSources, PoolAdvisorSettings settings,
+                             MeterRegistry meterRegistry) {
+        this.settings = settings;
+        for (HikariDataSource dataSource : dataSources) {
+            PoolState state = new PoolState(dataSource);
+            pools.put(dataSource.getPoolName(), state);
+            Gauge.builder("hikaricp.advisor.recommended.max", state.recommended, AtomicInteger::get)
+                    .description("Recommended maximum pool size from observed demand")
+                    .tag("pool", dataSource.getPoolName())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 풀별 수요 표본 추출
+     */
+    @Scheduled(fixedDelayString = "${datasource.advisor.sample-interval-ms:5000}")
+    public void sample() {
+        for (PoolState state : pools.values()) {
+            HikariPoolMXBean pool = state.dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                continue;
+            }
+            int demand = pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+            state.peakDemand.accumulateAndGet(demand, Math::max);
+            state.sampled = true;
+        }
+    }
+
+    /**
+     * 평가 구간의 최대 수요로 권고 크기 계산 (apply=true면 반영)
+     *
+     * @return 풀 이름 → 권고 크기 (평가한 풀만)
+     */
+    @Scheduled(fixedDelayString = "${datasource.advisor.evaluate-interval-ms:300000}",
+            initialDelayString = "${datasource.advisor.evaluate-interval-ms:300000}")
+    public Map<String, Integer> evaluate() {
+        Map<String, Integer> recommended = new LinkedHashMap<>();
+        Map<String, Integer> peaks = new LinkedHashMap<>();
+        pools.forEach((name, state) -> {
+            if (!state.sampled) {
+                return;
+            }
+            int peak = state.peakDemand.getAndSet(0);
+            peaks.put(name, peak);
+            recommended.put(name, recommendedSize(peak, settings));
+        });
+
+        Map<String, Integer> fitted = fitToBudget(recommended, settings.getMaxTotalConnections(),
+                settings.getMinPoolSize());
+        fitted.forEach((name, size) -> {
+            PoolState state = pools.get(name);
+            state.recommended.set(size);
+            int current = state.dataSource.getMaximumPoolSize();
+            if (size == current) {
+                return;
+            }
+            log.info("Connection pool sizing advice: pool={}, current={}, peakDemand={}, recommended={}, applied={}",
+                    name, current, peaks.get(name), size, settings.isApply());
+            if (settings.isApply()) {
+                state.dataSource.getHikariConfigMXBean().setMaximumPoolSize(size);
+            }
+        });
+        return fitted;
+    }
+
+    /**
+     * 최대 수요 x headroom (minPoolSize ~ maxPoolSize)
+     */
+    static int recommendedSize(int peakDemand, PoolAdvisorSettings settings) {
+        int size = (int) Math.ceil(peakDemand * settings.getHeadroom());
+        return Math.max(settings.getMinPoolSize(), Math.min(size, settings.getMaxPoolSize()));
+    }
+
+    /**
+     * 합계가 budget을 넘으면 비율대로 축소 (풀마다 최소 minPoolSize 보장)
+     */
+    static Map<String, Integer> fitToBudget(Map<String, Integer> sizes, int budget, int minPoolSize) {
+        int total = sizes.values().stream().mapToInt(Integer::intValue).sum();
+        if (total <= budget) {
+            return sizes;
+        }
+        double ratio = (double) budget / total;
+        Map<String, Integer> fitted = new LinkedHashMap<>();
+        sizes.forEach((name, size) -> fitted.put(name, Math.max(minPoolSize, (int) Math.floor(size * ratio))));
+        return fitted;
+    }
+
+    /**
+     * 풀별 표본 상태
+     */
+    private static final class PoolState {
+
+        private final HikariDataSource dataSource;
+        private final AtomicInteger peakDemand = new AtomicInteger();
+        private final AtomicInteger recommended;
+        private volatile boolean sampled;
+
+        private PoolState(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+            this.recommended = new AtomicInteger(dataSource.getMaximumPoolSize());
+        }
+    }
+}
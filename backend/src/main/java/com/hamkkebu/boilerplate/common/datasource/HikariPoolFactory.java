@@ -0,0 +1,41 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * HikariCP 풀 생성 유틸리티
+ *
+ * <p>spring.datasource.hikari 공통 설정을 먼저 바인딩하고, datasource.pools.{풀 이름} 설정으로 덮어씁니다.
+ * 풀은 첫 커넥션 요청 시 시작되며, Micrometer 메트릭은 pool 태그로 구분됩니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HikariPoolFactory {
+
+    private static final String COMMON_HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String POOL_PREFIX = "datasource.pools.";
+
+    /**
+     * @param poolName      풀 이름 (HikariCP poolName, 메트릭 태그 pool)
+     * @param connection    접속 정보 (url, username, password, driver)
+     * @param environment   설정 바인딩 대상 Environment
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public static HikariDataSource create(String poolName, DataSourceProperties connection, Environment environment,
+                                          MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = connection.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder binder = Binder.get(environment);
+        binder.bind(COMMON_HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        binder.bind(POOL_PREFIX + poolName, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,36 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커넥션 풀 크기 권고 설정
+ *
+ * <ul>
+ *   <li>권고 크기 = 평가 구간의 최대 수요(사용 중 + 대기 중 스레드) x headroom (minPoolSize ~ maxPoolSize)</li>
+ *   <li>모든 풀의 권고 합계가 maxTotalConnections를 넘으면 비율대로 줄임 (MySQL max_connections / 인스턴스 수 기준)</li>
+ *   <li>apply가 true면 권고 크기를 풀에 바로 반영, false면 로그와 메트릭으로만 제공</li>
+ * </ul>
+ */
+@Getter
+@Builder
+public class PoolAdvisorSettings {
+
+    @Builder.Default
+    private final double headroom = 1.2;
+
+    @Builder.Default
+    private final int minPoolSize = 2;
+
+    @Builder.Default
+    private final int maxPoolSize = 50;
+
+    /**
+     * 인스턴스 하나가 사용할 수 있는 전체 커넥션 수
+     */
+    @Builder.Default
+    private final int maxTotalConnections = 60;
+
+    @Builder.Default
+    private final boolean apply = false;
+}
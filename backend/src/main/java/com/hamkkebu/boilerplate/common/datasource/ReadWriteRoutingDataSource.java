@@ -0,0 +1,137 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ *
+ * <p>{@code @Transactional(readOnly = true)} 트랜잭션의 커넥션을 replica에서, 그 외는 primary에서 가져옵니다.
+ * 다음 경우에는 읽기 전용이어도 primary를 사용합니다.</p>
+ *
+ * <ul>
+ *   <li>요청 처리 경로가 아닌 경우 (Kafka consumer, 스케줄러는 primary 기준으로 처리)</li>
+ *   <li>현재 요청/사용자가 최근 쓰기를 커밋한 경우 ({@link ReadYourWritesTracker}).
+ *       읽기 전용이 아닌 트랜잭션이라도 실제 쓰기 SQL을 실행하고 커밋한 경우에만 기록 ({@link WriteDetectingConnection})</li>
+ *   <li>replica 복제 지연이 허용치를 넘었거나 상태를 알 수 없는 경우 ({@link ReplicaLagMonitor})</li>
+ * </ul>
+ *
+ * <p>트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 반드시 {@link #lazy}로 감싸서
+ * 첫 SQL 실행 시점에 커넥션을 고르도록 사용합니다.</p>
+ *
+ * <p>메트릭: datasource.routing (role=primary|replica)</p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * 라우팅 대상
+     */
+    public enum Role {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker,
+                                      ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.lagMonitor = lagMonitor;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Role.PRIMARY, primary);
+        targets.put(Role.REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.primaryCounter = routingCounter(meterRegistry, "primary");
+        this.replicaCounter = routingCounter(meterRegistry, "replica");
+    }
+
+    /**
+     * 첫 SQL 실행 시점에 라우팅하는 DataSource 생성
+     */
+    public static DataSource lazy(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker,
+                                  ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, readYourWritesTracker,
+                lagMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Role role = route();
+        (role == Role.REPLICA ? replicaCounter : primaryCounter).increment();
+        return role;
+    }
+
+    private Role route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Role.PRIMARY;
+        }
+        if (ConnectionPathContext.current() != ConnectionPath.REQUEST
+                || readYourWritesTracker.isSticky()
+                || !lagMonitor.isHealthy()) {
+            return Role.PRIMARY;
+        }
+        return Role.REPLICA;
+    }
+
+    /**
+     * 쓰기 트랜잭션의 커넥션이면 실제 쓰기 SQL 실행을 감지하도록 감쌈 (트랜잭션 밖의 쓰기는 추적하지 않음)
+     */
+    private Connection trackWrites(Connection connection) {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return connection;
+        }
+        return WriteDetectingConnection.wrap(connection, this::markWriteAfterCommit);
+    }
+
+    /**
+     * 쓰기를 실행한 트랜잭션이 커밋되면 read-your-writes 기록
+     *
+     * <p>JPA는 커밋 시점의 flush에서 쓰기를 실행하므로, 이때 등록한 동기화도 afterCommit에서 호출됩니다.</p>
+     */
+    private void markWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite();
+            }
+        });
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("datasource.routing")
+                .description("Connections routed by read/write role")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
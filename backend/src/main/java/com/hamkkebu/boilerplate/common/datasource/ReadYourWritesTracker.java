@@ -0,0 +1,73 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 후 읽기 일관성(read-your-writes) 추적
+ *
+ * <p>쓰기 트랜잭션이 커밋되면 같은 HTTP 요청의 이후 조회와, 같은 사용자의 window 동안의 조회를 primary로 보냅니다.
+ * replica에 아직 반영되지 않은 자신의 변경을 다시 읽지 못하는 문제를 막습니다.</p>
+ *
+ * <p>사용자 기록은 인스턴스별이므로 다음 요청이 다른 인스턴스로 가면 적용되지 않습니다.
+ * (window는 일반적인 복제 지연보다 길게 설정하고, 필요하면 로드밸런서 sticky session과 함께 사용)</p>
+ */
+public class ReadYourWritesTracker {
+
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WROTE";
+    private static final int MAXIMUM_USERS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    /**
+     * @param window 쓰기 후 primary에서 읽는 시간
+     */
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAXIMUM_USERS)
+                .build();
+    }
+
+    /**
+     * 쓰기 커밋 기록 (현재 요청 + 현재 사용자)
+     */
+    public void markWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        String user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * primary에서 읽어야 하는지 여부
+     */
+    public boolean isSticky() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,96 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Replica 복제 지연 모니터
+ *
+ * <p>주기적으로 replica에서 {@code SHOW REPLICA STATUS}의 Seconds_Behind_Source를 읽고,
+ * 지연이 maxLag를 넘거나 복제 상태를 알 수 없으면(복제 중단, 조회 실패) replica를 사용하지 않도록 표시합니다.</p>
+ *
+ * <ul>
+ *   <li>replica 계정에 REPLICATION CLIENT 권한 필요</li>
+ *   <li>lag 확인을 끄면(enabled=false) 항상 사용 가능으로 간주 (복제 구성이 없는 로컬/테스트 환경용)</li>
+ *   <li>메트릭: datasource.replica.lag.seconds (알 수 없으면 -1)</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLagSeconds;
+    private final boolean enabled;
+
+    private volatile boolean healthy;
+    private volatile long lagSeconds = -1;
+
+    /**
+     * @param replica       replica 커넥션 풀
+     * @param maxLag        허용 복제 지연
+     * @param enabled       lag 확인 여부
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, boolean enabled, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.enabled = enabled;
+        this.healthy = !enabled;
+        Gauge.builder("datasource.replica.lag.seconds", this, monitor -> monitor.lagSeconds)
+                .description("Replica replication lag (-1 if unknown)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * replica 사용 가능 여부
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 복제 지연 확인
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Long> lags = jdbcTemplate.query(REPLICA_STATUS_QUERY, (rs, rowNum) -> {
+                long lag = rs.getLong(LAG_COLUMN);
+                return rs.wasNull() ? null : lag;
+            });
+            Long lag = lags.isEmpty() ? null : lags.get(0);
+            lagSeconds = lag != null ? lag : -1;
+            update(lag != null && lag <= maxLagSeconds, lag != null ? "lag=" + lag + "s" : "replication status unknown");
+        } catch (DataAccessException e) {
+            lagSeconds = -1;
+            update(false, e.getMessage());
+        }
+    }
+
+    private void update(boolean nowHealthy, String detail) {
+        if (healthy == nowHealthy) {
+            return;
+        }
+        healthy = nowHealthy;
+        if (nowHealthy) {
+            log.info("Replica is back in rotation: {}", detail);
+        } else {
+            log.warn("Replica removed from rotation, routing reads to primary: {}", detail);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * 실제 쓰기 SQL 실행을 감지하는 Connection 프록시
+ *
+ * <p>이 커넥션에서 만든 Statement가 INSERT/UPDATE/DELETE 등 쓰기를 처음 실행하면 onFirstWrite를 한 번 호출합니다.
+ * 쓰기 판단 기준:</p>
+ * <ul>
+ *   <li>executeUpdate, executeLargeUpdate, executeBatch, executeLargeBatch</li>
+ *   <li>execute는 SQL이 SELECT/SHOW로 시작하지 않는 경우</li>
+ * </ul>
+ *
+ * <p>Hibernate처럼 Statement를 Map 키로 쓰는 경우를 위해 equals/hashCode는 프록시 자신을 기준으로 합니다.</p>
+ */
+final class WriteDetectingConnection implements InvocationHandler {
+
+    private final Connection target;
+    private final Runnable onFirstWrite;
+    private boolean written;
+
+    private WriteDetectingConnection(Connection target, Runnable onFirstWrite) {
+        this.target = target;
+        this.onFirstWrite = onFirstWrite;
+    }
+
+    /**
+     * @param target       실제 커넥션
+     * @param onFirstWrite 첫 쓰기 실행 후 호출 (커넥션당 한 번)
+     */
+    static Connection wrap(Connection target, Runnable onFirstWrite) {
+        return proxy(Connection.class, new WriteDetectingConnection(target, onFirstWrite));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object identity = identity(proxy, method, args);
+        if (identity != null) {
+            return identity;
+        }
+        Object result = invokeTarget(target, method, args);
+        String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+        if (result instanceof CallableStatement) {
+            return proxy(CallableStatement.class, new StatementHandler((Statement) result, sql));
+        }
+        if (result instanceof PreparedStatement) {
+            return proxy(PreparedStatement.class, new StatementHandler((Statement) result, sql));
+        }
+        if (result instanceof Statement) {
+            return proxy(Statement.class, new StatementHandler((Statement) result, null));
+        }
+        return result;
+    }
+
+    private void markWritten() {
+        if (!written) {
+            written = true;
+            onFirstWrite.run();
+        }
+    }
+
+    /**
+     * Statement 실행 메서드를 보고 쓰기 여부를 기록
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+
+        private StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            Object result = invokeTarget(statement, method, args);
+            if (isWrite(method.getName(), args)) {
+                markWritten();
+            }
+            return result;
+        }
+
+        private boolean isWrite(String methodName, Object[] args) {
+            switch (methodName) {
+                case "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch":
+                    return true;
+                case "execute":
+                    String sql = args != null && args.length > 0 ? (String) args[0] : preparedSql;
+                    return !isQuery(sql);
+                default:
+                    return false;
+            }
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("show");
+    }
+
+    /**
+     * equals/hashCode는 프록시 기준으로 처리 (해당 메서드가 아니면 null)
+     */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        if ("equals".equals(method.getName()) && args != null && args.length == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(method.getName()) && (args == null || args.length == 0)) {
+            return System.identityHashCode(proxy);
+        }
+        return null;
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(WriteDetectingConnection.class.getClassLoader(),
+                new Class<?>[] {type}, handler));
+    }
+}
@@ -0,0 +1,187 @@
+package com.hamkkebu.boilerplate.common.dto;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import lombok.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 커서(Keyset) 페이징 요청 DTO
+ *
+ * <p>OFFSET 대신 마지막으로 조회한 행의 정렬 키를 기준으로 다음 페이지를 조회합니다.
+ * COUNT 쿼리가 없고 페이지 깊이와 무관하게 인덱스 범위 조회로 동작합니다.</p>
+ *
+ * <p>커서는 정렬 키 값들을 인코딩한 불투명(opaque) 문자열이며, 클라이언트는 응답의
+ * nextCursor를 그대로 다음 요청에 전달합니다.</p>
+ *
+ * <p>사용 예시 (거래 내역 스크롤: 거래일 내림차순, ID 내림차순):</p>
+ * <pre>
+ * // Repository
+ * {@literal @}Query("SELECT t FROM Transaction t WHERE t.ledgerId = :ledgerId AND t.isDeleted = false " +
+ *        "AND (t.transactionDate {@literal <} :date OR (t.transactionDate = :date AND t.id {@literal <} :id)) " +
+ *        "ORDER BY t.transactionDate DESC, t.id DESC")
+ * Slice{@literal <}Transaction{@literal >} findHistory(Long ledgerId, LocalDateTime date, Long id, Pageable pageable);
+ *
+ * // Service
+ * LocalDateTime date = cursorRequest.getDateTimeKey(0, LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+ * Long id = cursorRequest.getLongKey(1, Long.MAX_VALUE);
+ * Slice{@literal <}Transaction{@literal >} slice = repository.findHistory(ledgerId, date, id, cursorRequest.toPageable());
+ * return CursorResponseDto.of(slice, TransactionDto::from, t -{@literal >} List.of(t.getTransactionDate(), t.getId()));
+ *
+ * // 요청 예시
+ * GET /api/v1/transactions/history?size=20{@literal &}cursor=MjAyNC0wMS0xNVQxMDowMDowMB8xMjM0
+ * </pre>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CursorRequestDto {
+
+    /**
+     * 정렬 키 구분자 (Unit Separator)
+     */
+    private static final String KEY_SEPARATOR = "\u001F";
+
+    /**
+     * 페이지 크기 최대값
+     */
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    private String cursor;
+
+    /**
+     * 페이지 크기
+     */
+    @Builder.Default
+    private int size = 20;
+
+    /**
+     * 첫 페이지 요청 여부
+     */
+    public boolean isFirstPage() {
+        return cursor == null || cursor.isBlank();
+    }
+
+    /**
+     * Spring Data Pageable로 변환 (정렬은 쿼리의 ORDER BY로 지정)
+     *
+     * <p>Slice 반환 쿼리에 전달하면 size + 1건을 조회하여 다음 페이지 존재 여부만 판단합니다.</p>
+     */
+    public Pageable toPageable() {
+        return PageRequest.of(0, getValidatedSize());
+    }
+
+    /**
+     * 검증된 페이지 크기 (1 ~ MAX_SIZE)
+     */
+    public int getValidatedSize() {
+        if (size < 1) {
+            return 20;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 커서 디코딩
+     *
+     * @return 정렬 키 문자열 목록 (첫 페이지면 빈 목록)
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public List<String> decodeCursor() {
+        if (isFirstPage()) {
+            return List.of();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Arrays.asList(decoded.split(KEY_SEPARATOR, -1));
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * Long 타입 정렬 키 조회
+     *
+     * @param index        키 순서
+     * @param defaultValue 첫 페이지일 때 사용할 값 (오름차순이면 0, 내림차순이면 Long.MAX_VALUE)
+     */
+    public Long getLongKey(int index, long defaultValue) {
+        String key = getKey(index);
+        if (key == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * LocalDateTime 타입 정렬 키 조회
+     *
+     * @param index        키 순서
+     * @param defaultValue 첫 페이지일 때 사용할 값
+     */
+    public LocalDateTime getDateTimeKey(int index, LocalDateTime defaultValue) {
+        String key = getKey(index);
+        if (key == null) {
+            return defaultValue;
+        }
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * 문자열 정렬 키 조회
+     *
+     * @param index 키 순서
+     * @return 키 값 (첫 페이지면 null)
+     */
+    public String getKey(int index) {
+        List<String> keys = decodeCursor();
+        if (keys.isEmpty()) {
+            return null;
+        }
+        if (index < 0 || index >= keys.size()) {
+            throw invalidCursor();
+        }
+        return keys.get(index);
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩
+     *
+     * @param keys 정렬 키 (toString 결과 사용, LocalDateTime은 ISO 형식)
+     * @return 불투명 커서 문자열
+     */
+    public static String encodeCursor(List<?> keys) {
+        String joined = keys.stream()
+            .map(key -> Objects.toString(key, ""))
+            .collect(Collectors.joining(KEY_SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BusinessException invalidCursor() {
+        return new BusinessException(ErrorCode.INVALID_PARAMETER_FORMAT, "잘못된 커서입니다");
+    }
+}
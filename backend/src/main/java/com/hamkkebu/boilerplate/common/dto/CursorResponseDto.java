@@ -0,0 +1,126 @@
+package com.hamkkebu.boilerplate.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(Keyset) 페이징 응답 DTO
+ *
+ * <p>전체 개수(COUNT) 없이 다음 페이지 존재 여부와 다음 커서만 반환합니다.</p>
+ *
+ * <p>응답 예시:</p>
+ * <pre>
+ * {
+ *   "content": [...],           // 데이터 목록
+ *   "size": 20,                 // 요청한 페이지 크기
+ *   "numberOfElements": 20,     // 현재 페이지의 데이터 개수
+ *   "hasNext": true,            // 다음 페이지 존재 여부
+ *   "nextCursor": "MTIzNA"      // 다음 요청에 전달할 커서 (마지막 페이지면 생략)
+ * }
+ * </pre>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * Slice{@literal <}LedgerMember{@literal >} slice = ledgerMemberRepository.findSliceByLedgerId(
+ *         ledgerId, cursorRequest.getLongKey(0, 0L), cursorRequest.toPageable());
+ * return ApiResponse.success(CursorResponseDto.of(slice, m -{@literal >} List.of(m.getLedgerMemberId())));
+ * </pre>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorResponseDto<T> {
+
+    /**
+     * 데이터 목록
+     */
+    private List<T> content;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 현재 페이지의 데이터 개수
+     */
+    private int numberOfElements;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * Spring Data Slice로부터 CursorResponseDto 생성
+     *
+     * @param slice        조회 결과 (COUNT 쿼리 없음)
+     * @param cursorKeys   마지막 행에서 다음 커서의 정렬 키를 추출하는 함수 (쿼리의 ORDER BY 순서와 동일)
+     */
+    public static <T> CursorResponseDto<T> of(Slice<T> slice, Function<? super T, List<?>> cursorKeys) {
+        return of(slice.getContent(), slice.getSize(), slice.hasNext(), cursorKeys);
+    }
+
+    /**
+     * Spring Data Slice로부터 CursorResponseDto 생성 (데이터 변환)
+     *
+     * <p>커서 키는 변환 전 엔티티에서 추출합니다.</p>
+     */
+    public static <T, U> CursorResponseDto<U> of(Slice<T> slice, Function<T, U> converter,
+                                                 Function<? super T, List<?>> cursorKeys) {
+        List<T> content = slice.getContent();
+        String nextCursor = nextCursor(content, slice.hasNext(), cursorKeys);
+
+        return CursorResponseDto.<U>builder()
+            .content(content.stream().map(converter).toList())
+            .size(slice.getSize())
+            .numberOfElements(content.size())
+            .hasNext(slice.hasNext())
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * size + 1건을 직접 조회한 결과로부터 CursorResponseDto 생성 (JDBC 등 Slice를 쓰지 않는 경우)
+     *
+     * @param fetched    최대 size + 1건 조회 결과
+     * @param size       페이지 크기
+     * @param cursorKeys 정렬 키 추출 함수
+     */
+    public static <T> CursorResponseDto<T> ofFetched(List<T> fetched, int size, Function<? super T, List<?>> cursorKeys) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        return of(content, size, hasNext, cursorKeys);
+    }
+
+    private static <T> CursorResponseDto<T> of(List<T> content, int size, boolean hasNext,
+                                               Function<? super T, List<?>> cursorKeys) {
+        return CursorResponseDto.<T>builder()
+            .content(content)
+            .size(size)
+            .numberOfElements(content.size())
+            .hasNext(hasNext)
+            .nextCursor(nextCursor(content, hasNext, cursorKeys))
+            .build();
+    }
+
+    private static <T> String nextCursor(List<T> content, boolean hasNext, Function<? super T, List<?>> cursorKeys) {
+        if (!hasNext || content.isEmpty()) {
+            return null;
+        }
+        return CursorRequestDto.encodeCursor(cursorKeys.apply(content.get(content.size() - 1)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.hamkkebu.boilerplate.common.dto;
 
+import com.hamkkebu.boilerplate.common.enums.PageCountMode;
 import lombok.*;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +23,9 @@ import org.springframework.data.domain.Sort;
  *
  * // 요청 예시
  * GET /api/v1/transactions?page=0&size=20&sort=createdAt,desc
+ *
+ * // 전체 개수가 필요 없는 화면 (COUNT 생략)
+ * GET /api/v1/transactions?page=0&size=20&countMode=NONE
  * </pre>
  */
 @Getter
@@ -57,6 +61,13 @@ public class PageRequestDto {
     @Builder.Default
     private String direction = "desc";
 
+    /**
+     * 전체 개수 계산 방식
+     * 예: "EXACT", "NONE", "ESTIMATED"
+     */
+    @Builder.Default
+    private PageCountMode countMode = PageCountMode.EXACT;
+
     /**
      * 페이지 크기 최대값
      */
@@ -125,5 +136,8 @@ public class PageRequestDto {
         if (direction == null || direction.isEmpty()) {
             direction = "desc";
         }
+        if (countMode == null) {
+            countMode = PageCountMode.EXACT;
+        }
     }
 }
@@ -1,10 +1,13 @@
 package com.hamkkebu.boilerplate.common.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hamkkebu.boilerplate.common.enums.PageCountMode;
 import lombok.*;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 페이징 응답 DTO
@@ -17,8 +20,9 @@ import java.util.List;
  *   "content": [...],           // 데이터 목록
  *   "page": 0,                  // 현재 페이지 (0부터 시작)
  *   "size": 20,                 // 페이지 크기
- *   "totalElements": 100,       // 전체 데이터 개수
- *   "totalPages": 5,            // 전체 페이지 수
+ *   "totalElements": 100,       // 전체 데이터 개수 (countMode=NONE이면 -1)
+ *   "totalPages": 5,            // 전체 페이지 수 (countMode=NONE이면 -1)
+ *   "countMode": "EXACT",       // 전체 개수 계산 방식 (EXACT, NONE, ESTIMATED)
  *   "isFirst": true,            // 첫 페이지 여부
  *   "isLast": false,            // 마지막 페이지 여부
  *   "hasNext": true,            // 다음 페이지 존재 여부
@@ -44,6 +48,11 @@ import java.util.List;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponseDto<T> {
 
+    /**
+     * 전체 개수를 계산하지 않은 경우의 totalElements, totalPages 값 (countMode=NONE)
+     */
+    public static final int UNKNOWN_TOTAL = -1;
+
     /**
      * 데이터 목록
      */
@@ -60,15 +69,20 @@ public class PageResponseDto<T> {
     private int size;
 
     /**
-     * 전체 데이터 개수
+     * 전체 데이터 개수 (countMode가 NONE이면 {@link #UNKNOWN_TOTAL})
      */
     private long totalElements;
 
     /**
-     * 전체 페이지 수
+     * 전체 페이지 수 (countMode가 NONE이면 {@link #UNKNOWN_TOTAL})
      */
     private int totalPages;
 
+    /**
+     * 전체 개수 계산 방식
+     */
+    private PageCountMode countMode;
+
     /**
      * 첫 페이지 여부
      */
@@ -103,12 +117,20 @@ public class PageResponseDto<T> {
      * Spring Data Page 객체로부터 PageResponseDto 생성
      */
     public static <T> PageResponseDto<T> of(Page<T> page) {
+        return of(page, PageCountMode.EXACT);
+    }
+
+    /**
+     * Spring Data Page 객체로부터 PageResponseDto 생성 (개수 계산 방식 지정)
+     */
+    public static <T> PageResponseDto<T> of(Page<T> page, PageCountMode countMode) {
         return PageResponseDto.<T>builder()
             .content(page.getContent())
             .page(page.getNumber())
             .size(page.getSize())
             .totalElements(page.getTotalElements())
             .totalPages(page.getTotalPages())
+            .countMode(countMode)
             .isFirst(page.isFirst())
             .isLast(page.isLast())
             .hasNext(page.hasNext())
@@ -128,23 +150,52 @@ public class PageResponseDto<T> {
      * PageResponseDto{@literal <}TransactionDto{@literal >} response = PageResponseDto.of(page, TransactionDto::from);
      * </pre>
      */
-    public static <T, U> PageResponseDto<U> of(Page<T> page, java.util.function.Function<T, U> converter) {
-        List<U> convertedContent = page.getContent().stream()
-            .map(converter)
-            .toList();
+    public static <T, U> PageResponseDto<U> of(Page<T> page, Function<T, U> converter) {
+        return of(page.map(converter), PageCountMode.EXACT);
+    }
 
-        return PageResponseDto.<U>builder()
-            .content(convertedContent)
-            .page(page.getNumber())
-            .size(page.getSize())
-            .totalElements(page.getTotalElements())
-            .totalPages(page.getTotalPages())
-            .isFirst(page.isFirst())
-            .isLast(page.isLast())
-            .hasNext(page.hasNext())
-            .hasPrevious(page.hasPrevious())
-            .numberOfElements(page.getNumberOfElements())
-            .isEmpty(page.isEmpty())
+    /**
+     * Spring Data Slice로부터 PageResponseDto 생성 (COUNT 없음)
+     *
+     * <p>totalElements, totalPages는 {@link #UNKNOWN_TOTAL}(-1)이고 countMode는 NONE으로 표시됩니다.</p>
+     */
+    public static <T> PageResponseDto<T> ofSlice(Slice<T> slice) {
+        return PageResponseDto.<T>builder()
+            .content(slice.getContent())
+            .page(slice.getNumber())
+            .size(slice.getSize())
+            .totalElements(UNKNOWN_TOTAL)
+            .totalPages(UNKNOWN_TOTAL)
+            .countMode(PageCountMode.NONE)
+            .isFirst(slice.isFirst())
+            .isLast(slice.isLast())
+            .hasNext(slice.hasNext())
+            .hasPrevious(slice.hasPrevious())
+            .numberOfElements(slice.getNumberOfElements())
+            .isEmpty(slice.isEmpty())
+            .build();
+    }
+
+    /**
+     * Spring Data Slice와 추정 전체 개수로 PageResponseDto 생성 (countMode=ESTIMATED)
+     *
+     * <p>totalElements, totalPages만 추정값이고, isLast/hasNext 등 페이지 이동 정보는 Slice의 실제 조회 결과를 사용합니다.</p>
+     */
+    public static <T> PageResponseDto<T> ofEstimate(Slice<T> slice, long estimatedTotal) {
+        int totalPages = slice.getSize() > 0 ? (int) Math.ceil((double) estimatedTotal / slice.getSize()) : 1;
+        return PageResponseDto.<T>builder()
+            .content(slice.getContent())
+            .page(slice.getNumber())
+            .size(slice.getSize())
+            .totalElements(estimatedTotal)
+            .totalPages(totalPages)
+            .countMode(PageCountMode.ESTIMATED)
+            .isFirst(slice.isFirst())
+            .isLast(slice.isLast())
+            .hasNext(slice.hasNext())
+            .hasPrevious(slice.hasPrevious())
+            .numberOfElements(slice.getNumberOfElements())
+            .isEmpty(slice.isEmpty())
             .build();
     }
 
@@ -158,6 +209,7 @@ public class PageResponseDto<T> {
             .size(0)
             .totalElements(0)
             .totalPages(0)
+            .countMode(PageCountMode.EXACT)
             .isFirst(true)
             .isLast(true)
             .hasNext(false)
@@ -179,6 +231,7 @@ public class PageResponseDto<T> {
             .size(size)
             .totalElements(totalElements)
             .totalPages(totalPages)
+            .countMode(PageCountMode.EXACT)
             .isFirst(page == 0)
             .isLast(page >= totalPages - 1)
             .hasNext(page < totalPages - 1)
@@ -0,0 +1,45 @@
+package com.hamkkebu.boilerplate.common.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 외부에서 ID를 할당받는 엔티티의 기본 클래스
+ *
+ * <p>다른 서비스의 이벤트로 동기화되는 엔티티처럼 ID가 이미 정해져 있는 경우 사용합니다.</p>
+ *
+ * <p>Spring Data의 save()는 ID가 있으면 기존 엔티티로 보고 merge(SELECT 후 INSERT)합니다.
+ * {@link Persistable#isNew()}로 새 엔티티임을 알려 persist하므로 SELECT 없이 INSERT하고,
+ * IDENTITY 생성과 달리 INSERT를 JDBC 배치로 묶을 수 있습니다.</p>
+ *
+ * <p>새 엔티티 여부는 조회(@PostLoad) 또는 저장(@PostPersist) 시 false로 바뀝니다.</p>
+ */
+@SuperBuilder
+@NoArgsConstructor
+@MappedSuperclass
+public abstract class AssignedIdEntity extends BaseEntity implements Persistable<Long> {
+
+    /**
+     * DB에 저장되었거나 DB에서 조회된 엔티티인지 여부
+     */
+    @Transient
+    private boolean persisted;
+
+    @JsonIgnore
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        this.persisted = true;
+    }
+}
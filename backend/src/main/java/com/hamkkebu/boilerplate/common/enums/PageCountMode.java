@@ -0,0 +1,36 @@
+package com.hamkkebu.boilerplate.common.enums;
+
+/**
+ * 페이징 전체 개수(COUNT) 계산 방식 Enum
+ *
+ * <p>목록 화면 대부분은 전체 개수를 표시하지 않으므로, 요청별로 COUNT 비용을 선택합니다.</p>
+ *
+ * <ul>
+ *   <li>EXACT: 매 요청마다 COUNT 쿼리 실행 (기본값, 기존 동작)</li>
+ *   <li>NONE: COUNT 없이 다음 페이지 존재 여부만 반환</li>
+ *   <li>ESTIMATED: 캐싱된 COUNT 또는 테이블 통계 기반 추정값 사용</li>
+ * </ul>
+ */
+public enum PageCountMode {
+
+    /**
+     * 정확한 개수
+     * - 매 요청마다 COUNT 쿼리 실행
+     * - 마지막 페이지 등 content로 계산 가능한 경우 COUNT 생략
+     */
+    EXACT,
+
+    /**
+     * 개수 미제공
+     * - COUNT 쿼리 없음 (size + 1건 조회로 다음 페이지 여부만 판단)
+     * - 응답의 totalElements, totalPages는 -1 (PageResponseDto.UNKNOWN_TOTAL)
+     */
+    NONE,
+
+    /**
+     * 추정 개수
+     * - 쿼리/필터별 COUNT 결과를 TTL 동안 캐싱
+     * - 필터 없는 전체 목록은 테이블 통계(information_schema) 사용 가능
+     */
+    ESTIMATED
+}
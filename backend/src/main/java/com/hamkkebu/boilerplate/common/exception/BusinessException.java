@@ -1,7 +1,9 @@
 package com.hamkkebu.boilerplate.common.exception;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,10 +24,19 @@ import java.util.Map;
  * throw new BusinessException(ErrorCode.VALIDATION_FAILED, "입력값 검증 실패",
  *     Map.of("field", "email", "value", "invalid-email"));
  * </pre>
+ *
+ * <p>성능: 클라이언트 오류(4xx) ErrorCode이고 원인 예외가 없으면 스택 트레이스를 생성하지 않습니다.
+ * 검증/인증 실패는 정상 흐름에서 대량으로 발생하므로(예: 크리덴셜 스터핑) fillInStackTrace 비용을 없앱니다.
+ * 디버깅 시 {@code -Dbusiness-exception.stack-trace=true}로 모든 예외의 스택 트레이스를 남길 수 있습니다.</p>
  */
 @Getter
 public class BusinessException extends RuntimeException {
 
+    /**
+     * true면 클라이언트 오류도 스택 트레이스 생성
+     */
+    private static final boolean ALWAYS_WRITABLE_STACK_TRACE = Boolean.getBoolean("business-exception.stack-trace");
+
     /**
      * 에러 코드
      */
@@ -39,78 +50,75 @@ public class BusinessException extends RuntimeException {
 
     /**
      * 에러 상세 정보
-     * (필드별 validation 에러, 추가 디버그 정보 등)
+     * (필드별 validation 에러, 추가 디버그 정보 등 / 최초 추가 시 생성)
      */
-    private final Map<String, Object> details;
+    @Getter(AccessLevel.NONE)
+    private Map<String, Object> details;
 
     /**
      * 기본 생성자 - ErrorCode만 사용
      */
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, true, isStackTraceWritable(errorCode, null));
         this.errorCode = errorCode;
         this.customMessage = null;
-        this.details = new HashMap<>();
     }
 
     /**
      * 커스텀 메시지와 함께 생성
      */
     public BusinessException(ErrorCode errorCode, String customMessage) {
-        super(customMessage);
+        super(customMessage, null, true, isStackTraceWritable(errorCode, null));
         this.errorCode = errorCode;
         this.customMessage = customMessage;
-        this.details = new HashMap<>();
     }
 
     /**
      * 상세 정보와 함께 생성
      */
     public BusinessException(ErrorCode errorCode, Map<String, Object> details) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, true, isStackTraceWritable(errorCode, null));
         this.errorCode = errorCode;
         this.customMessage = null;
-        this.details = details != null ? details : new HashMap<>();
+        this.details = details;
     }
 
     /**
      * 커스텀 메시지와 상세 정보와 함께 생성
      */
     public BusinessException(ErrorCode errorCode, String customMessage, Map<String, Object> details) {
-        super(customMessage);
+        super(customMessage, null, true, isStackTraceWritable(errorCode, null));
         this.errorCode = errorCode;
         this.customMessage = customMessage;
-        this.details = details != null ? details : new HashMap<>();
+        this.details = details;
     }
 
     /**
      * 원인 예외와 함께 생성
      */
     public BusinessException(ErrorCode errorCode, Throwable cause) {
-        super(errorCode.getMessage(), cause);
+        super(errorCode.getMessage(), cause, true, isStackTraceWritable(errorCode, cause));
         this.errorCode = errorCode;
         this.customMessage = null;
-        this.details = new HashMap<>();
     }
 
     /**
      * 커스텀 메시지와 원인 예외와 함께 생성
      */
     public BusinessException(ErrorCode errorCode, String customMessage, Throwable cause) {
-        super(customMessage, cause);
+        super(customMessage, cause, true, isStackTraceWritable(errorCode, cause));
         this.errorCode = errorCode;
         this.customMessage = customMessage;
-        this.details = new HashMap<>();
     }
 
     /**
      * 전체 정보와 함께 생성
      */
     public BusinessException(ErrorCode errorCode, String customMessage, Map<String, Object> details, Throwable cause) {
-        super(customMessage, cause);
+        super(customMessage, cause, true, isStackTraceWritable(errorCode, cause));
         this.errorCode = errorCode;
         this.customMessage = customMessage;
-        this.details = details != null ? details : new HashMap<>();
+        this.details = details;
     }
 
     /**
@@ -121,11 +129,18 @@ public class BusinessException extends RuntimeException {
         return customMessage != null ? customMessage : errorCode.getMessage();
     }
 
+    /**
+     * 에러 상세 정보 반환 (없으면 빈 Map)
+     */
+    public Map<String, Object> getDetails() {
+        return details != null ? details : Collections.emptyMap();
+    }
+
     /**
      * 상세 정보 추가
      */
     public BusinessException addDetail(String key, Object value) {
-        this.details.put(key, value);
+        mutableDetails().put(key, value);
         return this;
     }
 
@@ -133,15 +148,31 @@ public class BusinessException extends RuntimeException {
      * 여러 상세 정보 추가
      */
     public BusinessException addDetails(Map<String, Object> additionalDetails) {
-        if (additionalDetails != null) {
-            this.details.putAll(additionalDetails);
+        if (additionalDetails != null && !additionalDetails.isEmpty()) {
+            mutableDetails().putAll(additionalDetails);
         }
         return this;
     }
 
+    private Map<String, Object> mutableDetails() {
+        if (details == null) {
+            details = new HashMap<>();
+        }
+        return details;
+    }
+
+    /**
+     * 스택 트레이스 생성 여부
+     *
+     * <p>원인 예외가 있거나 서버 오류(5xx)면 생성합니다.</p>
+     */
+    private static boolean isStackTraceWritable(ErrorCode errorCode, Throwable cause) {
+        return ALWAYS_WRITABLE_STACK_TRACE || cause != null || !errorCode.isClientError();
+    }
+
     @Override
     public String toString() {
         return String.format("BusinessException(errorCode=%s, message=%s, details=%s)",
-            errorCode.getCode(), getErrorMessage(), details);
+            errorCode.getCode(), getErrorMessage(), getDetails());
     }
 }
@@ -94,6 +94,11 @@ public enum ErrorCode {
      */
     RATE_LIMIT_EXCEEDED("COMMON-013", "요청 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
+    /**
+     * 서버 처리 용량 초과 (작업 큐 포화 등)
+     */
+    SERVICE_BUSY("COMMON-014", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
     // ==================== 사용자 관련 에러 (USER-101 ~ 199) ====================
 
     /**
@@ -328,4 +333,14 @@ public enum ErrorCode {
     public int getStatusValue() {
         return httpStatus.value();
     }
+
+    /**
+     * 클라이언트 오류(4xx) 여부
+     *
+     * <p>검증/인증 실패처럼 정상 흐름에서 자주 발생하는 예상된 오류입니다.
+     * BusinessException은 이 경우 스택 트레이스를 생성하지 않습니다.</p>
+     */
+    public boolean isClientError() {
+        return httpStatus.is4xxClientError();
+    }
 }
@@ -23,6 +23,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -46,6 +47,11 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * ErrorCode별 기본 에러 응답 (커스텀 메시지/상세 정보가 없는 경우 재사용, 불변 객체)
+     */
+    private static final Map<ErrorCode, ApiResponse.ErrorResponse> DEFAULT_ERROR_RESPONSES = buildDefaultErrorResponses();
+
     /**
      * BusinessException 처리
      *
@@ -53,14 +59,14 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException ex) {
+        ErrorCode errorCode = ex.getErrorCode();
+        Map<String, Object> details = ex.getDetails();
         log.warn("BusinessException occurred: code={}, message={}, details={}",
-            ex.getErrorCode().getCode(), ex.getErrorMessage(), ex.getDetails());
+            errorCode.getCode(), ex.getErrorMessage(), details);
 
-        ApiResponse<Void> response = ApiResponse.error(
-            ex.getErrorCode().getCode(),
-            ex.getErrorMessage(),
-            ex.getDetails().isEmpty() ? null : ex.getDetails()
-        );
+        ApiResponse<Void> response = ex.getCustomMessage() == null && details.isEmpty()
+            ? ApiResponse.error(DEFAULT_ERROR_RESPONSES.get(errorCode))
+            : ApiResponse.error(errorCode.getCode(), ex.getErrorMessage(), details.isEmpty() ? null : details);
 
         return ResponseEntity
             .status(ex.getErrorCode().getHttpStatus())
@@ -357,10 +363,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleAccessDeniedException(AccessDeniedException ex) {
         log.warn("Access denied: {}", ex.getMessage());
 
-        ApiResponse<Void> response = ApiResponse.error(
-            ErrorCode.ACCESS_DENIED.getCode(),
-            ErrorCode.ACCESS_DENIED.getMessage()
-        );
+        ApiResponse<Void> response = ApiResponse.error(DEFAULT_ERROR_RESPONSES.get(ErrorCode.ACCESS_DENIED));
 
         return ResponseEntity
             .status(HttpStatus.FORBIDDEN)
@@ -397,10 +400,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleDataAccessException(DataAccessException ex) {
         log.error("Database access error", ex);
 
-        ApiResponse<Void> response = ApiResponse.error(
-            ErrorCode.DATABASE_ERROR.getCode(),
-            ErrorCode.DATABASE_ERROR.getMessage()
-        );
+        ApiResponse<Void> response = ApiResponse.error(DEFAULT_ERROR_RESPONSES.get(ErrorCode.DATABASE_ERROR));
 
         return ResponseEntity
             .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -455,13 +455,18 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleException(Exception ex) {
         log.error("Unexpected exception occurred", ex);
 
-        ApiResponse<Void> response = ApiResponse.error(
-            ErrorCode.INTERNAL_SERVER_ERROR.getCode(),
-            ErrorCode.INTERNAL_SERVER_ERROR.getMessage()
-        );
+        ApiResponse<Void> response = ApiResponse.error(DEFAULT_ERROR_RESPONSES.get(ErrorCode.INTERNAL_SERVER_ERROR));
 
         return ResponseEntity
             .status(HttpStatus.INTERNAL_SERVER_ERROR)
             .body(response);
     }
+
+    private static Map<ErrorCode, ApiResponse.ErrorResponse> buildDefaultErrorResponses() {
+        Map<ErrorCode, ApiResponse.ErrorResponse> responses = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            responses.put(errorCode, new ApiResponse.ErrorResponse(errorCode.getCode(), errorCode.getMessage(), null));
+        }
+        return responses;
+    }
 }
@@ -0,0 +1,65 @@
+package com.hamkkebu.boilerplate.common.grpc;
+
+import com.google.protobuf.Timestamp;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * google.protobuf.Timestamp 변환 유틸리티 (v2 gRPC 메시지용)
+ *
+ * <p>엔티티의 LocalDateTime은 서버 기본 시간대로 해석합니다. (v1의 ISO 8601 문자열과 같은 기준)</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * User.newBuilder()
+ *         .setId(user.getUserId())
+ *         .setCreatedAt(ProtoTimestamps.of(user.getCreatedAt()))
+ *         .build();
+ *
+ * LocalDateTime createdAt = ProtoTimestamps.toLocalDateTime(proto.getCreatedAt());
+ * </pre>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProtoTimestamps {
+
+    /**
+     * LocalDateTime → Timestamp (null이면 기본 인스턴스, 즉 필드 미설정과 같음)
+     */
+    public static Timestamp of(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return Timestamp.getDefaultInstance();
+        }
+        return of(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Instant → Timestamp
+     */
+    public static Timestamp of(Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    /**
+     * Timestamp → LocalDateTime (기본 인스턴스면 null)
+     */
+    public static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        if (timestamp == null || Timestamp.getDefaultInstance().equals(timestamp)) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(toInstant(timestamp), ZoneId.systemDefault());
+    }
+
+    /**
+     * Timestamp → Instant
+     */
+    public static Instant toInstant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+}
@@ -0,0 +1,47 @@
+package com.hamkkebu.boilerplate.common.grpc.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * gRPC 조회 캐시 설정 (메서드별)
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * GrpcCacheSettings settings = GrpcCacheSettings.builder()
+ *         .ttl(Duration.ofSeconds(60))
+ *         .negativeTtl(Duration.ofSeconds(10))
+ *         .maxStale(Duration.ofMinutes(10))
+ *         .build();
+ * </pre>
+ */
+@Getter
+@Builder
+public class GrpcCacheSettings {
+
+    /**
+     * 조회 결과 캐시 시간
+     */
+    @Builder.Default
+    private final Duration ttl = Duration.ofSeconds(60);
+
+    /**
+     * not-found 결과 캐시 시간 (생성 직후 조회 등을 고려해 짧게)
+     */
+    @Builder.Default
+    private final Duration negativeTtl = Duration.ofSeconds(10);
+
+    /**
+     * TTL 만료 후 Circuit Breaker가 Open이거나 호출이 실패할 때 stale 값을 사용할 수 있는 최대 시간
+     */
+    @Builder.Default
+    private final Duration maxStale = Duration.ofMinutes(10);
+
+    /**
+     * 최대 항목 수
+     */
+    @Builder.Default
+    private final long maximumSize = 10_000;
+}
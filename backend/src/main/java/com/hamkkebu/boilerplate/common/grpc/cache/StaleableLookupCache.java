@@ -0,0 +1,200 @@
+package com.hamkkebu.boilerplate.common.grpc.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * gRPC 조회 결과 read-through 캐시
+ *
+ * <ul>
+ *   <li>조회 결과는 ttl, not-found(empty)는 negativeTtl 동안 그대로 반환</li>
+ *   <li>만료된 항목도 maxStale 동안 보관하며, Circuit Breaker가 Open이면 호출 없이 stale 값 반환</li>
+ *   <li>갱신 호출이 실패(StatusRuntimeException, CallNotPermittedException)해도 stale 값이 있으면 반환</li>
+ *   <li>Bulkhead가 가득 차 거절(BulkheadFullException)되어도 stale 값이 있으면 반환</li>
+ *   <li>stale 값도 없으면 예외를 그대로 전달</li>
+ * </ul>
+ *
+ * <p>로더는 Bulkhead → Circuit Breaker 순서로 감싸 호출되므로 캐시 적중은 두 통계에 포함되지 않고,
+ * Bulkhead 거절은 Circuit Breaker 실패로 기록되지 않습니다.</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+@Slf4j
+public class StaleableLookupCache<K, V> {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Ticker ticker;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final Cache<K, Entry<V>> cache;
+    private final Counter staleCounter;
+
+    /**
+     * Bulkhead 거절 수 (bulkhead가 없으면 null)
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * @param name           캐시 이름 (메트릭 태그 cache=name)
+     * @param settings       TTL/크기 설정
+     * @param circuitBreaker 로더 호출에 적용할 Circuit Breaker
+     * @param meterRegistry  메트릭 레지스트리
+     */
+    public StaleableLookupCache(String name, GrpcCacheSettings settings, CircuitBreaker circuitBreaker,
+                                MeterRegistry meterRegistry) {
+        this(name, settings, circuitBreaker, null, meterRegistry, Ticker.systemTicker());
+    }
+
+    /**
+     * @param name           캐시 이름 (메트릭 태그 cache=name)
+     * @param settings       TTL/크기 설정
+     * @param circuitBreaker 로더 호출에 적용할 Circuit Breaker
+     * @param bulkhead       로더 동시 호출 수 제한 (null이면 제한 없음)
+     * @param meterRegistry  메트릭 레지스트리
+     */
+    public StaleableLookupCache(String name, GrpcCacheSettings settings, CircuitBreaker circuitBreaker,
+                                Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        this(name, settings, circuitBreaker, bulkhead, meterRegistry, Ticker.systemTicker());
+    }
+
+    StaleableLookupCache(String name, GrpcCacheSettings settings, CircuitBreaker circuitBreaker,
+                         Bulkhead bulkhead, MeterRegistry meterRegistry, Ticker ticker) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.ticker = ticker;
+        this.ttlNanos = settings.getTtl().toNanos();
+        this.negativeTtlNanos = settings.getNegativeTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(settings.getTtl().plus(settings.getMaxStale()))
+                .maximumSize(settings.getMaximumSize())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        this.staleCounter = Counter.builder("grpc.client.cache.stale")
+                .description("Lookups answered with an expired entry because the dependency was unavailable")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.rejectedCounter = bulkhead == null ? null : Counter.builder("grpc.client.bulkhead.rejected")
+                .description("Calls rejected because the dependency bulkhead was full")
+                .tag("caller", name)
+                .tag("bulkhead", bulkhead.getName())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료되었으면 로더 호출
+     *
+     * @param key    키
+     * @param loader 원격 조회 (없으면 empty)
+     * @return 조회 결과 (없으면 empty)
+     * @throws StatusRuntimeException   원격 호출 실패이고 stale 값이 없는 경우
+     * @throws CallNotPermittedException Circuit Breaker Open이고 stale 값이 없는 경우
+     * @throws BulkheadFullException     동시 호출 수 초과이고 stale 값이 없는 경우
+     */
+    public Optional<V> get(K key, Supplier<Optional<V>> loader) {
+        long now = ticker.read();
+        Entry<V> entry = cache.getIfPresent(key);
+        if (entry != null && entry.isFresh(now)) {
+            return entry.value;
+        }
+
+        if (entry != null && isCircuitOpen()) {
+            staleCounter.increment();
+            return entry.value;
+        }
+
+        try {
+            Optional<V> value = load(loader);
+            put(key, value);
+            return value;
+        } catch (StatusRuntimeException | CallNotPermittedException | BulkheadFullException e) {
+            if (e instanceof BulkheadFullException) {
+                rejectedCounter.increment();
+            }
+            if (entry == null) {
+                throw e;
+            }
+            log.debug("Serving stale {} entry after lookup failure: key={}, error={}", name, key, e.toString());
+            staleCounter.increment();
+            return entry.value;
+        }
+    }
+
+    /**
+     * 조회 결과 저장 (배치 조회 결과 반영 등)
+     */
+    public void put(K key, Optional<V> value) {
+        long ttl = value.isPresent() ? ttlNanos : negativeTtlNanos;
+        cache.put(key, new Entry<>(value, ticker.read() + ttl));
+    }
+
+    /**
+     * 만료되지 않은 항목의 존재 여부 (원격 호출 없음)
+     *
+     * @return 캐시된 결과가 있으면 값 존재 여부, 없거나 만료되었으면 empty
+     */
+    public Optional<Boolean> presenceIfFresh(K key) {
+        Entry<V> entry = cache.getIfPresent(key);
+        if (entry == null || !entry.isFresh(ticker.read())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value.isPresent());
+    }
+
+    /**
+     * 항목 무효화 (변경/삭제 이벤트 수신 시)
+     */
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Optional<V> load(Supplier<Optional<V>> loader) {
+        Supplier<Optional<V>> protectedLoader = CircuitBreaker.decorateSupplier(circuitBreaker, loader);
+        return bulkhead != null ? bulkhead.executeSupplier(protectedLoader) : protectedLoader.get();
+    }
+
+    private boolean isCircuitOpen() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * 캐시 항목 (만료 시각 포함)
+     */
+    private static final class Entry<V> {
+
+        private final Optional<V> value;
+        private final long freshUntilNanos;
+
+        private Entry(Optional<V> value, long freshUntilNanos) {
+            this.value = value;
+            this.freshUntilNanos = freshUntilNanos;
+        }
+
+        private boolean isFresh(long nowNanos) {
+            return nowNanos - freshUntilNanos < 0;
+        }
+    }
+}
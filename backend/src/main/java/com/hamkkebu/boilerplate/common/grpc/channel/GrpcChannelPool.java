@@ -0,0 +1,303 @@
+package com.hamkkebu.boilerplate.common.grpc.channel;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ChannelCredentials;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.NameResolverRegistry;
+import io.grpc.Status;
+import io.grpc.TlsChannelCredentials;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.nameresolver.StaticNameResolverProvider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 내부 gRPC 채널 풀
+ *
+ * <p>서비스 하나에 ManagedChannel을 poolSize개 만들고, 호출마다 round-robin으로 여유가 있는 채널을 고릅니다.
+ * 채널마다 별도 HTTP/2 연결을 사용하므로 연결 하나의 동시 스트림 한도에 막히지 않고,
+ * 각 채널은 round_robin 정책으로 resolve된 모든 pod에 subchannel을 만들어 분산합니다.</p>
+ *
+ * <p>채널당 동시 호출 수를 제한하며, 모든 채널이 가득 차면 서버로 보내지 않고 RESOURCE_EXHAUSTED로 즉시 실패합니다.</p>
+ *
+ * <p>메트릭:</p>
+ * <ul>
+ *   <li>grpc.client.pool.in_flight: 채널별 진행 중인 호출 수</li>
+ *   <li>grpc.client.pool.ready_channels: READY 상태 채널 수</li>
+ *   <li>grpc.client.pool.rejected: 여유 채널이 없어 거절된 호출 수</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * GrpcChannelPool pool = GrpcChannelPool.create("user-service", GrpcChannelPoolSettings.builder()
+ *         .target("dns:///user-service:9090")
+ *         .build(), meterRegistry);
+ *
+ * UserServiceGrpc.UserServiceStub stub = UserServiceGrpc.newStub(pool);
+ * </pre>
+ *
+ * <p>static:// 주소는 grpc-spring-boot-starter의 StaticNameResolverProvider로 해석합니다.
+ * 스타터는 이 resolver를 빈 초기화 중에 등록하므로, 풀 빈이 먼저 만들어져도 해석되도록
+ * {@link #create}에서 기본 NameResolverRegistry에 직접 등록합니다.</p>
+ */
+@Slf4j
+public class GrpcChannelPool extends Channel implements AutoCloseable {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final String STATIC_TARGET_PREFIX = "static://";
+    private static final AtomicBoolean STATIC_RESOLVER_REGISTERED = new AtomicBoolean();
+
+    private final String service;
+    private final PooledChannel[] channels;
+    private final int maxInFlightPerChannel;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter rejected;
+
+    /**
+     * @param service               서비스 이름 (메트릭 태그)
+     * @param poolSize              채널 수
+     * @param maxInFlightPerChannel 채널당 동시 호출 수 상한
+     * @param channelFactory        채널 번호 → ManagedChannel
+     * @param meterRegistry         메트릭 레지스트리
+     */
+    public GrpcChannelPool(String service, int poolSize, int maxInFlightPerChannel,
+                           IntFunction<ManagedChannel> channelFactory, MeterRegistry meterRegistry) {
+        if (poolSize < 1 || maxInFlightPerChannel < 1) {
+            throw new IllegalArgumentException("poolSize and maxInFlightPerChannel must be positive");
+        }
+        this.service = service;
+        this.maxInFlightPerChannel = maxInFlightPerChannel;
+        this.channels = new PooledChannel[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            channels[i] = new PooledChannel(channelFactory.apply(i));
+            Gauge.builder("grpc.client.pool.in_flight", channels[i].inFlight, AtomicInteger::get)
+                    .description("In-flight calls per pooled channel")
+                    .tag("service", service)
+                    .tag("channel", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        Gauge.builder("grpc.client.pool.ready_channels", this, GrpcChannelPool::readyChannels)
+                .description("Pooled channels in READY state")
+                .tag("service", service)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("grpc.client.pool.rejected")
+                .description("Calls rejected because every pooled channel was at its in-flight limit")
+                .tag("service", service)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 설정으로 풀 생성 (채널은 첫 호출 시 연결)
+     */
+    public static GrpcChannelPool create(String service, GrpcChannelPoolSettings settings, MeterRegistry meterRegistry) {
+        ChannelCredentials credentials = settings.isPlaintext()
+                ? InsecureChannelCredentials.create()
+                : TlsChannelCredentials.create();
+        registerStaticNameResolver(settings.getTarget());
+        return new GrpcChannelPool(service, settings.getPoolSize(), settings.getMaxInFlightPerChannel(),
+                index -> Grpc.newChannelBuilder(settings.getTarget(), credentials)
+                        .defaultLoadBalancingPolicy(settings.getLoadBalancingPolicy())
+                        .keepAliveTime(settings.getKeepAliveTime().toNanos(), TimeUnit.NANOSECONDS)
+                        .keepAliveTimeout(settings.getKeepAliveTimeout().toNanos(), TimeUnit.NANOSECONDS)
+                        .build(),
+                meterRegistry);
+    }
+
+    /**
+     * static:// 대상이면 StaticNameResolverProvider를 기본 레지스트리에 한 번 등록
+     *
+     * <p>스타터의 name resolver 등록 빈보다 풀 빈이 먼저 생성되는 경우에도 채널 생성이 실패하지 않도록 합니다.
+     * 같은 scheme의 provider가 중복 등록되어도 우선순위가 같아 해석 결과는 동일합니다.</p>
+     */
+    private static void registerStaticNameResolver(String target) {
+        if (target.startsWith(STATIC_TARGET_PREFIX) && STATIC_RESOLVER_REGISTERED.compareAndSet(false, true)) {
+            NameResolverRegistry.getDefaultRegistry().register(new StaticNameResolverProvider());
+        }
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions) {
+        return new PooledCall<>(method, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return channels[0].channel.authority();
+    }
+
+    /**
+     * 채널별 진행 중인 호출 수
+     */
+    public int inFlight(int channelIndex) {
+        return channels[channelIndex].inFlight.get();
+    }
+
+    public int size() {
+        return channels.length;
+    }
+
+    @Override
+    public void close() {
+        for (PooledChannel pooled : channels) {
+            pooled.channel.shutdown();
+        }
+        for (PooledChannel pooled : channels) {
+            try {
+                if (!pooled.channel.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    pooled.channel.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pooled.channel.shutdownNow();
+            }
+        }
+    }
+
+    private double readyChannels() {
+        int ready = 0;
+        for (PooledChannel pooled : channels) {
+            if (pooled.channel.getState(false) == ConnectivityState.READY) {
+                ready++;
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * round-robin 시작 위치부터 여유가 있는 채널 선택 (없으면 null)
+     */
+    private PooledChannel acquire() {
+        int start = Math.floorMod(next.getAndIncrement(), channels.length);
+        for (int i = 0; i < channels.length; i++) {
+            PooledChannel candidate = channels[(start + i) % channels.length];
+            if (candidate.tryAcquire(maxInFlightPerChannel)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 채널과 진행 중인 호출 수
+     */
+    private static final class PooledChannel {
+
+        private final ManagedChannel channel;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private PooledChannel(ManagedChannel channel) {
+            this.channel = channel;
+        }
+
+        private boolean tryAcquire(int limit) {
+            int current;
+            do {
+                current = inFlight.get();
+                if (current >= limit) {
+                    return false;
+                }
+            } while (!inFlight.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void release() {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * start 시점에 채널을 고르고, 호출이 끝나면(onClose) 자리를 반납하는 ClientCall
+     */
+    private final class PooledCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+        private final MethodDescriptor<ReqT, RespT> method;
+        private final CallOptions callOptions;
+        private ClientCall<ReqT, RespT> delegate;
+
+        private PooledCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions) {
+            this.method = method;
+            this.callOptions = callOptions;
+        }
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            PooledChannel pooled = acquire();
+            if (pooled == null) {
+                rejected.increment();
+                log.debug("gRPC channel pool saturated: service={}, method={}", service, method.getFullMethodName());
+                responseListener.onClose(Status.RESOURCE_EXHAUSTED
+                        .withDescription("All pooled channels to " + service + " are at their in-flight limit"),
+                        new Metadata());
+                return;
+            }
+
+            delegate = pooled.channel.newCall(method, callOptions);
+            try {
+                delegate.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        pooled.release();
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            } catch (RuntimeException e) {
+                pooled.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void request(int numMessages) {
+            if (delegate != null) {
+                delegate.request(numMessages);
+            }
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+            if (delegate != null) {
+                delegate.cancel(message, cause);
+            }
+        }
+
+        @Override
+        public void halfClose() {
+            if (delegate != null) {
+                delegate.halfClose();
+            }
+        }
+
+        @Override
+        public void sendMessage(ReqT message) {
+            if (delegate != null) {
+                delegate.sendMessage(message);
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate != null && delegate.isReady();
+        }
+
+        @Override
+        public void setMessageCompression(boolean enabled) {
+            if (delegate != null) {
+                delegate.setMessageCompression(enabled);
+            }
+        }
+    }
+}
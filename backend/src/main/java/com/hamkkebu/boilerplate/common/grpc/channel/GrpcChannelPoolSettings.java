@@ -0,0 +1,49 @@
+package com.hamkkebu.boilerplate.common.grpc.channel;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * gRPC 채널 풀 설정
+ *
+ * <ul>
+ *   <li>target: {@code dns:///user-service:9090} (DNS A 레코드 전체) 또는 {@code static://host1:9090,host2:9090}</li>
+ *   <li>채널마다 별도 HTTP/2 연결을 사용하므로 poolSize만큼 연결당 동시 스트림 한도(MAX_CONCURRENT_STREAMS)가 늘어남</li>
+ *   <li>채널 안에서는 loadBalancingPolicy(기본 round_robin)로 resolve된 주소 전체에 분산</li>
+ * </ul>
+ */
+@Getter
+@Builder
+public class GrpcChannelPoolSettings {
+
+    /**
+     * 대상 주소 (grpc.client.*.address와 같은 형식)
+     */
+    private final String target;
+
+    @Builder.Default
+    private final int poolSize = 4;
+
+    /**
+     * 채널당 동시 호출 수 상한 (모든 채널이 가득 차면 RESOURCE_EXHAUSTED)
+     */
+    @Builder.Default
+    private final int maxInFlightPerChannel = 100;
+
+    @Builder.Default
+    private final String loadBalancingPolicy = "round_robin";
+
+    /**
+     * plaintext 사용 여부 (개발 환경: true, 프로덕션: TLS)
+     */
+    @Builder.Default
+    private final boolean plaintext = true;
+
+    @Builder.Default
+    private final Duration keepAliveTime = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final Duration keepAliveTimeout = Duration.ofSeconds(10);
+}
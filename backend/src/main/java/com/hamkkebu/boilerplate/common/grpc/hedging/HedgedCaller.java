@@ -0,0 +1,359 @@
+package com.hamkkebu.boilerplate.common.grpc.hedging;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 멱등 조회 gRPC 호출의 hedging 및 적응형 timeout 실행기
+ *
+ * <p>첫 요청이 최근 지연 시간의 p95(기본) 안에 끝나지 않으면 같은 요청을 한 번 더 보내고,
+ * 먼저 성공한 응답을 사용하며 나머지 요청은 취소합니다. 느린 replica 하나가 p99를 끌어올리는 것을 막습니다.</p>
+ *
+ * <p>timeout은 고정값 대신 최근 지연 시간의 p99.9 x 2(기본)를 사용하고, 두 시도가 같은 deadline을 공유합니다.
+ * 지연 분포는 메서드별로 관리합니다. DEADLINE_EXCEEDED로 끝난 시도는 timeout만큼 걸린 것으로 기록하므로,
+ * 실제 지연이 학습된 timeout을 넘으면 timeout이 다시 늘어납니다. (maxTimeout까지)</p>
+ *
+ * <p>주의:</p>
+ * <ul>
+ *   <li>GetUser, GetUsers, GetTransaction처럼 부수 효과가 없는 조회에만 사용</li>
+ *   <li>hedge 요청 수는 전체 요청의 maxHedgeRatio로 제한</li>
+ *   <li>NOT_FOUND, INVALID_ARGUMENT 등 재시도해도 같은 결과인 오류는 다른 시도를 기다리지 않고 즉시 실패</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * HedgedCaller hedgedCaller = new HedgedCaller("user-service", HedgingPolicy.builder().build(), meterRegistry);
+ *
+ * CompletableFuture{@literal <}GetUserResponse{@literal >} response = hedgedCaller.call("GetUser",
+ *         timeout -{@literal >} userFutureStub.withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS).getUser(request));
+ * </pre>
+ */
+@Slf4j
+public class HedgedCaller implements AutoCloseable {
+
+    /**
+     * 다른 시도가 성공할 수 있는 오류 (그 외 오류는 즉시 실패)
+     */
+    private static final Set<Status.Code> RETRYABLE_CODES = EnumSet.of(
+            Status.Code.UNAVAILABLE,
+            Status.Code.DEADLINE_EXCEEDED,
+            Status.Code.RESOURCE_EXHAUSTED,
+            Status.Code.ABORTED);
+
+    private final String service;
+    private final HedgingPolicy policy;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, MethodState> methods = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+
+    /**
+     * @param service       대상 서비스 이름 (메트릭 태그)
+     * @param policy        hedging/timeout 정책
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public HedgedCaller(String service, HedgingPolicy policy, MeterRegistry meterRegistry) {
+        this.service = service;
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grpc-hedging-" + service);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * hedging 적용 호출
+     *
+     * @param method  메서드 이름 (지연 분포/메트릭 구분)
+     * @param attempt 남은 timeout을 받아 gRPC future stub 호출을 시작하는 함수 (시도마다 호출)
+     * @return 먼저 성공한 응답, 모든 시도가 실패하면 마지막 오류로 완료
+     */
+    public <T> CompletableFuture<T> call(String method, Function<Duration, ListenableFuture<T>> attempt) {
+        MethodState state = methods.computeIfAbsent(method, this::newMethodState);
+        long timeoutNanos = timeoutNanos(state.tracker);
+        long hedgeDelayNanos = hedgeDelayNanos(state.tracker);
+
+        requestCount.incrementAndGet();
+        boolean hedgeScheduled = hedgeDelayNanos < timeoutNanos;
+        HedgedCall<T> call = new HedgedCall<>(state, attempt, timeoutNanos, hedgeScheduled);
+        call.start(false);
+        if (hedgeScheduled) {
+            scheduler.schedule(call::hedge, hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        }
+        return call.result;
+    }
+
+    /**
+     * hedging 적용 호출 후 결과 대기 (blocking stub 대신 요청 스레드에서 사용)
+     *
+     * @param method  메서드 이름 (지연 분포/메트릭 구분)
+     * @param attempt 남은 timeout을 받아 gRPC future stub 호출을 시작하는 함수 (시도마다 호출)
+     * @return 먼저 성공한 응답
+     * @throws StatusRuntimeException 모든 시도가 실패한 경우 (blocking stub과 같은 예외)
+     */
+    public <T> T callBlocking(String method, Function<Duration, ListenableFuture<T>> attempt) {
+        try {
+            return call(method, attempt).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw Status.fromThrowable(cause).asRuntimeException();
+        }
+    }
+
+    /**
+     * 현재 적용 중인 timeout
+     */
+    public Duration currentTimeout(String method) {
+        MethodState state = methods.get(method);
+        return Duration.ofNanos(state != null ? timeoutNanos(state.tracker) : policy.getMaxTimeout().toNanos());
+    }
+
+    /**
+     * 현재 적용 중인 hedge 지연
+     */
+    public Duration currentHedgeDelay(String method) {
+        MethodState state = methods.get(method);
+        return Duration.ofNanos(state != null ? hedgeDelayNanos(state.tracker) : policy.getMaxHedgeDelay().toNanos());
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private long timeoutNanos(LatencyTracker tracker) {
+        if (tracker.sampleCount() < policy.getMinSamples()) {
+            return policy.getMaxTimeout().toNanos();
+        }
+        long adaptive = (long) (tracker.quantile(policy.getTimeoutQuantile()) * policy.getTimeoutMultiplier());
+        return clamp(adaptive, policy.getMinTimeout(), policy.getMaxTimeout());
+    }
+
+    private long hedgeDelayNanos(LatencyTracker tracker) {
+        if (tracker.sampleCount() < policy.getMinSamples()) {
+            return policy.getMaxHedgeDelay().toNanos();
+        }
+        return clamp(tracker.quantile(policy.getHedgeQuantile()), policy.getMinHedgeDelay(), policy.getMaxHedgeDelay());
+    }
+
+    private static long clamp(long nanos, Duration min, Duration max) {
+        return Math.max(min.toNanos(), Math.min(nanos, max.toNanos()));
+    }
+
+    /**
+     * hedge 예산 확인 (전체 요청 대비 hedge 비율)
+     */
+    private boolean tryAcquireHedge() {
+        long hedges = hedgeCount.get();
+        if (hedges + 1 > requestCount.get() * policy.getMaxHedgeRatio()) {
+            return false;
+        }
+        return hedgeCount.compareAndSet(hedges, hedges + 1);
+    }
+
+    private MethodState newMethodState(String method) {
+        return new MethodState(
+                new LatencyTracker(policy.getSampleCapacity(), policy.getRefreshInterval().toNanos()),
+                counter("grpc.client.hedge.sent", "Hedge attempts sent", method),
+                counter("grpc.client.hedge.won", "Calls answered by the hedge attempt", method),
+                counter("grpc.client.hedge.skipped", "Hedges skipped because the hedge budget was exhausted", method));
+    }
+
+    private Counter counter(String name, String description, String method) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("service", service)
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메서드별 지연 분포와 메트릭
+     */
+    private static final class MethodState {
+
+        private final LatencyTracker tracker;
+        private final Counter sent;
+        private final Counter won;
+        private final Counter skipped;
+
+        private MethodState(LatencyTracker tracker, Counter sent, Counter won, Counter skipped) {
+            this.tracker = tracker;
+            this.sent = sent;
+            this.won = won;
+            this.skipped = skipped;
+        }
+    }
+
+    /**
+     * 호출 1건 (최대 2회 시도)
+     */
+    private final class HedgedCall<T> {
+
+        private final MethodState state;
+        private final Function<Duration, ListenableFuture<T>> attempt;
+        private final long timeoutNanos;
+        private final long deadlineNanos;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private final List<ListenableFuture<T>> attempts = new ArrayList<>(2);
+        private int outstanding;
+        private boolean hedgePending;
+        private Throwable lastError;
+
+        private HedgedCall(MethodState state, Function<Duration, ListenableFuture<T>> attempt, long timeoutNanos,
+                           boolean hedgePending) {
+            this.state = state;
+            this.attempt = attempt;
+            this.timeoutNanos = timeoutNanos;
+            this.deadlineNanos = System.nanoTime() + timeoutNanos;
+            this.hedgePending = hedgePending;
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                hedgePending = false;
+                if (result.isDone()) {
+                    return;
+                }
+            }
+            if (!tryAcquireHedge()) {
+                state.skipped.increment();
+                completeIfExhausted();
+                return;
+            }
+            state.sent.increment();
+            start(true);
+        }
+
+        private void start(boolean isHedge) {
+            long startedAt = System.nanoTime();
+            long remaining = deadlineNanos - startedAt;
+            if (remaining <= 0) {
+                completeIfExhausted();
+                return;
+            }
+
+            ListenableFuture<T> future;
+            try {
+                future = attempt.apply(Duration.ofNanos(remaining));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            boolean alreadyDone;
+            synchronized (this) {
+                attempts.add(future);
+                outstanding++;
+                alreadyDone = result.isDone();
+            }
+            future.addListener(() -> onAttemptDone(future, startedAt, isHedge), Runnable::run);
+            if (alreadyDone) {
+                // hedge()의 확인 이후 다른 시도가 끝나 cancelOthers가 이 시도를 보지 못한 경우
+                future.cancel(true);
+            }
+        }
+
+        private void onAttemptDone(ListenableFuture<T> future, long startedAt, boolean isHedge) {
+            T value;
+            try {
+                value = future.get();
+            } catch (CancellationException e) {
+                attemptFinished(null);
+                return;
+            } catch (ExecutionException e) {
+                if (Status.fromThrowable(e.getCause()).getCode() == Status.Code.DEADLINE_EXCEEDED) {
+                    // 성공한 시도만 기록하면 지연이 timeout을 넘은 뒤로 표본이 없어 timeout이 늘어나지 않음
+                    state.tracker.record(Math.max(System.nanoTime() - startedAt, timeoutNanos));
+                }
+                attemptFinished(e.getCause());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                attemptFinished(e);
+                return;
+            }
+
+            state.tracker.record(System.nanoTime() - startedAt);
+            if (result.complete(value)) {
+                if (isHedge) {
+                    state.won.increment();
+                }
+                cancelOthers(future);
+            }
+            attemptFinished(null);
+        }
+
+        private void attemptFinished(Throwable error) {
+            boolean failNow = false;
+            synchronized (this) {
+                outstanding--;
+                if (error != null) {
+                    lastError = error;
+                    boolean retryable = RETRYABLE_CODES.contains(Status.fromThrowable(error).getCode());
+                    failNow = !retryable || (outstanding == 0 && !hedgePending);
+                }
+            }
+            if (failNow && result.completeExceptionally(error)) {
+                cancelOthers(null);
+            }
+        }
+
+        /**
+         * hedge를 보내지 못했고 진행 중인 시도도 없으면 마지막 오류(없으면 DEADLINE_EXCEEDED)로 완료
+         */
+        private void completeIfExhausted() {
+            Throwable error;
+            synchronized (this) {
+                if (outstanding > 0) {
+                    return;
+                }
+                error = lastError;
+            }
+            result.completeExceptionally(error != null ? error : Status.DEADLINE_EXCEEDED
+                    .withDescription("Hedged call exhausted its deadline")
+                    .asRuntimeException());
+        }
+
+        private void cancelOthers(ListenableFuture<T> winner) {
+            List<ListenableFuture<T>> snapshot;
+            synchronized (this) {
+                hedgePending = false;
+                snapshot = new ArrayList<>(attempts);
+            }
+            for (ListenableFuture<T> other : snapshot) {
+                if (other != winner) {
+                    other.cancel(true);
+                }
+            }
+        }
+    }
+}
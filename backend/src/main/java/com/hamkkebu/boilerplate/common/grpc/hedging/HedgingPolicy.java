@@ -0,0 +1,63 @@
+package com.hamkkebu.boilerplate.common.grpc.hedging;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Hedging / 적응형 timeout 정책
+ *
+ * <ul>
+ *   <li>hedge 지연: 최근 지연 시간의 hedgeQuantile 분위수 (minHedgeDelay ~ maxHedgeDelay)</li>
+ *   <li>timeout: 최근 지연 시간의 timeoutQuantile 분위수 x timeoutMultiplier (minTimeout ~ maxTimeout)</li>
+ *   <li>표본이 minSamples 미만이면 hedge 지연은 maxHedgeDelay, timeout은 maxTimeout 사용</li>
+ *   <li>hedge 요청은 전체 요청의 maxHedgeRatio 이하로 제한 (장애 시 부하 증폭 방지)</li>
+ * </ul>
+ */
+@Getter
+@Builder
+public class HedgingPolicy {
+
+    @Builder.Default
+    private final double hedgeQuantile = 0.95;
+
+    @Builder.Default
+    private final Duration minHedgeDelay = Duration.ofMillis(5);
+
+    @Builder.Default
+    private final Duration maxHedgeDelay = Duration.ofMillis(500);
+
+    @Builder.Default
+    private final double timeoutQuantile = 0.999;
+
+    @Builder.Default
+    private final double timeoutMultiplier = 2.0;
+
+    @Builder.Default
+    private final Duration minTimeout = Duration.ofMillis(200);
+
+    /**
+     * timeout 상한 (기존 timelimiter 고정값 3초)
+     */
+    @Builder.Default
+    private final Duration maxTimeout = Duration.ofSeconds(3);
+
+    @Builder.Default
+    private final int minSamples = 100;
+
+    @Builder.Default
+    private final double maxHedgeRatio = 0.1;
+
+    /**
+     * 지연 시간 표본 수 (메서드별)
+     */
+    @Builder.Default
+    private final int sampleCapacity = 1024;
+
+    /**
+     * 분위수 재계산 간격
+     */
+    @Builder.Default
+    private final Duration refreshInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,97 @@
+package com.hamkkebu.boilerplate.common.grpc.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 호출 지연 시간 분포 (메서드별)
+ *
+ * <p>최근 capacity개의 지연 시간을 링 버퍼에 기록하고, 분위수는 refreshInterval마다 한 번만 정렬하여 계산합니다.
+ * 기록은 잠금 없이 수행되며, 분위수 조회는 대부분 캐시된 값을 반환합니다.</p>
+ */
+public class LatencyTracker {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final long refreshIntervalNanos;
+    private final LongSupplier nanoTime;
+
+    private volatile Snapshot snapshot = new Snapshot(new long[0], Long.MIN_VALUE);
+
+    /**
+     * @param capacity          보관할 최근 표본 수
+     * @param refreshIntervalNanos 분위수 재계산 간격
+     */
+    public LatencyTracker(int capacity, long refreshIntervalNanos) {
+        this(capacity, refreshIntervalNanos, System::nanoTime);
+    }
+
+    LatencyTracker(int capacity, long refreshIntervalNanos, LongSupplier nanoTime) {
+        this.samples = new AtomicLongArray(capacity);
+        this.refreshIntervalNanos = refreshIntervalNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 지연 시간 기록
+     */
+    public void record(long latencyNanos) {
+        long index = recorded.getAndIncrement();
+        samples.set((int) (index % samples.length()), latencyNanos);
+    }
+
+    /**
+     * 기록된 표본 수 (capacity 이상이면 capacity)
+     */
+    public int sampleCount() {
+        return (int) Math.min(recorded.get(), samples.length());
+    }
+
+    /**
+     * 분위수 (표본이 없으면 -1)
+     *
+     * @param quantile 0.0 ~ 1.0 (예: 0.95)
+     */
+    public long quantile(double quantile) {
+        long[] sorted = currentSnapshot().sorted;
+        if (sorted.length == 0) {
+            return -1;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private Snapshot currentSnapshot() {
+        long now = nanoTime.getAsLong();
+        Snapshot current = snapshot;
+        if (current.createdAtNanos != Long.MIN_VALUE && now - current.createdAtNanos < refreshIntervalNanos) {
+            return current;
+        }
+
+        int count = sampleCount();
+        long[] copy = new long[count];
+        for (int i = 0; i < count; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        Snapshot refreshed = new Snapshot(copy, now);
+        snapshot = refreshed;
+        return refreshed;
+    }
+
+    /**
+     * 정렬된 표본 (refreshInterval 동안 재사용)
+     */
+    private static final class Snapshot {
+
+        private final long[] sorted;
+        private final long createdAtNanos;
+
+        private Snapshot(long[] sorted, long createdAtNanos) {
+            this.sorted = sorted;
+            this.createdAtNanos = createdAtNanos;
+        }
+    }
+}
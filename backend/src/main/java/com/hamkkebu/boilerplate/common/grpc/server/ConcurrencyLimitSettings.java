@@ -0,0 +1,51 @@
+package com.hamkkebu.boilerplate.common.grpc.server;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * gradient 동시성 제한 설정
+ *
+ * <ul>
+ *   <li>limit은 initialLimit에서 시작해 minLimit ~ maxLimit 사이에서 조정</li>
+ *   <li>windowSize개 표본의 평균 지연(short RTT)을 장기 지연 이동 평균(long RTT)과 비교하여 gradient 계산</li>
+ *   <li>short RTT가 long RTT x rttTolerance보다 커지면 limit 감소, 그 이하이면 sqrt(limit)만큼 증가</li>
+ * </ul>
+ */
+@Getter
+@Builder
+public class ConcurrencyLimitSettings {
+
+    @Builder.Default
+    private final int initialLimit = 20;
+
+    @Builder.Default
+    private final int minLimit = 5;
+
+    @Builder.Default
+    private final int maxLimit = 200;
+
+    /**
+     * 새 limit 반영 비율 (0~1, 클수록 빠르게 변함)
+     */
+    @Builder.Default
+    private final double smoothing = 0.2;
+
+    /**
+     * 허용하는 지연 증가 배수 (long RTT 대비)
+     */
+    @Builder.Default
+    private final double rttTolerance = 1.5;
+
+    /**
+     * limit 재계산 단위 (표본 수)
+     */
+    @Builder.Default
+    private final int windowSize = 20;
+
+    /**
+     * long RTT 지수 이동 평균 기간 (window 수)
+     */
+    @Builder.Default
+    private final int longWindow = 600;
+}
@@ -0,0 +1,123 @@
+package com.hamkkebu.boilerplate.common.grpc.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 gradient 기반 적응형 동시성 제한 (Netflix concurrency-limits Gradient2 방식)
+ *
+ * <p>처리 중인 요청 수가 limit 이상이면 새 요청을 거절합니다.
+ * limit은 최근 지연(short RTT)과 장기 평균 지연(long RTT)의 비율로 조정됩니다.</p>
+ *
+ * <pre>
+ * gradient = clamp(rttTolerance x longRtt / shortRtt, 0.5, 1.0)
+ * newLimit = limit x gradient + sqrt(limit)
+ * limit    = limit x (1 - smoothing) + newLimit x smoothing
+ * </pre>
+ *
+ * <ul>
+ *   <li>지연이 늘면(큐잉 시작) gradient {@literal <} 1이 되어 limit이 줄고, 스레드 풀이 포화되기 전에 부하를 거절</li>
+ *   <li>지연이 안정적이면 sqrt(limit)만큼 여유를 두고 limit이 늘어남</li>
+ *   <li>처리 중인 요청이 limit의 절반도 안 되면 지연과 무관하므로 limit을 바꾸지 않음</li>
+ *   <li>부하가 끝난 뒤 long RTT가 short RTT의 2배를 넘으면 long RTT를 빠르게 낮춰 기준을 회복</li>
+ * </ul>
+ */
+public class GradientConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final ConcurrencyLimitSettings settings;
+    private final double longRttAlpha;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    /**
+     * 현재 window 누적값 (this로 보호)
+     */
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double longRtt;
+
+    /**
+     * 소수점까지 유지하는 limit 추정값 (작은 limit에서도 조금씩 증가하도록)
+     */
+    private double estimatedLimit;
+
+    public GradientConcurrencyLimit(ConcurrencyLimitSettings settings) {
+        this.settings = settings;
+        this.longRttAlpha = 2.0 / (settings.getLongWindow() + 1);
+        this.estimatedLimit = clamp(settings.getInitialLimit());
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * 처리 자리 확보
+     *
+     * @return limit에 도달했으면 false (요청 거절)
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 처리 완료
+     *
+     * @param rttNanos 처리 시간
+     * @param sample   limit 계산에 반영할지 여부 (클라이언트 취소 등은 false)
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (sample && rttNanos > 0) {
+            onSample(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        windowRttSum += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+        if (++windowSamples < settings.getWindowSize()) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        longRtt = longRtt == 0 ? shortRtt : longRtt * (1 - longRttAlpha) + shortRtt * longRttAlpha;
+        if (longRtt / shortRtt > 2) {
+            longRtt *= LONG_RTT_DECAY;
+        }
+
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, settings.getRttTolerance() * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - settings.getSmoothing()) + newLimit * settings.getSmoothing();
+        estimatedLimit = clamp(newLimit);
+        limit = (int) estimatedLimit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(settings.getMinLimit(), Math.min(value, settings.getMaxLimit()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.hamkkebu.boilerplate.common.grpc.server;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * gRPC 서버 메서드별 적응형 동시성 제한 인터셉터
+ *
+ * <p>메서드마다 {@link GradientConcurrencyLimit}을 두고, limit을 넘는 요청은 서비스 코드를 실행하지 않고
+ * RESOURCE_EXHAUSTED로 즉시 거절합니다. 요청이 executor 큐에 쌓여 모든 요청이 느려지기 전에 초과분만 빠르게 실패시킵니다.</p>
+ *
+ * <ul>
+ *   <li>unary 메서드에만 적용 (스트리밍 호출은 처리 시간이 부하와 무관하게 길어 gradient 계산을 왜곡)</li>
+ *   <li>클라이언트 취소(CANCELLED)는 자리만 반납하고 지연 표본에서 제외</li>
+ *   <li>메트릭: grpc.server.limit.current(현재 limit), grpc.server.limit.rejected(거절 수)</li>
+ * </ul>
+ */
+@Slf4j
+public class GrpcServerConcurrencyLimitInterceptor implements ServerInterceptor {
+
+    private final ConcurrencyLimitSettings settings;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, MethodLimit> limits = new ConcurrentHashMap<>();
+
+    public GrpcServerConcurrencyLimitInterceptor(ConcurrencyLimitSettings settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        if (method.getType() != MethodDescriptor.MethodType.UNARY) {
+            return next.startCall(call, headers);
+        }
+
+        MethodLimit methodLimit = limits.computeIfAbsent(method.getFullMethodName(), name -> newMethodLimit(method));
+        if (!methodLimit.limit.tryAcquire()) {
+            methodLimit.rejected.increment();
+            log.debug("gRPC call rejected by concurrency limit: method={}, limit={}",
+                    method.getFullMethodName(), methodLimit.limit.getLimit());
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription("Concurrency limit exceeded"), new Metadata());
+            return new ServerCall.Listener<ReqT>() {
+            };
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        ServerCall<ReqT, RespT> limitedCall = new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                if (released.compareAndSet(false, true)) {
+                    methodLimit.limit.release(System.nanoTime() - startedAt, status.getCode() != Status.Code.CANCELLED);
+                }
+                super.close(status, trailers);
+            }
+        };
+
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(limitedCall, headers);
+        } catch (RuntimeException e) {
+            if (released.compareAndSet(false, true)) {
+                methodLimit.limit.release(0, false);
+            }
+            throw e;
+        }
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            @Override
+            public void onCancel() {
+                if (released.compareAndSet(false, true)) {
+                    methodLimit.limit.release(0, false);
+                }
+                super.onCancel();
+            }
+        };
+    }
+
+    /**
+     * 메서드의 현재 limit (메서드가 아직 호출되지 않았으면 initialLimit)
+     */
+    public int currentLimit(String fullMethodName) {
+        MethodLimit methodLimit = limits.get(fullMethodName);
+        return methodLimit != null ? methodLimit.limit.getLimit() : settings.getInitialLimit();
+    }
+
+    private MethodLimit newMethodLimit(MethodDescriptor<?, ?> method) {
+        String service = method.getServiceName();
+        String bareMethod = MethodDescriptor.extractBareMethodName(method.getFullMethodName());
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(settings);
+        Gauge.builder("grpc.server.limit.current", limit, GradientConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("service", service)
+                .tag("method", bareMethod)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("grpc.server.limit.rejected")
+                .description("Calls rejected with RESOURCE_EXHAUSTED by the concurrency limit")
+                .tag("service", service)
+                .tag("method", bareMethod)
+                .register(meterRegistry);
+        return new MethodLimit(limit, rejected);
+    }
+
+    /**
+     * 메서드별 limit과 거절 카운터
+     */
+    private static final class MethodLimit {
+
+        private final GradientConcurrencyLimit limit;
+        private final Counter rejected;
+
+        private MethodLimit(GradientConcurrencyLimit limit, Counter rejected) {
+            this.limit = limit;
+            this.rejected = rejected;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.hamkkebu.boilerplate.common.grpc.server;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * gRPC 서버 메서드별 메트릭 인터셉터
+ *
+ * <ul>
+ *   <li>grpc.server.call.duration: 처리 시간 (service, method, status 태그, percentile histogram)</li>
+ *   <li>grpc.server.message.size: 메시지 크기 바이트 (direction=received|sent)</li>
+ *   <li>grpc.server.calls.in_flight: 처리 중인 호출 수</li>
+ * </ul>
+ *
+ * <p>클라이언트가 취소한 호출은 status=CANCELLED로 기록합니다.</p>
+ *
+ * <p>meter는 메서드별(처리 시간은 메서드 + status별)로 처음 한 번만 등록하고 재사용합니다.</p>
+ */
+public class GrpcServerMetricsInterceptor implements ServerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public GrpcServerMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        MethodMeters methodMeters = meters.computeIfAbsent(method.getFullMethodName(), name -> newMethodMeters(method));
+        CallRecorder recorder = new CallRecorder(methodMeters);
+
+        ServerCall<ReqT, RespT> recordingCall = new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+            @Override
+            public void sendMessage(RespT message) {
+                methodMeters.sent.record(sizeOf(message));
+                super.sendMessage(message);
+            }
+
+            @Override
+            public void close(Status status, Metadata trailers) {
+                recorder.finish(status.getCode());
+                super.close(status, trailers);
+            }
+        };
+
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(recordingCall, headers);
+        } catch (RuntimeException e) {
+            recorder.finish(Status.Code.UNKNOWN);
+            throw e;
+        }
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                methodMeters.received.record(sizeOf(message));
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onCancel() {
+                recorder.finish(Status.Code.CANCELLED);
+                super.onCancel();
+            }
+        };
+    }
+
+    private MethodMeters newMethodMeters(MethodDescriptor<?, ?> method) {
+        String service = method.getServiceName();
+        String bareMethod = MethodDescriptor.extractBareMethodName(method.getFullMethodName());
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder("grpc.server.calls.in_flight", inFlight, AtomicInteger::get)
+                .description("gRPC calls currently being processed")
+                .tag("service", service)
+                .tag("method", bareMethod)
+                .register(meterRegistry);
+        return new MethodMeters(service, bareMethod, inFlight,
+                messageSize(service, bareMethod, "received"),
+                messageSize(service, bareMethod, "sent"));
+    }
+
+    /**
+     * 메서드 + status별 처리 시간 Timer (호출마다 registry를 조회하지 않도록 캐싱)
+     */
+    private Timer callDuration(MethodMeters methodMeters, Status.Code code) {
+        return methodMeters.durations.computeIfAbsent(code, status -> Timer.builder("grpc.server.call.duration")
+                .description("gRPC server call processing time")
+                .tag("service", methodMeters.service)
+                .tag("method", methodMeters.method)
+                .tag("status", status.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary messageSize(String service, String method, String direction) {
+        return DistributionSummary.builder("grpc.server.message.size")
+                .description("Serialized gRPC message size")
+                .baseUnit("bytes")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("direction", direction)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static int sizeOf(Object message) {
+        return message instanceof MessageLite messageLite ? messageLite.getSerializedSize() : 0;
+    }
+
+    /**
+     * 메서드별 메트릭
+     */
+    private static final class MethodMeters {
+
+        private final String service;
+        private final String method;
+        private final AtomicInteger inFlight;
+        private final DistributionSummary received;
+        private final DistributionSummary sent;
+        private final Map<Status.Code, Timer> durations = new ConcurrentHashMap<>();
+
+        private MethodMeters(String service, String method, AtomicInteger inFlight,
+                             DistributionSummary received, DistributionSummary sent) {
+            this.service = service;
+            this.method = method;
+            this.inFlight = inFlight;
+            this.received = received;
+            this.sent = sent;
+        }
+    }
+
+    /**
+     * 호출 1건의 처리 시간/처리 중 수 기록 (close와 onCancel 중 먼저 온 것만 반영)
+     */
+    private final class CallRecorder {
+
+        private final MethodMeters methodMeters;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private CallRecorder(MethodMeters methodMeters) {
+            this.methodMeters = methodMeters;
+            methodMeters.inFlight.incrementAndGet();
+        }
+
+        private void finish(Status.Code code) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            methodMeters.inFlight.decrementAndGet();
+            callDuration(methodMeters, code).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.hamkkebu.boilerplate.common.grpc.transaction;
+
+import com.hamkkebu.boilerplate.grpc.transaction.StreamUserTransactionsRequest;
+import com.hamkkebu.boilerplate.grpc.transaction.Transaction;
+import com.hamkkebu.boilerplate.grpc.transaction.TransactionChunk;
+import com.hamkkebu.boilerplate.grpc.transaction.TransactionServiceGrpc;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * TransactionService 스트리밍 RPC 기본 구현
+ *
+ * <p>StreamUserTransactions를 거래 ID keyset 커서(WHERE id {@literal >} ? ORDER BY id LIMIT ?)로 chunk 단위 조회하여 전송합니다.
+ * OFFSET 페이징과 total_count 계산이 없으므로 전체 이력을 조회해도 chunk당 비용이 일정합니다.</p>
+ *
+ * <p>gRPC flow control을 따릅니다. 클라이언트가 받을 준비가 된 동안(isReady)만 다음 chunk를 조회하므로,
+ * 느린 클라이언트 때문에 서버 메모리에 응답이 쌓이지 않고 DB 커넥션도 chunk 조회 동안만 사용합니다.</p>
+ *
+ * <p>fetchUserTransactions는 이 클래스 내부(this)에서 호출되므로 Spring 프록시를 거치지 않습니다.
+ * 이 메서드에 붙인 {@literal @}Transactional은 무시되어 트랜잭션도, readOnly 기반 replica 라우팅도 적용되지 않습니다.
+ * 트랜잭션이 필요하면 아래처럼 별도 빈의 {@literal @}Transactional(readOnly = true) 메서드에 위임하세요.</p>
+ *
+ * <p>사용 예시 (transaction-service):</p>
+ * <pre>
+ * {@literal @}Service
+ * {@literal @}RequiredArgsConstructor
+ * public class TransactionStreamQueryService {
+ *
+ *     {@literal @}Transactional(readOnly = true)
+ *     public List{@literal <}Transaction{@literal >} findChunk(String userId, long afterTransactionId, int limit) {
+ *         return transactionRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, afterTransactionId, Limit.of(limit))
+ *                 .stream().map(TransactionGrpcMapper::toProto).toList();
+ *     }
+ * }
+ *
+ * {@literal @}GrpcService
+ * {@literal @}RequiredArgsConstructor
+ * public class TransactionGrpcService extends AbstractTransactionStreamingService {
+ *
+ *     private final TransactionStreamQueryService transactionStreamQueryService;
+ *
+ *     {@literal @}Override
+ *     protected List{@literal <}Transaction{@literal >} fetchUserTransactions(String userId, long afterTransactionId, int limit) {
+ *         return transactionStreamQueryService.findChunk(userId, afterTransactionId, limit);
+ *     }
+ *
+ *     // GetTransaction 등 unary RPC는 기존처럼 override
+ * }
+ * </pre>
+ */
+@Slf4j
+public abstract class AbstractTransactionStreamingService extends TransactionServiceGrpc.TransactionServiceImplBase {
+
+    static final int DEFAULT_CHUNK_SIZE = 500;
+    static final int MAX_CHUNK_SIZE = 1000;
+
+    @Override
+    public void streamUserTransactions(StreamUserTransactionsRequest request,
+                                       StreamObserver<TransactionChunk> responseObserver) {
+        if (request.getUserId().isBlank()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("user_id is required")
+                    .asRuntimeException());
+            return;
+        }
+
+        ServerCallStreamObserver<TransactionChunk> call = (ServerCallStreamObserver<TransactionChunk>) responseObserver;
+        ChunkStreamer streamer = new ChunkStreamer(call, request.getUserId(),
+                request.getAfterTransactionId(), chunkSize(request.getChunkSize()));
+
+        // 핸들러는 메서드 반환 전에 등록해야 하며, 반환 직후 첫 onReady에서 전송 시작
+        call.setOnCancelHandler(streamer::cancel);
+        call.setOnReadyHandler(streamer::drain);
+    }
+
+    /**
+     * 사용자 거래 chunk 조회 (서비스별 구현 필요)
+     *
+     * <p>afterTransactionId보다 큰 거래를 ID 오름차순으로 최대 limit건 반환해야 합니다.
+     * limit보다 적게 반환하면 마지막 chunk로 보고 스트림을 종료합니다.</p>
+     *
+     * <p>self-invocation으로 호출되므로 이 메서드의 {@literal @}Transactional은 적용되지 않습니다.
+     * 트랜잭션이 필요한 조회는 별도 빈에 위임해야 합니다.</p>
+     *
+     * @param userId             사용자 ID
+     * @param afterTransactionId 이 ID 이후부터 조회 (처음이면 0)
+     * @param limit              최대 조회 건수
+     * @return 거래 목록 (ID 오름차순)
+     */
+    protected abstract List<Transaction> fetchUserTransactions(String userId, long afterTransactionId, int limit);
+
+    static int chunkSize(int requested) {
+        if (requested <= 0) {
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return Math.min(requested, MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * 한 스트림 호출의 전송 상태
+     *
+     * <p>gRPC는 같은 호출의 콜백(onReady, onCancel)을 순서대로 실행하므로 drain은 동시에 실행되지 않습니다.</p>
+     */
+    private final class ChunkStreamer {
+
+        private final ServerCallStreamObserver<TransactionChunk> call;
+        private final String userId;
+        private final int chunkSize;
+
+        private long cursor;
+        private long sent;
+        private boolean done;
+        private volatile boolean cancelled;
+
+        private ChunkStreamer(ServerCallStreamObserver<TransactionChunk> call, String userId,
+                              long afterTransactionId, int chunkSize) {
+            this.call = call;
+            this.userId = userId;
+            this.cursor = afterTransactionId;
+            this.chunkSize = chunkSize;
+        }
+
+        private void drain() {
+            while (!done && !cancelled && call.isReady()) {
+                List<Transaction> transactions;
+                try {
+                    transactions = fetchUserTransactions(userId, cursor, chunkSize);
+                } catch (RuntimeException e) {
+                    done = true;
+                    log.error("Failed to stream user transactions: userId={}, after={}, error={}",
+                            userId, cursor, e.getMessage(), e);
+                    call.onError(Status.INTERNAL
+                            .withDescription("Failed to stream transactions")
+                            .asRuntimeException());
+                    return;
+                }
+
+                if (!transactions.isEmpty()) {
+                    cursor = transactions.get(transactions.size() - 1).getId();
+                    sent += transactions.size();
+                    call.onNext(TransactionChunk.newBuilder()
+                            .addAllTransactions(transactions)
+                            .setLastTransactionId(cursor)
+                            .build());
+                }
+
+                if (transactions.size() < chunkSize) {
+                    done = true;
+                    call.onCompleted();
+                    log.debug("User transaction stream completed: userId={}, sent={}", userId, sent);
+                }
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            log.debug("User transaction stream cancelled by client: userId={}, sent={}", userId, sent);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.hamkkebu.boilerplate.common.grpc.transaction;
+
+import com.hamkkebu.boilerplate.common.grpc.cache.GrpcCacheSettings;
+import com.hamkkebu.boilerplate.common.grpc.cache.StaleableLookupCache;
+import com.hamkkebu.boilerplate.common.grpc.hedging.HedgedCaller;
+import com.hamkkebu.boilerplate.data.event.TransactionCreatedEvent;
+import com.hamkkebu.boilerplate.data.event.TransactionDeletedEvent;
+import com.hamkkebu.boilerplate.data.event.TransactionUpdatedEvent;
+import com.hamkkebu.boilerplate.grpc.transaction.GetTransactionRequest;
+import com.hamkkebu.boilerplate.grpc.transaction.GetTransactionResponse;
+import com.hamkkebu.boilerplate.grpc.transaction.Transaction;
+import com.hamkkebu.boilerplate.grpc.transaction.TransactionServiceGrpc;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 로컬 캐시를 적용한 TransactionService 클라이언트
+ *
+ * <p>GetTransaction 결과를 TTL 동안 캐시하고, not-found는 짧은 TTL로 캐시합니다.
+ * transaction-service 장애(Circuit Breaker Open) 시에는 만료된 값을 maxStale 동안 반환합니다.</p>
+ *
+ * <p>응답의 error_message가 비어 있지 않으면 not-found가 아닌 실패(Status.INTERNAL)로 처리합니다.</p>
+ *
+ * <p>TRANSACTION_CREATED/UPDATED/DELETED 이벤트로 해당 거래를 무효화합니다.
+ * 캐시는 인스턴스별이므로 서비스에서 인스턴스별 consumer group의 리스너를 등록해 {@link #onTransactionEvent}를 호출합니다.
+ * (등록하지 않으면 TTL만큼 지연)</p>
+ *
+ * <p>Bulkhead(transactionService)를 지정하면 원격 호출 동시 실행 수를 제한하고, 초과 시 stale 값으로 응답합니다.</p>
+ *
+ * <p>future stub과 {@link HedgedCaller}로 생성하면 GetTransaction에 hedging과 적응형 timeout을 적용합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * CachingTransactionServiceClient client = new CachingTransactionServiceClient(stub,
+ *         circuitBreakerRegistry.circuitBreaker("transactionService"),
+ *         bulkheadRegistry.bulkhead("transactionService"), meterRegistry,
+ *         Duration.ofSeconds(3), GrpcCacheSettings.builder().ttl(Duration.ofSeconds(30)).build());
+ *
+ * // hedging 적용 시
+ * CachingTransactionServiceClient hedgedClient = new CachingTransactionServiceClient(futureStub, hedgedCaller,
+ *         circuitBreakerRegistry.circuitBreaker("transactionService"),
+ *         bulkheadRegistry.bulkhead("transactionService"), meterRegistry,
+ *         GrpcCacheSettings.builder().ttl(Duration.ofSeconds(30)).build());
+ *
+ * Optional{@literal <}Transaction{@literal >} transaction = client.getTransaction(transactionId);
+ *
+ * // 무효화 (인스턴스별 group)
+ * {@literal @}KafkaListener(topics = "transaction.events",
+ *         groupId = "#{'ledger-grpc-cache-' + T(java.util.UUID).randomUUID()}",
+ *         properties = "auto.offset.reset=latest")
+ * public void onTransactionEvent(Map{@literal <}String, Object{@literal >} eventData) {
+ *     client.onTransactionEvent(eventData);
+ * }
+ * </pre>
+ */
+@Slf4j
+public class CachingTransactionServiceClient {
+
+    private static final Set<String> INVALIDATING_EVENT_TYPES = Set.of(
+            TransactionCreatedEvent.EVENT_TYPE,
+            TransactionUpdatedEvent.EVENT_TYPE,
+            TransactionDeletedEvent.EVENT_TYPE);
+
+    private final Function<GetTransactionRequest, GetTransactionResponse> getTransactionCall;
+    private final StaleableLookupCache<Long, Transaction> transactionCache;
+
+    /**
+     * @param stub           TransactionService blocking stub
+     * @param circuitBreaker 원격 호출에 적용할 Circuit Breaker (transactionService)
+     * @param meterRegistry  메트릭 레지스트리
+     * @param deadline       원격 호출 deadline
+     * @param settings       GetTransaction 캐시 설정
+     */
+    public CachingTransactionServiceClient(TransactionServiceGrpc.TransactionServiceBlockingStub stub,
+                                           CircuitBreaker circuitBreaker, MeterRegistry meterRegistry,
+                                           Duration deadline, GrpcCacheSettings settings) {
+        this(stub, circuitBreaker, null, meterRegistry, deadline, settings);
+    }
+
+    /**
+     * @param stub           TransactionService blocking stub
+     * @param circuitBreaker 원격 호출에 적용할 Circuit Breaker (transactionService)
+     * @param bulkhead       원격 호출 동시 실행 수 제한 (transactionService, null이면 제한 없음)
+     * @param meterRegistry  메트릭 레지스트리
+     * @param deadline       원격 호출 deadline
+     * @param settings       GetTransaction 캐시 설정
+     */
+    public CachingTransactionServiceClient(TransactionServiceGrpc.TransactionServiceBlockingStub stub,
+                                           CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                                           MeterRegistry meterRegistry, Duration deadline,
+                                           GrpcCacheSettings settings) {
+        this(request -> stub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS).getTransaction(request),
+                circuitBreaker, bulkhead, meterRegistry, settings);
+    }
+
+    /**
+     * hedging 적용 클라이언트
+     *
+     * @param stub           TransactionService future stub
+     * @param hedgedCaller   hedging/적응형 timeout 실행기 (transaction-service)
+     * @param circuitBreaker 원격 호출에 적용할 Circuit Breaker (transactionService)
+     * @param bulkhead       원격 호출 동시 실행 수 제한 (transactionService, null이면 제한 없음)
+     * @param meterRegistry  메트릭 레지스트리
+     * @param settings       GetTransaction 캐시 설정
+     */
+    public CachingTransactionServiceClient(TransactionServiceGrpc.TransactionServiceFutureStub stub,
+                                           HedgedCaller hedgedCaller, CircuitBreaker circuitBreaker,
+                                           Bulkhead bulkhead, MeterRegistry meterRegistry,
+                                           GrpcCacheSettings settings) {
+        this(request -> hedgedCaller.callBlocking("GetTransaction", timeout ->
+                        stub.withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS).getTransaction(request)),
+                circuitBreaker, bulkhead, meterRegistry, settings);
+    }
+
+    private CachingTransactionServiceClient(Function<GetTransactionRequest, GetTransactionResponse> getTransactionCall,
+                                            CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                                            MeterRegistry meterRegistry, GrpcCacheSettings settings) {
+        this.getTransactionCall = getTransactionCall;
+        this.transactionCache = new StaleableLookupCache<>("grpc.transaction.get", settings, circuitBreaker,
+                bulkhead, meterRegistry);
+    }
+
+    /**
+     * 거래 조회
+     *
+     * @return 거래 (없으면 empty)
+     */
+    public Optional<Transaction> getTransaction(long transactionId) {
+        return transactionCache.get(transactionId, () -> fetchTransaction(transactionId));
+    }
+
+    /**
+     * 거래 캐시 무효화
+     */
+    public void invalidateTransaction(long transactionId) {
+        transactionCache.invalidate(transactionId);
+    }
+
+    /**
+     * 거래 이벤트 수신 시 캐시 무효화 (TRANSACTION_CREATED/UPDATED/DELETED)
+     *
+     * <p>CREATED도 무효화하여 생성 전에 캐시된 not-found 결과를 제거합니다.</p>
+     *
+     * @param eventData 이벤트 데이터 맵 (transactionId 포함)
+     */
+    public void onTransactionEvent(Map<String, Object> eventData) {
+        Object eventType = eventData.get("eventType");
+        if (eventType == null || !INVALIDATING_EVENT_TYPES.contains(eventType)) {
+            return;
+        }
+        Object transactionId = eventData.get("transactionId");
+        if (transactionId == null) {
+            return;
+        }
+        try {
+            invalidateTransaction(Long.parseLong(String.valueOf(transactionId)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring transaction event with invalid transactionId: {}", transactionId);
+        }
+    }
+
+    private Optional<Transaction> fetchTransaction(long transactionId) {
+        GetTransactionResponse response;
+        try {
+            response = getTransactionCall.apply(
+                    GetTransactionRequest.newBuilder().setTransactionId(transactionId).build());
+        } catch (StatusRuntimeException e) {
+            if (e.getStatus().getCode() == Status.Code.NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+        if (!response.getErrorMessage().isEmpty()) {
+            // 서버가 응답 본문으로 알린 오류는 not-found로 캐시하지 않고 실패로 처리 (Circuit Breaker, stale fallback)
+            throw Status.INTERNAL.withDescription(response.getErrorMessage()).asRuntimeException();
+        }
+        return response.hasTransaction() ? Optional.of(response.getTransaction()) : Optional.empty();
+    }
+}
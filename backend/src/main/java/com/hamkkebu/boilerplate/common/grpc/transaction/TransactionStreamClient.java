@@ -0,0 +1,131 @@
+package com.hamkkebu.boilerplate.common.grpc.transaction;
+
+import com.hamkkebu.boilerplate.grpc.transaction.StreamUserTransactionsRequest;
+import com.hamkkebu.boilerplate.grpc.transaction.Transaction;
+import com.hamkkebu.boilerplate.grpc.transaction.TransactionChunk;
+import com.hamkkebu.boilerplate.grpc.transaction.TransactionServiceGrpc;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * StreamUserTransactions 클라이언트 헬퍼
+ *
+ * <p>사용자의 전체 거래를 한 번의 스트리밍 호출로 읽습니다. (정합성 검증 배치 등)</p>
+ *
+ * <ul>
+ *   <li>blocking iterator는 consumer가 처리한 만큼만 다음 메시지를 요청하므로 서버 전송 속도가 consumer 속도에 맞춰짐</li>
+ *   <li>UNAVAILABLE로 끊기면 마지막으로 받은 거래 ID부터 이어서 조회 (최대 maxResumes회)</li>
+ *   <li>consumer에서 예외가 나면 호출을 취소하여 서버 조회도 중단</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * TransactionStreamClient client = new TransactionStreamClient(transactionBlockingStub, Duration.ofMinutes(10), 3);
+ * long count = client.forEachUserTransaction(userId, 0L, 500, transaction -{@literal >} reconcile(transaction));
+ * </pre>
+ */
+@Slf4j
+public class TransactionStreamClient {
+
+    private final TransactionServiceGrpc.TransactionServiceBlockingStub stub;
+    private final Duration deadline;
+    private final int maxResumes;
+
+    /**
+     * @param stub       TransactionService blocking stub
+     * @param deadline   스트림 호출 1회의 deadline (재개 시 새로 적용)
+     * @param maxResumes UNAVAILABLE 시 이어서 조회할 최대 횟수
+     */
+    public TransactionStreamClient(TransactionServiceGrpc.TransactionServiceBlockingStub stub,
+                                   Duration deadline, int maxResumes) {
+        this.stub = stub;
+        this.deadline = deadline;
+        this.maxResumes = maxResumes;
+    }
+
+    /**
+     * 사용자 거래를 ID 오름차순으로 모두 처리
+     *
+     * @param userId             사용자 ID
+     * @param afterTransactionId 이 ID 이후부터 조회 (처음이면 0)
+     * @param chunkSize          chunk 크기 (0이면 서버 기본값)
+     * @param consumer           거래 처리 함수 (호출 스레드에서 순서대로 실행)
+     * @return 처리한 거래 수
+     * @throws StatusRuntimeException 재개 횟수를 초과했거나 재시도할 수 없는 오류
+     */
+    public long forEachUserTransaction(String userId, long afterTransactionId, int chunkSize,
+                                       Consumer<Transaction> consumer) {
+        long cursor = afterTransactionId;
+        long processed = 0;
+        int resumes = 0;
+
+        while (true) {
+            StreamResult result = streamOnce(userId, cursor, chunkSize, consumer);
+            processed += result.processed;
+            cursor = result.cursor;
+
+            if (result.error == null) {
+                return processed;
+            }
+            if (result.error.getStatus().getCode() != Status.Code.UNAVAILABLE || resumes >= maxResumes) {
+                throw result.error;
+            }
+            resumes++;
+            log.warn("User transaction stream interrupted, resuming: userId={}, after={}, attempt={}/{}",
+                    userId, cursor, resumes, maxResumes);
+        }
+    }
+
+    private StreamResult streamOnce(String userId, long afterTransactionId, int chunkSize,
+                                    Consumer<Transaction> consumer) {
+        StreamResult result = new StreamResult(afterTransactionId);
+        StreamUserTransactionsRequest request = StreamUserTransactionsRequest.newBuilder()
+                .setUserId(userId)
+                .setAfterTransactionId(afterTransactionId)
+                .setChunkSize(chunkSize)
+                .build();
+
+        // consumer 예외로 루프를 빠져나가면 close()가 호출을 취소
+        try (Context.CancellableContext context = Context.current().withCancellation()) {
+            context.run(() -> {
+                try {
+                    Iterator<TransactionChunk> chunks = stub
+                            .withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                            .streamUserTransactions(request);
+                    while (chunks.hasNext()) {
+                        TransactionChunk chunk = chunks.next();
+                        for (Transaction transaction : chunk.getTransactionsList()) {
+                            consumer.accept(transaction);
+                            result.processed++;
+                            result.cursor = transaction.getId();
+                        }
+                    }
+                } catch (StatusRuntimeException e) {
+                    result.error = e;
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 스트림 호출 1회 결과
+     */
+    private static final class StreamResult {
+
+        private long cursor;
+        private long processed;
+        private StatusRuntimeException error;
+
+        private StreamResult(long cursor) {
+            this.cursor = cursor;
+        }
+    }
+}
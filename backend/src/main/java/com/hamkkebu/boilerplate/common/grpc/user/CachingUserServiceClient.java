@@ -0,0 +1,221 @@
+package com.hamkkebu.boilerplate.common.grpc.user;
+
+import com.hamkkebu.boilerplate.common.grpc.cache.GrpcCacheSettings;
+import com.hamkkebu.boilerplate.common.grpc.cache.StaleableLookupCache;
+import com.hamkkebu.boilerplate.common.grpc.hedging.HedgedCaller;
+import com.hamkkebu.boilerplate.common.user.event.UserDeletedEvent;
+import com.hamkkebu.boilerplate.grpc.user.GetUserRequest;
+import com.hamkkebu.boilerplate.grpc.user.GetUserResponse;
+import com.hamkkebu.boilerplate.grpc.user.User;
+import com.hamkkebu.boilerplate.grpc.user.UserExistsRequest;
+import com.hamkkebu.boilerplate.grpc.user.UserExistsResponse;
+import com.hamkkebu.boilerplate.grpc.user.UserServiceGrpc;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 로컬 캐시를 적용한 UserService 클라이언트
+ *
+ * <p>GetUser/UserExists 결과를 메서드별 TTL로 캐시합니다. not-found도 짧은 TTL로 캐시하고,
+ * user-service 장애(Circuit Breaker Open) 시에는 만료된 값을 maxStale 동안 반환합니다.</p>
+ *
+ * <p>UserExists는 GetUser 캐시에 유효한 항목이 있으면 원격 호출 없이 응답합니다.</p>
+ *
+ * <p>Bulkhead(userService)로 원격 호출에 동시에 들어갈 수 있는 요청 스레드 수를 제한합니다.
+ * user-service가 느려져도 Tomcat worker 전체가 묶이지 않고, 초과 요청은 stale 값이나 BulkheadFullException으로 즉시 반환됩니다.</p>
+ *
+ * <p>future stub과 {@link HedgedCaller}로 생성하면 GetUser/UserExists 원격 호출에 hedging과 적응형 timeout을 적용합니다.
+ * (고정 deadline 대신 HedgedCaller의 timeout 사용)</p>
+ *
+ * <p>응답의 error_message가 비어 있지 않으면 not-found가 아닌 실패(Status.INTERNAL)로 처리합니다.</p>
+ *
+ * <p>캐시는 인스턴스별이므로 USER_DELETED 이벤트를 모든 인스턴스가 받아야 즉시 무효화됩니다.
+ * 토픽과 containerFactory가 서비스마다 다르므로 아래처럼 서비스에서 인스턴스별 consumer group의 리스너를 등록합니다.
+ * (등록하지 않으면 TTL만큼 지연)</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * {@literal @}Bean
+ * public CachingUserServiceClient cachingUserServiceClient(
+ *         {@literal @}GrpcClient("user-service") UserServiceGrpc.UserServiceBlockingStub stub,
+ *         CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+ *         MeterRegistry meterRegistry) {
+ *     return new CachingUserServiceClient(stub, circuitBreakerRegistry.circuitBreaker("userService"),
+ *             bulkheadRegistry.bulkhead("userService"), meterRegistry,
+ *             Duration.ofSeconds(3), GrpcCacheSettings.builder().build(),
+ *             GrpcCacheSettings.builder().ttl(Duration.ofMinutes(5)).build());
+ * }
+ *
+ * // hedging 적용 시
+ * return new CachingUserServiceClient(futureStub, hedgedCaller, circuitBreakerRegistry.circuitBreaker("userService"),
+ *         bulkheadRegistry.bulkhead("userService"), meterRegistry,
+ *         GrpcCacheSettings.builder().build(), GrpcCacheSettings.builder().ttl(Duration.ofMinutes(5)).build());
+ *
+ * // 무효화 (인스턴스별 group)
+ * {@literal @}KafkaListener(topics = "user.events", groupId = "#{'ledger-grpc-cache-' + T(java.util.UUID).randomUUID()}",
+ *         properties = "auto.offset.reset=latest")
+ * public void onUserEvent(Map{@literal <}String, Object{@literal >} eventData) {
+ *     cachingUserServiceClient.onUserEvent(eventData);
+ * }
+ * </pre>
+ */
+@Slf4j
+public class CachingUserServiceClient {
+
+    private final Function<GetUserRequest, GetUserResponse> getUserCall;
+    private final Function<UserExistsRequest, UserExistsResponse> userExistsCall;
+    private final StaleableLookupCache<String, User> userCache;
+    private final StaleableLookupCache<String, Boolean> existsCache;
+
+    /**
+     * @param stub           UserService blocking stub
+     * @param circuitBreaker 원격 호출에 적용할 Circuit Breaker (userService)
+     * @param meterRegistry  메트릭 레지스트리
+     * @param deadline       원격 호출 deadline
+     * @param userSettings   GetUser 캐시 설정
+     * @param existsSettings UserExists 캐시 설정
+     */
+    public CachingUserServiceClient(UserServiceGrpc.UserServiceBlockingStub stub, CircuitBreaker circuitBreaker,
+                                    MeterRegistry meterRegistry, Duration deadline,
+                                    GrpcCacheSettings userSettings, GrpcCacheSettings existsSettings) {
+        this(stub, circuitBreaker, null, meterRegistry, deadline, userSettings, existsSettings);
+    }
+
+    /**
+     * @param stub           UserService blocking stub
+     * @param circuitBreaker 원격 호출에 적용할 Circuit Breaker (userService)
+     * @param bulkhead       원격 호출 동시 실행 수 제한 (userService, null이면 제한 없음)
+     * @param meterRegistry  메트릭 레지스트리
+     * @param deadline       원격 호출 deadline
+     * @param userSettings   GetUser 캐시 설정
+     * @param existsSettings UserExists 캐시 설정
+     */
+    public CachingUserServiceClient(UserServiceGrpc.UserServiceBlockingStub stub, CircuitBreaker circuitBreaker,
+                                    Bulkhead bulkhead, MeterRegistry meterRegistry, Duration deadline,
+                                    GrpcCacheSettings userSettings, GrpcCacheSettings existsSettings) {
+        this(request -> stub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS).getUser(request),
+                request -> stub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS).userExists(request),
+                circuitBreaker, bulkhead, meterRegistry, userSettings, existsSettings);
+    }
+
+    /**
+     * hedging 적용 클라이언트
+     *
+     * @param stub           UserService future stub
+     * @param hedgedCaller   hedging/적응형 timeout 실행기 (user-service)
+     * @param circuitBreaker 원격 호출에 적용할 Circuit Breaker (userService)
+     * @param bulkhead       원격 호출 동시 실행 수 제한 (userService, null이면 제한 없음)
+     * @param meterRegistry  메트릭 레지스트리
+     * @param userSettings   GetUser 캐시 설정
+     * @param existsSettings UserExists 캐시 설정
+     */
+    public CachingUserServiceClient(UserServiceGrpc.UserServiceFutureStub stub, HedgedCaller hedgedCaller,
+                                    CircuitBreaker circuitBreaker, Bulkhead bulkhead, MeterRegistry meterRegistry,
+                                    GrpcCacheSettings userSettings, GrpcCacheSettings existsSettings) {
+        this(request -> hedgedCaller.callBlocking("GetUser", timeout ->
+                        stub.withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS).getUser(request)),
+                request -> hedgedCaller.callBlocking("UserExists", timeout ->
+                        stub.withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS).userExists(request)),
+                circuitBreaker, bulkhead, meterRegistry, userSettings, existsSettings);
+    }
+
+    private CachingUserServiceClient(Function<GetUserRequest, GetUserResponse> getUserCall,
+                                     Function<UserExistsRequest, UserExistsResponse> userExistsCall,
+                                     CircuitBreaker circuitBreaker, Bulkhead bulkhead, MeterRegistry meterRegistry,
+                                     GrpcCacheSettings userSettings, GrpcCacheSettings existsSettings) {
+        this.getUserCall = getUserCall;
+        this.userExistsCall = userExistsCall;
+        this.userCache = new StaleableLookupCache<>("grpc.user.get", userSettings, circuitBreaker, bulkhead,
+                meterRegistry);
+        this.existsCache = new StaleableLookupCache<>("grpc.user.exists", existsSettings, circuitBreaker, bulkhead,
+                meterRegistry);
+    }
+
+    /**
+     * 사용자 조회
+     *
+     * @return 사용자 (없으면 empty)
+     */
+    public Optional<User> getUser(String userId) {
+        return userCache.get(userId, () -> fetchUser(userId));
+    }
+
+    /**
+     * 사용자 존재 여부
+     */
+    public boolean userExists(String userId) {
+        Optional<Boolean> cachedUser = userCache.presenceIfFresh(userId);
+        if (cachedUser.isPresent()) {
+            return cachedUser.get();
+        }
+        return existsCache.get(userId, () -> fetchExists(userId)).isPresent();
+    }
+
+    /**
+     * 사용자 캐시 무효화
+     */
+    public void invalidateUser(String userId) {
+        userCache.invalidate(userId);
+        existsCache.invalidate(userId);
+    }
+
+    /**
+     * 사용자 이벤트 수신 시 캐시 무효화 (USER_DELETED)
+     *
+     * @param eventData 이벤트 데이터 맵 (userPk 포함)
+     */
+    public void onUserEvent(Map<String, Object> eventData) {
+        if (!UserDeletedEvent.EVENT_TYPE.equals(eventData.get("eventType"))) {
+            return;
+        }
+        Object userPk = eventData.get("userPk");
+        if (userPk != null) {
+            invalidateUser(String.valueOf(userPk));
+            log.debug("Invalidated cached user on USER_DELETED: userId={}", userPk);
+        }
+    }
+
+    private Optional<User> fetchUser(String userId) {
+        GetUserResponse response;
+        try {
+            response = getUserCall.apply(GetUserRequest.newBuilder().setUserId(userId).build());
+        } catch (StatusRuntimeException e) {
+            if (e.getStatus().getCode() == Status.Code.NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+        throwIfServerError(response.getErrorMessage());
+        return response.hasUser() ? Optional.of(response.getUser()) : Optional.empty();
+    }
+
+    /**
+     * 존재하면 TRUE, 없으면 empty (negative TTL 적용)
+     */
+    private Optional<Boolean> fetchExists(String userId) {
+        UserExistsResponse response = userExistsCall.apply(UserExistsRequest.newBuilder().setUserId(userId).build());
+        throwIfServerError(response.getErrorMessage());
+        return response.getExists() ? Optional.of(Boolean.TRUE) : Optional.empty();
+    }
+
+    /**
+     * 서버가 응답 본문으로 알린 오류를 실패로 처리
+     *
+     * <p>not-found로 캐시하지 않고 Circuit Breaker 실패로 기록되며, stale 값이 있으면 그 값으로 응답합니다.</p>
+     */
+    private static void throwIfServerError(String errorMessage) {
+        if (!errorMessage.isEmpty()) {
+            throw Status.INTERNAL.withDescription(errorMessage).asRuntimeException();
+        }
+    }
+}
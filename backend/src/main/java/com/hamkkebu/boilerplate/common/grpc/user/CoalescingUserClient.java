@@ -0,0 +1,320 @@
+package com.hamkkebu.boilerplate.common.grpc.user;
+
+import com.hamkkebu.boilerplate.common.grpc.hedging.HedgedCaller;
+import com.hamkkebu.boilerplate.grpc.user.GetUsersRequest;
+import com.hamkkebu.boilerplate.grpc.user.GetUsersResponse;
+import com.hamkkebu.boilerplate.grpc.user.User;
+import com.hamkkebu.boilerplate.grpc.user.UserServiceGrpc;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * GetUser 요청 병합 클라이언트 (DataLoader 방식)
+ *
+ * <p>짧은 시간(window) 동안 들어온 단건 GetUser 요청을 모아 GetUsers 한 번으로 조회하고,
+ * 결과를 각 요청의 CompletableFuture로 나눠 돌려줍니다.</p>
+ *
+ * <ul>
+ *   <li>window가 지나거나 maxBatchSize만큼 모이면 즉시 전송</li>
+ *   <li>같은 ID는 한 번만 조회 (대기 중인 배치 + 응답 대기 중인 배치 모두 공유)</li>
+ *   <li>배치 호출에는 userService Circuit Breaker 적용, Open 상태면 모든 요청이 CallNotPermittedException으로 실패</li>
+ *   <li>Bulkhead를 지정하면 동시에 응답 대기 중인 배치 수를 제한, 초과 시 배치의 모든 요청이 BulkheadFullException으로 실패</li>
+ *   <li>future stub과 {@link HedgedCaller}로 생성하면 GetUsers에 hedging과 적응형 timeout 적용 (고정 deadline 대신)</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * {@literal @}Bean
+ * public CoalescingUserClient coalescingUserClient({@literal @}GrpcClient("user-service") UserServiceGrpc.UserServiceStub stub,
+ *                                                  CircuitBreakerRegistry circuitBreakerRegistry,
+ *                                                  MeterRegistry meterRegistry) {
+ *     return new CoalescingUserClient(stub, circuitBreakerRegistry.circuitBreaker("userService"), meterRegistry,
+ *             Duration.ofMillis(5), 100, Duration.ofSeconds(3));
+ * }
+ *
+ * // hedging 적용 시
+ * return new CoalescingUserClient(futureStub, hedgedCaller, circuitBreakerRegistry.circuitBreaker("userService"),
+ *         null, meterRegistry, Duration.ofMillis(5), 100);
+ *
+ * // 호출
+ * Optional{@literal <}User{@literal >} user = coalescingUserClient.getUser(userId).join();
+ * </pre>
+ */
+@Slf4j
+public class CoalescingUserClient implements AutoCloseable {
+
+    private final Function<GetUsersRequest, CompletionStage<GetUsersResponse>> getUsersCall;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration window;
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter deduplicatedCounter;
+    private final Counter rejectedCounter;
+
+    /**
+     * 전송 전 대기 중인 배치 (this로 동기화)
+     */
+    private Map<String, CompletableFuture<Optional<User>>> pending = new LinkedHashMap<>();
+
+    /**
+     * 응답 대기 중인 요청 (같은 ID의 새 요청이 재사용)
+     */
+    private final Map<String, CompletableFuture<Optional<User>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param stub           UserService 비동기 stub
+     * @param circuitBreaker 배치 호출에 적용할 Circuit Breaker (userService)
+     * @param meterRegistry  메트릭 레지스트리
+     * @param window         요청 수집 시간
+     * @param maxBatchSize   배치 최대 크기 (GetUsers 권장 최대 100)
+     * @param deadline       배치 호출 deadline
+     */
+    public CoalescingUserClient(UserServiceGrpc.UserServiceStub stub, CircuitBreaker circuitBreaker,
+                                MeterRegistry meterRegistry, Duration window, int maxBatchSize, Duration deadline) {
+        this(stub, circuitBreaker, null, meterRegistry, window, maxBatchSize, deadline);
+    }
+
+    /**
+     * @param stub           UserService 비동기 stub
+     * @param circuitBreaker 배치 호출에 적용할 Circuit Breaker (userService)
+     * @param bulkhead       동시 배치 호출 수 제한 (userService, null이면 제한 없음)
+     * @param meterRegistry  메트릭 레지스트리
+     * @param window         요청 수집 시간
+     * @param maxBatchSize   배치 최대 크기 (GetUsers 권장 최대 100)
+     * @param deadline       배치 호출 deadline
+     */
+    public CoalescingUserClient(UserServiceGrpc.UserServiceStub stub, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                                MeterRegistry meterRegistry, Duration window, int maxBatchSize, Duration deadline) {
+        this(request -> getUsers(stub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS), request),
+                circuitBreaker, bulkhead, meterRegistry, window, maxBatchSize);
+    }
+
+    /**
+     * hedging 적용 클라이언트
+     *
+     * @param stub           UserService future stub
+     * @param hedgedCaller   hedging/적응형 timeout 실행기 (user-service)
+     * @param circuitBreaker 배치 호출에 적용할 Circuit Breaker (userService)
+     * @param bulkhead       동시 배치 호출 수 제한 (userService, null이면 제한 없음)
+     * @param meterRegistry  메트릭 레지스트리
+     * @param window         요청 수집 시간
+     * @param maxBatchSize   배치 최대 크기 (GetUsers 권장 최대 100)
+     */
+    public CoalescingUserClient(UserServiceGrpc.UserServiceFutureStub stub, HedgedCaller hedgedCaller,
+                                CircuitBreaker circuitBreaker, Bulkhead bulkhead, MeterRegistry meterRegistry,
+                                Duration window, int maxBatchSize) {
+        this(request -> getUsers(hedgedCaller, stub, request),
+                circuitBreaker, bulkhead, meterRegistry, window, maxBatchSize);
+    }
+
+    private CoalescingUserClient(Function<GetUsersRequest, CompletionStage<GetUsersResponse>> getUsersCall,
+                                 CircuitBreaker circuitBreaker, Bulkhead bulkhead, MeterRegistry meterRegistry,
+                                 Duration window, int maxBatchSize) {
+        this.getUsersCall = getUsersCall;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grpc-user-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizeSummary = DistributionSummary.builder("grpc.client.coalesced.batch.size")
+                .description("Distinct user ids per coalesced GetUsers call")
+                .tag("service", "user-service")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("grpc.client.coalesced.deduplicated")
+                .description("GetUser requests served by an already pending or in-flight lookup")
+                .tag("service", "user-service")
+                .register(meterRegistry);
+        this.rejectedCounter = bulkhead == null ? null : Counter.builder("grpc.client.bulkhead.rejected")
+                .description("Calls rejected because the dependency bulkhead was full")
+                .tag("caller", "grpc.user.coalesced")
+                .tag("bulkhead", bulkhead.getName())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 조회 (다른 요청과 병합)
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 (없으면 empty), 배치 호출 실패 시 예외로 완료
+     */
+    public CompletableFuture<Optional<User>> getUser(String userId) {
+        CompletableFuture<Optional<User>> inFlightFuture = inFlight.get(userId);
+        if (inFlightFuture != null) {
+            deduplicatedCounter.increment();
+            return inFlightFuture;
+        }
+
+        Map<String, CompletableFuture<Optional<User>>> batchToSend = null;
+        CompletableFuture<Optional<User>> future;
+        synchronized (this) {
+            future = pending.get(userId);
+            if (future != null) {
+                deduplicatedCounter.increment();
+                return future;
+            }
+
+            future = new CompletableFuture<>();
+            pending.put(userId, future);
+            if (pending.size() == 1) {
+                Map<String, CompletableFuture<Optional<User>>> batch = pending;
+                scheduler.schedule(() -> flush(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            if (pending.size() >= maxBatchSize) {
+                batchToSend = takePending();
+            }
+        }
+
+        if (batchToSend != null) {
+            dispatch(batchToSend);
+        }
+        return future;
+    }
+
+    /**
+     * 대기 중인 요청 즉시 전송 후 스케줄러 종료
+     */
+    @Override
+    public void close() {
+        Map<String, CompletableFuture<Optional<User>>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * window 만료 시 전송 (그 사이 크기 초과로 이미 전송된 배치면 무시)
+     */
+    private void flush(Map<String, CompletableFuture<Optional<User>>> batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return;
+            }
+            takePending();
+        }
+        dispatch(batch);
+    }
+
+    private Map<String, CompletableFuture<Optional<User>>> takePending() {
+        Map<String, CompletableFuture<Optional<User>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void dispatch(Map<String, CompletableFuture<Optional<User>>> batch) {
+        inFlight.putAll(batch);
+        batchSizeSummary.record(batch.size());
+
+        GetUsersRequest request = GetUsersRequest.newBuilder()
+                .addAllUserIds(batch.keySet())
+                .build();
+
+        Supplier<CompletionStage<GetUsersResponse>> call =
+                circuitBreaker.decorateCompletionStage(() -> getUsersCall.apply(request));
+        if (bulkhead != null) {
+            call = Bulkhead.decorateCompletionStage(bulkhead, call);
+        }
+
+        call.get()
+                .whenComplete((response, error) -> {
+                    batch.forEach(inFlight::remove);
+                    if (error instanceof BulkheadFullException) {
+                        rejectedCounter.increment();
+                    }
+                    if (error != null) {
+                        log.warn("Coalesced GetUsers failed: size={}, error={}", batch.size(), error.toString());
+                        batch.values().forEach(future -> future.completeExceptionally(error));
+                        return;
+                    }
+                    complete(batch, response);
+                });
+    }
+
+    private static void complete(Map<String, CompletableFuture<Optional<User>>> batch, GetUsersResponse response) {
+        Map<String, User> usersById = new HashMap<>(response.getUsersCount() * 2);
+        for (User user : response.getUsersList()) {
+            usersById.put(user.getId(), user);
+        }
+        batch.forEach((userId, future) -> future.complete(Optional.ofNullable(usersById.get(userId))));
+    }
+
+    private static CompletionStage<GetUsersResponse> getUsers(UserServiceGrpc.UserServiceStub stub,
+                                                              GetUsersRequest request) {
+        CompletableFuture<GetUsersResponse> result = new CompletableFuture<>();
+        stub.getUsers(request, new StreamObserver<>() {
+            @Override
+            public void onNext(GetUsersResponse response) {
+                completeResponse(result, response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                // unary 호출은 onNext에서 완료
+            }
+        });
+        return result;
+    }
+
+    private static CompletionStage<GetUsersResponse> getUsers(HedgedCaller hedgedCaller,
+                                                              UserServiceGrpc.UserServiceFutureStub stub,
+                                                              GetUsersRequest request) {
+        CompletableFuture<GetUsersResponse> result = new CompletableFuture<>();
+        hedgedCaller.call("GetUsers", timeout ->
+                        stub.withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS).getUsers(request))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                        return;
+                    }
+                    completeResponse(result, response);
+                });
+        return result;
+    }
+
+    private static void completeResponse(CompletableFuture<GetUsersResponse> result, GetUsersResponse response) {
+        if (!response.getErrorMessage().isEmpty()) {
+            // 서버가 응답 본문으로 알린 오류도 Circuit Breaker 실패로 기록
+            result.completeExceptionally(Status.INTERNAL
+                    .withDescription(response.getErrorMessage())
+                    .asRuntimeException());
+            return;
+        }
+        result.complete(response);
+    }
+}
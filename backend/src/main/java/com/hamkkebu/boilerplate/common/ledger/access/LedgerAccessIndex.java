@@ -0,0 +1,414 @@
+package com.hamkkebu.boilerplate.common.ledger.access;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+import com.hamkkebu.boilerplate.common.enums.ShareStatus;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedger;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerMember;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerShare;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerBroadcastListener;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerChangeListener;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerMemberRepository;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerRepository;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerShareRepository;
+import com.hamkkebu.boilerplate.common.util.LongPairIntMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 가계부 접근 권한 인메모리 인덱스
+ *
+ * <p>(ledgerId, userId) → 유효 권한 비트마스크를 원시 타입 맵({@link LongPairIntMap})에 보관하여,
+ * 요청마다 멤버/공유 테이블을 조회하지 않고 권한을 확인합니다.</p>
+ *
+ * <p>권한 비트는 출처별로 분리되어 있어, 멤버 변경과 공유 변경이 서로의 비트를 덮어쓰지 않습니다.</p>
+ * <ul>
+ *   <li>OWNER: SyncedLedger.userId (가계부 소유자)</li>
+ *   <li>MEMBER_*: SyncedLedgerMember.role (hasWriteAccess / hasAdminAccess)</li>
+ *   <li>SHARE_*: ACCEPTED 상태의 SyncedLedgerShare.permission</li>
+ * </ul>
+ *
+ * <p>갱신 방식:</p>
+ * <ul>
+ *   <li>애플리케이션 기동 후 Synced* 테이블을 커서 페이징으로 읽어 구축 (구축 완료 전 {@link #isReady()} = false)</li>
+ *   <li>Abstract*EventConsumer가 이벤트를 반영하면 커밋 후 해당 항목만 갱신 ({@link SyncedLedgerChangeListener})</li>
+ *   <li>다른 인스턴스가 처리한 이벤트는 AbstractSyncedLedgerBroadcastConsumer(인스턴스별 group)로 받아
+ *       이벤트 값으로 즉시 갱신 ({@link SyncedLedgerBroadcastListener}) - 멤버 제거/공유 회수가 모든 인스턴스에 바로 반영됨</li>
+ *   <li>rebuildInterval마다 전체 재구축 (누락 보정). 재구축 시작 전 {@link #REPLAY_MARGIN} 이내의 변경은 결과에 다시 적용하므로,
+ *       다른 인스턴스가 아직 커밋하지 않은 회수를 재구축이 되살리지 않음</li>
+ * </ul>
+ *
+ * <p>권한 회수가 모든 인스턴스에 즉시 반영되려면 broadcast consumer가 반드시 등록되어 있어야 합니다.
+ * 등록하지 않으면 다른 인스턴스가 처리한 회수는 다음 재구축까지 보이지 않습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * {@literal @}Bean
+ * public LedgerAccessIndex ledgerAccessIndex(LedgerRepository ledgerRepository,
+ *                                            LedgerMemberRepository ledgerMemberRepository,
+ *                                            LedgerShareRepository ledgerShareRepository,
+ *                                            MeterRegistry meterRegistry) {
+ *     return new LedgerAccessIndex(ledgerRepository, ledgerMemberRepository, ledgerShareRepository,
+ *             meterRegistry, Duration.ofMinutes(5));
+ * }
+ *
+ * // Service
+ * if (ledgerAccessIndex.isReady()) {
+ *     if (!ledgerAccessIndex.canWrite(ledgerId, userId)) {
+ *         throw new BusinessException(ErrorCode.LEDGER_ACCESS_DENIED);
+ *     }
+ * } else {
+ *     // 구축 전에는 Repository로 확인
+ * }
+ * </pre>
+ */
+@Slf4j
+public class LedgerAccessIndex implements SyncedLedgerChangeListener, SyncedLedgerBroadcastListener,
+        ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    /** 가계부 소유자 */
+    public static final int OWNER = 1;
+    /** 멤버 - 읽기 */
+    public static final int MEMBER_READ = 1 << 1;
+    /** 멤버 - 쓰기 (OWNER, ADMIN, MEMBER) */
+    public static final int MEMBER_WRITE = 1 << 2;
+    /** 멤버 - 관리 (OWNER, ADMIN) */
+    public static final int MEMBER_ADMIN = 1 << 3;
+    /** 공유 수락 - 읽기 */
+    public static final int SHARE_READ = 1 << 4;
+    /** 공유 수락 - 쓰기 (READ_WRITE, ADMIN) */
+    public static final int SHARE_WRITE = 1 << 5;
+    /** 공유 수락 - 관리 (ADMIN) */
+    public static final int SHARE_ADMIN = 1 << 6;
+
+    private static final int MEMBER_BITS = MEMBER_READ | MEMBER_WRITE | MEMBER_ADMIN;
+    private static final int SHARE_BITS = SHARE_READ | SHARE_WRITE | SHARE_ADMIN;
+
+    private static final int READ_MASK = OWNER | MEMBER_READ | SHARE_READ;
+    private static final int WRITE_MASK = OWNER | MEMBER_WRITE | SHARE_WRITE;
+    private static final int ADMIN_MASK = OWNER | MEMBER_ADMIN | SHARE_ADMIN;
+
+    /**
+     * 재구축 결과에 다시 적용할 변경의 범위 (재구축 시작 전 이 시간 이내)
+     *
+     * <p>broadcast 이벤트는 처리 인스턴스의 커밋보다 먼저 반영되므로, 그 사이에 읽은 DB 상태로 만든 재구축 결과에
+     * 다시 적용합니다. 같은 이벤트 순서대로 적용되므로 다시 적용해도 최종 상태는 같습니다.</p>
+     */
+    static final Duration REPLAY_MARGIN = Duration.ofSeconds(10);
+
+    private static final int PAGE_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final SyncedLedgerRepository<? extends SyncedLedger> ledgerRepository;
+    private final SyncedLedgerMemberRepository<? extends SyncedLedgerMember> ledgerMemberRepository;
+    private final SyncedLedgerShareRepository<? extends SyncedLedgerShare> ledgerShareRepository;
+    private final Duration rebuildInterval;
+    private final Timer rebuildTimer;
+
+    /**
+     * 변경 적용 직렬화용 모니터 (리스너 갱신과 재구축 교체 사이)
+     */
+    private final Object writeMonitor = new Object();
+
+    private volatile LongPairIntMap entries = new LongPairIntMap(INITIAL_CAPACITY);
+    private volatile boolean ready;
+
+    /**
+     * 최근 변경 (재구축 결과에 다시 적용, 재구축 중이 아니면 REPLAY_MARGIN보다 오래된 변경은 제거)
+     */
+    private final Deque<RecordedChange> recentChanges = new ArrayDeque<>();
+    private boolean rebuilding;
+
+    private ScheduledExecutorService scheduler;
+
+    public LedgerAccessIndex(SyncedLedgerRepository<? extends SyncedLedger> ledgerRepository,
+                             SyncedLedgerMemberRepository<? extends SyncedLedgerMember> ledgerMemberRepository,
+                             SyncedLedgerShareRepository<? extends SyncedLedgerShare> ledgerShareRepository,
+                             MeterRegistry meterRegistry,
+                             Duration rebuildInterval) {
+        this.ledgerRepository = ledgerRepository;
+        this.ledgerMemberRepository = ledgerMemberRepository;
+        this.ledgerShareRepository = ledgerShareRepository;
+        this.rebuildInterval = rebuildInterval;
+        this.rebuildTimer = Timer.builder("ledger.access.index.rebuild")
+                .description("Full rebuild duration of the ledger access index")
+                .register(meterRegistry);
+        Gauge.builder("ledger.access.index.entries", this, index -> index.entries.size())
+                .description("Number of (ledgerId, userId) entries in the ledger access index")
+                .register(meterRegistry);
+    }
+
+    // ==================== 권한 조회 ====================
+
+    /**
+     * 인덱스 구축 완료 여부 (false면 Repository로 확인해야 함)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 유효 권한 비트마스크 조회
+     *
+     * @return OWNER, MEMBER_*, SHARE_* 비트 조합 (권한 없으면 0)
+     */
+    public int permissions(long ledgerId, long userId) {
+        return entries.get(ledgerId, userId);
+    }
+
+    /**
+     * 읽기 권한 (소유자, 멤버, 수락된 공유)
+     */
+    public boolean canRead(long ledgerId, long userId) {
+        return (permissions(ledgerId, userId) & READ_MASK) != 0;
+    }
+
+    /**
+     * 쓰기 권한 (소유자, 쓰기 가능 멤버, READ_WRITE 이상 공유)
+     */
+    public boolean canWrite(long ledgerId, long userId) {
+        return (permissions(ledgerId, userId) & WRITE_MASK) != 0;
+    }
+
+    /**
+     * 관리 권한 (소유자, 관리자 멤버, ADMIN 공유)
+     */
+    public boolean canAdmin(long ledgerId, long userId) {
+        return (permissions(ledgerId, userId) & ADMIN_MASK) != 0;
+    }
+
+    /**
+     * 가계부 소유자 여부
+     */
+    public boolean isOwner(long ledgerId, long userId) {
+        return (permissions(ledgerId, userId) & OWNER) != 0;
+    }
+
+    // ==================== 변경 반영 (SyncedLedgerChangeListener) ====================
+
+    @Override
+    public void onLedgerChanged(SyncedLedger ledger) {
+        onLedgerEvent(ledger.getLedgerId(), ledger.getUserId(), ledger.isDeleted());
+    }
+
+    @Override
+    public void onLedgerMemberChanged(SyncedLedgerMember member) {
+        if (member.getLedgerId() == null || member.getAccountId() == null) {
+            return;
+        }
+        onLedgerMemberEvent(member.getLedgerId(), member.getAccountId(), member.isDeleted() ? null : member.getRole());
+    }
+
+    @Override
+    public void onLedgerShareChanged(SyncedLedgerShare share) {
+        if (share.getLedgerId() == null) {
+            return;
+        }
+        SharePermission permission = share.getPermission() != null ? share.getPermission() : SharePermission.READ_ONLY;
+        onLedgerShareEvent(share.getLedgerId(), share.getSharedUserId(), share.isShareActive() ? permission : null);
+    }
+
+    // ==================== 변경 반영 (SyncedLedgerBroadcastListener) ====================
+
+    @Override
+    public void onLedgerEvent(long ledgerId, Long ownerId, boolean deleted) {
+        if (deleted) {
+            apply(map -> map.removeAllByFirst(ledgerId));
+        } else if (ownerId != null) {
+            long userId = ownerId;
+            apply(map -> map.update(ledgerId, userId, old -> old | OWNER));
+        }
+    }
+
+    @Override
+    public void onLedgerMemberEvent(long ledgerId, long accountId, MemberRole role) {
+        int bits = memberBits(role);
+        apply(map -> map.update(ledgerId, accountId, old -> (old & ~MEMBER_BITS) | bits));
+    }
+
+    @Override
+    public void onLedgerShareEvent(long ledgerId, Long sharedUserId, SharePermission activePermission) {
+        if (sharedUserId == null) {
+            return;
+        }
+        long userId = sharedUserId;
+        int bits = activePermission != null ? shareBits(activePermission) : 0;
+        apply(map -> map.update(ledgerId, userId, old -> (old & ~SHARE_BITS) | bits));
+    }
+
+    // ==================== 구축 ====================
+
+    @Override
+    public synchronized void onApplicationEvent(ApplicationReadyEvent event) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-access-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuildSafely, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Ledger access index build scheduled: rebuildInterval={}", rebuildInterval);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 전체 재구축
+     *
+     * <p>새 맵에 Synced* 테이블을 읽어 채운 뒤, 재구축 시작 전 {@link #REPLAY_MARGIN} 이후의 변경을
+     * 순서대로 다시 적용하고 교체합니다. 재구축 중에도 기존 맵으로 권한 조회가 가능합니다.</p>
+     */
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        synchronized (writeMonitor) {
+            rebuilding = true;
+        }
+        try {
+            LongPairIntMap rebuilt = rebuildTimer.record(this::load);
+            synchronized (writeMonitor) {
+                long replayFrom = startedAt - REPLAY_MARGIN.toNanos();
+                for (RecordedChange recorded : recentChanges) {
+                    if (recorded.recordedAt - replayFrom >= 0) {
+                        recorded.change.accept(rebuilt);
+                    }
+                }
+                entries = rebuilt;
+            }
+            ready = true;
+            log.info("Ledger access index rebuilt: entries={}", rebuilt.size());
+        } finally {
+            synchronized (writeMonitor) {
+                rebuilding = false;
+                trimRecentChanges(System.nanoTime());
+            }
+        }
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Ledger access index rebuild failed (keeping current index): {}", e.getMessage(), e);
+        }
+    }
+
+    private LongPairIntMap load() {
+        LongPairIntMap map = new LongPairIntMap(Math.max(INITIAL_CAPACITY, entries.size()));
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+
+        long afterLedgerId = 0;
+        Slice<? extends SyncedLedger> ledgers;
+        do {
+            ledgers = ledgerRepository.findSliceAll(afterLedgerId, pageable);
+            for (SyncedLedger ledger : ledgers) {
+                if (ledger.getUserId() != null) {
+                    map.update(ledger.getLedgerId(), ledger.getUserId(), old -> old | OWNER);
+                }
+                afterLedgerId = ledger.getLedgerId();
+            }
+        } while (ledgers.hasNext());
+
+        long afterLedgerMemberId = 0;
+        Slice<? extends SyncedLedgerMember> members;
+        do {
+            members = ledgerMemberRepository.findSliceAll(afterLedgerMemberId, pageable);
+            for (SyncedLedgerMember member : members) {
+                int bits = memberBits(member.getRole());
+                map.update(member.getLedgerId(), member.getAccountId(), old -> old | bits);
+                afterLedgerMemberId = member.getLedgerMemberId();
+            }
+        } while (members.hasNext());
+
+        long afterLedgerShareId = 0;
+        Slice<? extends SyncedLedgerShare> shares;
+        do {
+            shares = ledgerShareRepository.findSliceByStatus(ShareStatus.ACCEPTED, afterLedgerShareId, pageable);
+            for (SyncedLedgerShare share : shares) {
+                int bits = shareBits(share.getPermission());
+                map.update(share.getLedgerId(), share.getSharedUserId(), old -> old | bits);
+                afterLedgerShareId = share.getLedgerShareId();
+            }
+        } while (shares.hasNext());
+
+        return map;
+    }
+
+    /**
+     * 현재 맵에 변경 적용 (재구축 결과에도 다시 적용할 수 있도록 기록)
+     */
+    private void apply(Consumer<LongPairIntMap> change) {
+        synchronized (writeMonitor) {
+            change.accept(entries);
+            long now = System.nanoTime();
+            recentChanges.addLast(new RecordedChange(now, change));
+            if (!rebuilding) {
+                trimRecentChanges(now);
+            }
+        }
+    }
+
+    private void trimRecentChanges(long now) {
+        long expiredBefore = now - REPLAY_MARGIN.toNanos();
+        while (!recentChanges.isEmpty() && recentChanges.peekFirst().recordedAt - expiredBefore < 0) {
+            recentChanges.removeFirst();
+        }
+    }
+
+    private static int memberBits(MemberRole role) {
+        if (role == null) {
+            return 0;
+        }
+        int bits = MEMBER_READ;
+        if (role.hasWriteAccess()) {
+            bits |= MEMBER_WRITE;
+        }
+        if (role.hasAdminAccess()) {
+            bits |= MEMBER_ADMIN;
+        }
+        return bits;
+    }
+
+    private static int shareBits(SharePermission permission) {
+        if (permission == null) {
+            return SHARE_READ;
+        }
+        return switch (permission) {
+            case READ_ONLY -> SHARE_READ;
+            case READ_WRITE -> SHARE_READ | SHARE_WRITE;
+            case ADMIN -> SHARE_READ | SHARE_WRITE | SHARE_ADMIN;
+        };
+    }
+
+    /**
+     * 기록된 변경 (System.nanoTime 기준 적용 시각)
+     */
+    @RequiredArgsConstructor
+    private static final class RecordedChange {
+        private final long recordedAt;
+        private final Consumer<LongPairIntMap> change;
+    }
+}
@@ -0,0 +1,122 @@
+package com.hamkkebu.boilerplate.common.ledger.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedger;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerBroadcastListener;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerChangeListener;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * 동기화된 가계부 읽기 캐시
+ *
+ * <p>SyncedLedger는 Kafka 이벤트로만 변경되므로, AbstractLedgerEventConsumer가 이벤트를 반영하면
+ * 해당 가계부와 소유자 키만 정확히 무효화합니다. (커밋 후, {@link SyncedLedgerChangeListener})</p>
+ *
+ * <p>주의:</p>
+ * <ul>
+ *   <li>엔티티가 아닌 불변 스냅샷({@link SyncedLedgerSnapshot})을 반환하므로 여러 요청이 공유해도 안전함
+ *       (변경이나 서비스별 추가 필드는 Repository로 조회)</li>
+ *   <li>캐시는 인스턴스별이므로, 다른 인스턴스가 반영한 변경은 AbstractSyncedLedgerBroadcastConsumer(인스턴스별 group)로
+ *       받아 무효화 ({@link SyncedLedgerBroadcastListener}, 즉시 + remoteInvalidationDelay 후 한 번 더).
+ *       broadcast consumer가 없으면 TTL 이후에 보임</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * {@literal @}Bean
+ * public SyncedLedgerCache{@literal <}Ledger{@literal >} ledgerCache(LedgerRepository ledgerRepository, MeterRegistry meterRegistry,
+ *         {@literal @}Value("${ledger.cache.ttl-seconds:60}") long ttlSeconds,
+ *         {@literal @}Value("${ledger.cache.remote-invalidation-delay-ms:2000}") long remoteInvalidationDelayMs) {
+ *     return new SyncedLedgerCache{@literal <}{@literal >}(ledgerRepository, meterRegistry, Duration.ofSeconds(ttlSeconds), 10_000,
+ *             Duration.ofMillis(remoteInvalidationDelayMs));
+ * }
+ *
+ * // Service
+ * SyncedLedgerSnapshot ledger = ledgerCache.findByLedgerId(ledgerId)
+ *         .orElseThrow(() -{@literal >} new BusinessException(ErrorCode.LEDGER_NOT_FOUND));
+ * </pre>
+ *
+ * @param <T> SyncedLedger를 상속받은 엔티티 타입
+ */
+public class SyncedLedgerCache<T extends SyncedLedger>
+        implements SyncedLedgerChangeListener, SyncedLedgerBroadcastListener {
+
+    private final SyncedLedgerRepository<T> ledgerRepository;
+    private final Cache<Long, Optional<SyncedLedgerSnapshot>> byLedgerId;
+    private final Cache<Long, List<SyncedLedgerSnapshot>> byUserId;
+    private final Executor delayedInvalidation;
+
+    public SyncedLedgerCache(SyncedLedgerRepository<T> ledgerRepository, MeterRegistry meterRegistry,
+                             Duration ttl, long maximumSize) {
+        this(ledgerRepository, meterRegistry, ttl, maximumSize,
+                SyncedReadCaches.DEFAULT_REMOTE_INVALIDATION_DELAY);
+    }
+
+    /**
+     * @param remoteInvalidationDelay broadcast 무효화 후 한 번 더 무효화하기까지의 지연 (0이면 재무효화하지 않음)
+     */
+    public SyncedLedgerCache(SyncedLedgerRepository<T> ledgerRepository, MeterRegistry meterRegistry,
+                             Duration ttl, long maximumSize, Duration remoteInvalidationDelay) {
+        this(ledgerRepository, meterRegistry, ttl, maximumSize,
+                SyncedReadCaches.delayedInvalidationExecutor(remoteInvalidationDelay));
+    }
+
+    SyncedLedgerCache(SyncedLedgerRepository<T> ledgerRepository, MeterRegistry meterRegistry,
+                      Duration ttl, long maximumSize, Executor delayedInvalidation) {
+        this.ledgerRepository = ledgerRepository;
+        this.delayedInvalidation = delayedInvalidation;
+        this.byLedgerId = SyncedReadCaches.build(meterRegistry, "synced.ledger.by-ledger", ttl, maximumSize);
+        this.byUserId = SyncedReadCaches.build(meterRegistry, "synced.ledger.by-user", ttl, maximumSize);
+    }
+
+    /**
+     * 가계부 조회 (삭제되지 않은 것만) - findByLedgerIdAndIsDeletedFalse
+     */
+    public Optional<SyncedLedgerSnapshot> findByLedgerId(Long ledgerId) {
+        return byLedgerId.get(ledgerId, key -> ledgerRepository.findByLedgerIdAndIsDeletedFalse(key)
+                .map(SyncedLedgerSnapshot::from));
+    }
+
+    /**
+     * 사용자의 가계부 목록 조회 (삭제되지 않은 것만) - findByUserIdAndIsDeletedFalse
+     *
+     * @return 읽기 전용 목록
+     */
+    public List<SyncedLedgerSnapshot> findByUserId(Long userId) {
+        return byUserId.get(userId, key -> ledgerRepository.findByUserIdAndIsDeletedFalse(key).stream()
+                .map(SyncedLedgerSnapshot::from)
+                .toList());
+    }
+
+    /**
+     * 전체 무효화 (수동 동기화/재처리 후)
+     */
+    public void invalidateAll() {
+        byLedgerId.invalidateAll();
+        byUserId.invalidateAll();
+    }
+
+    @Override
+    public void onLedgerChanged(SyncedLedger ledger) {
+        byLedgerId.invalidate(ledger.getLedgerId());
+        if (ledger.getUserId() != null) {
+            byUserId.invalidate(ledger.getUserId());
+        }
+    }
+
+    @Override
+    public void onLedgerEvent(long ledgerId, Long ownerId, boolean deleted) {
+        SyncedReadCaches.invalidateNowAndLater(() -> {
+            byLedgerId.invalidate(ledgerId);
+            if (ownerId != null) {
+                byUserId.invalidate(ownerId);
+            }
+        }, delayedInvalidation);
+    }
+}
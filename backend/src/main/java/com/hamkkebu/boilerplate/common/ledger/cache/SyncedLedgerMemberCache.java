@@ -0,0 +1,114 @@
+package com.hamkkebu.boilerplate.common.ledger.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerMember;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerBroadcastListener;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerChangeListener;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 동기화된 가계부 멤버 읽기 캐시
+ *
+ * <p>AbstractLedgerMemberEventConsumer가 멤버 추가/역할 변경/제거를 반영하면
+ * 해당 가계부와 계정 키만 무효화합니다. (커밋 후)</p>
+ *
+ * <p>엔티티 대신 불변 스냅샷({@link SyncedLedgerMemberSnapshot})을 보관합니다. 캐시는 인스턴스별이므로 다른 인스턴스가 반영한 변경은
+ * AbstractSyncedLedgerBroadcastConsumer로 받아 같은 키를 무효화합니다. (즉시 + remoteInvalidationDelay 후 한 번 더)</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * {@literal @}Bean
+ * public SyncedLedgerMemberCache{@literal <}LedgerMember{@literal >} ledgerMemberCache(LedgerMemberRepository repository,
+ *                                                                 MeterRegistry meterRegistry) {
+ *     return new SyncedLedgerMemberCache{@literal <}{@literal >}(repository, meterRegistry, Duration.ofSeconds(60), 10_000,
+ *             Duration.ofSeconds(2));
+ * }
+ * </pre>
+ *
+ * @param <T> SyncedLedgerMember를 상속받은 엔티티 타입
+ */
+public class SyncedLedgerMemberCache<T extends SyncedLedgerMember>
+        implements SyncedLedgerChangeListener, SyncedLedgerBroadcastListener {
+
+    private final SyncedLedgerMemberRepository<T> ledgerMemberRepository;
+    private final Cache<Long, List<SyncedLedgerMemberSnapshot>> byLedgerId;
+    private final Cache<Long, List<SyncedLedgerMemberSnapshot>> byAccountId;
+    private final Executor delayedInvalidation;
+
+    public SyncedLedgerMemberCache(SyncedLedgerMemberRepository<T> ledgerMemberRepository, MeterRegistry meterRegistry,
+                                   Duration ttl, long maximumSize) {
+        this(ledgerMemberRepository, meterRegistry, ttl, maximumSize,
+                SyncedReadCaches.DEFAULT_REMOTE_INVALIDATION_DELAY);
+    }
+
+    /**
+     * @param remoteInvalidationDelay broadcast 무효화 후 한 번 더 무효화하기까지의 지연 (0이면 재무효화하지 않음)
+     */
+    public SyncedLedgerMemberCache(SyncedLedgerMemberRepository<T> ledgerMemberRepository, MeterRegistry meterRegistry,
+                                   Duration ttl, long maximumSize, Duration remoteInvalidationDelay) {
+        this(ledgerMemberRepository, meterRegistry, ttl, maximumSize,
+                SyncedReadCaches.delayedInvalidationExecutor(remoteInvalidationDelay));
+    }
+
+    SyncedLedgerMemberCache(SyncedLedgerMemberRepository<T> ledgerMemberRepository, MeterRegistry meterRegistry,
+                            Duration ttl, long maximumSize, Executor delayedInvalidation) {
+        this.ledgerMemberRepository = ledgerMemberRepository;
+        this.delayedInvalidation = delayedInvalidation;
+        this.byLedgerId = SyncedReadCaches.build(meterRegistry, "synced.ledger-member.by-ledger", ttl, maximumSize);
+        this.byAccountId = SyncedReadCaches.build(meterRegistry, "synced.ledger-member.by-account", ttl, maximumSize);
+    }
+
+    /**
+     * 가계부의 멤버 목록 조회 (삭제되지 않은 것만) - findByLedgerIdAndIsDeletedFalse
+     *
+     * @return 읽기 전용 목록
+     */
+    public List<SyncedLedgerMemberSnapshot> findByLedgerId(Long ledgerId) {
+        return byLedgerId.get(ledgerId, key -> snapshots(ledgerMemberRepository.findByLedgerIdAndIsDeletedFalse(key)));
+    }
+
+    /**
+     * 계정의 멤버십 목록 조회 (삭제되지 않은 것만) - findByAccountIdAndIsDeletedFalse
+     *
+     * @return 읽기 전용 목록
+     */
+    public List<SyncedLedgerMemberSnapshot> findByAccountId(Long accountId) {
+        return byAccountId.get(accountId, key -> snapshots(ledgerMemberRepository.findByAccountIdAndIsDeletedFalse(key)));
+    }
+
+    /**
+     * 전체 무효화 (수동 동기화/재처리 후)
+     */
+    public void invalidateAll() {
+        byLedgerId.invalidateAll();
+        byAccountId.invalidateAll();
+    }
+
+    @Override
+    public void onLedgerMemberChanged(SyncedLedgerMember member) {
+        if (member.getLedgerId() != null) {
+            byLedgerId.invalidate(member.getLedgerId());
+        }
+        if (member.getAccountId() != null) {
+            byAccountId.invalidate(member.getAccountId());
+        }
+    }
+
+    @Override
+    public void onLedgerMemberEvent(long ledgerId, long accountId, MemberRole role) {
+        SyncedReadCaches.invalidateNowAndLater(() -> {
+            byLedgerId.invalidate(ledgerId);
+            byAccountId.invalidate(accountId);
+        }, delayedInvalidation);
+    }
+
+    private static List<SyncedLedgerMemberSnapshot> snapshots(List<? extends SyncedLedgerMember> members) {
+        return members.stream().map(SyncedLedgerMemberSnapshot::from).toList();
+    }
+}
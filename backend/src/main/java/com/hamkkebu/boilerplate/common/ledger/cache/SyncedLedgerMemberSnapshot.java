@@ -0,0 +1,62 @@
+package com.hamkkebu.boilerplate.common.ledger.cache;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerMember;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link SyncedLedgerMemberCache}가 보관하는 가계부 멤버 불변 스냅샷
+ *
+ * <p>멤버 목록은 권한 확인마다 여러 스레드에서 읽히므로, 영속성 컨텍스트와 분리된 값 객체로 보관합니다.</p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SyncedLedgerMemberSnapshot {
+
+    private final Long ledgerMemberId;
+    private final Long ledgerId;
+    private final Long accountId;
+    private final MemberRole role;
+    private final LocalDateTime joinedAt;
+
+    public static SyncedLedgerMemberSnapshot from(SyncedLedgerMember member) {
+        return new SyncedLedgerMemberSnapshot(member.getLedgerMemberId(), member.getLedgerId(),
+                member.getAccountId(), member.getRole(), member.getJoinedAt());
+    }
+
+    /**
+     * 멤버가 특정 역할을 가지고 있는지 확인
+     */
+    public boolean hasRole(MemberRole role) {
+        return this.role != null && this.role.equals(role);
+    }
+
+    /**
+     * 쓰기 권한 여부
+     */
+    public boolean hasWriteAccess() {
+        return this.role != null && this.role.hasWriteAccess();
+    }
+
+    /**
+     * 관리자 권한 여부
+     */
+    public boolean hasAdminAccess() {
+        return this.role != null && this.role.hasAdminAccess();
+    }
+
+    /**
+     * 소유자 여부
+     */
+    public boolean isOwner() {
+        return this.role == MemberRole.OWNER;
+    }
+}
@@ -0,0 +1,139 @@
+package com.hamkkebu.boilerplate.common.ledger.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+import com.hamkkebu.boilerplate.common.enums.ShareStatus;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerShare;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerBroadcastListener;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerChangeListener;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerShareRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 동기화된 가계부 공유 읽기 캐시
+ *
+ * <p>AbstractLedgerShareEventConsumer가 공유 생성/수락/거절/삭제를 반영하면
+ * 해당 가계부 키와 수신자의 모든 상태 키를 무효화합니다. (상태 전이로 목록이 바뀌므로, 커밋 후)</p>
+ *
+ * <p>엔티티 대신 불변 스냅샷({@link SyncedLedgerShareSnapshot})을 보관합니다. 캐시는 인스턴스별이므로 다른 인스턴스가 반영한 변경은
+ * AbstractSyncedLedgerBroadcastConsumer로 받아 같은 키를 무효화합니다. (즉시 + remoteInvalidationDelay 후 한 번 더)</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * {@literal @}Bean
+ * public SyncedLedgerShareCache{@literal <}LedgerShare{@literal >} ledgerShareCache(LedgerShareRepository repository,
+ *                                                              MeterRegistry meterRegistry) {
+ *     return new SyncedLedgerShareCache{@literal <}{@literal >}(repository, meterRegistry, Duration.ofSeconds(60), 10_000,
+ *             Duration.ofSeconds(2));
+ * }
+ *
+ * // 공유받은 가계부 목록
+ * List{@literal <}SyncedLedgerShareSnapshot{@literal >} shares = ledgerShareCache.findBySharedUserIdAndStatus(userId, ShareStatus.ACCEPTED);
+ * </pre>
+ *
+ * @param <T> SyncedLedgerShare를 상속받은 엔티티 타입
+ */
+public class SyncedLedgerShareCache<T extends SyncedLedgerShare>
+        implements SyncedLedgerChangeListener, SyncedLedgerBroadcastListener {
+
+    private final SyncedLedgerShareRepository<T> ledgerShareRepository;
+    private final Cache<Long, List<SyncedLedgerShareSnapshot>> byLedgerId;
+    private final Cache<SharedUserKey, List<SyncedLedgerShareSnapshot>> bySharedUser;
+    private final Executor delayedInvalidation;
+
+    public SyncedLedgerShareCache(SyncedLedgerShareRepository<T> ledgerShareRepository, MeterRegistry meterRegistry,
+                                  Duration ttl, long maximumSize) {
+        this(ledgerShareRepository, meterRegistry, ttl, maximumSize,
+                SyncedReadCaches.DEFAULT_REMOTE_INVALIDATION_DELAY);
+    }
+
+    /**
+     * @param remoteInvalidationDelay broadcast 무효화 후 한 번 더 무효화하기까지의 지연 (0이면 재무효화하지 않음)
+     */
+    public SyncedLedgerShareCache(SyncedLedgerShareRepository<T> ledgerShareRepository, MeterRegistry meterRegistry,
+                                  Duration ttl, long maximumSize, Duration remoteInvalidationDelay) {
+        this(ledgerShareRepository, meterRegistry, ttl, maximumSize,
+                SyncedReadCaches.delayedInvalidationExecutor(remoteInvalidationDelay));
+    }
+
+    SyncedLedgerShareCache(SyncedLedgerShareRepository<T> ledgerShareRepository, MeterRegistry meterRegistry,
+                           Duration ttl, long maximumSize, Executor delayedInvalidation) {
+        this.ledgerShareRepository = ledgerShareRepository;
+        this.delayedInvalidation = delayedInvalidation;
+        this.byLedgerId = SyncedReadCaches.build(meterRegistry, "synced.ledger-share.by-ledger", ttl, maximumSize);
+        this.bySharedUser = SyncedReadCaches.build(meterRegistry, "synced.ledger-share.by-shared-user", ttl, maximumSize);
+    }
+
+    /**
+     * 가계부의 공유 목록 조회 (삭제되지 않은 것만) - findByLedgerIdAndIsDeletedFalse
+     *
+     * @return 읽기 전용 목록
+     */
+    public List<SyncedLedgerShareSnapshot> findByLedgerId(Long ledgerId) {
+        return byLedgerId.get(ledgerId, key -> snapshots(ledgerShareRepository.findByLedgerIdAndIsDeletedFalse(key)));
+    }
+
+    /**
+     * 수신자의 상태별 공유 목록 조회 (삭제되지 않은 것만) - findBySharedUserIdAndStatusAndIsDeletedFalse
+     *
+     * @return 읽기 전용 목록
+     */
+    public List<SyncedLedgerShareSnapshot> findBySharedUserIdAndStatus(Long sharedUserId, ShareStatus status) {
+        return bySharedUser.get(new SharedUserKey(sharedUserId, status), key -> snapshots(
+                ledgerShareRepository.findBySharedUserIdAndStatusAndIsDeletedFalse(key.sharedUserId, key.status)));
+    }
+
+    /**
+     * 전체 무효화 (수동 동기화/재처리 후)
+     */
+    public void invalidateAll() {
+        byLedgerId.invalidateAll();
+        bySharedUser.invalidateAll();
+    }
+
+    @Override
+    public void onLedgerShareChanged(SyncedLedgerShare share) {
+        if (share.getLedgerId() != null) {
+            byLedgerId.invalidate(share.getLedgerId());
+        }
+        if (share.getSharedUserId() != null) {
+            invalidateSharedUser(share.getSharedUserId());
+        }
+    }
+
+    @Override
+    public void onLedgerShareEvent(long ledgerId, Long sharedUserId, SharePermission activePermission) {
+        SyncedReadCaches.invalidateNowAndLater(() -> {
+            byLedgerId.invalidate(ledgerId);
+            if (sharedUserId != null) {
+                invalidateSharedUser(sharedUserId);
+            }
+        }, delayedInvalidation);
+    }
+
+    private static List<SyncedLedgerShareSnapshot> snapshots(List<? extends SyncedLedgerShare> shares) {
+        return shares.stream().map(SyncedLedgerShareSnapshot::from).toList();
+    }
+
+    private void invalidateSharedUser(Long sharedUserId) {
+        for (ShareStatus status : ShareStatus.values()) {
+            bySharedUser.invalidate(new SharedUserKey(sharedUserId, status));
+        }
+    }
+
+    /**
+     * 수신자 + 상태 캐시 키
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class SharedUserKey {
+        private final Long sharedUserId;
+        private final ShareStatus status;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hamkkebu.boilerplate.common.ledger.cache;
+
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+import com.hamkkebu.boilerplate.common.enums.ShareStatus;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerShare;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link SyncedLedgerShareCache}가 보관하는 가계부 공유 불변 스냅샷
+ *
+ * <p>조회 시점의 공유 상태를 복사한 값 객체입니다. 수락/거절 같은 상태 변경은 Repository로 엔티티를 조회한 뒤 수행하세요.</p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SyncedLedgerShareSnapshot {
+
+    private final Long ledgerShareId;
+    private final Long ledgerId;
+    private final Long ownerId;
+    private final Long sharedUserId;
+    private final ShareStatus status;
+    private final SharePermission permission;
+    private final LocalDateTime sharedAt;
+    private final LocalDateTime acceptedAt;
+    private final String rejectionReason;
+
+    public static SyncedLedgerShareSnapshot from(SyncedLedgerShare share) {
+        return new SyncedLedgerShareSnapshot(share.getLedgerShareId(), share.getLedgerId(), share.getOwnerId(),
+                share.getSharedUserId(), share.getStatus(), share.getPermission(), share.getSharedAt(),
+                share.getAcceptedAt(), share.getRejectionReason());
+    }
+
+    /**
+     * 수락 상태 여부
+     */
+    public boolean isAccepted() {
+        return ShareStatus.ACCEPTED.equals(this.status);
+    }
+
+    /**
+     * 특정 사용자가 이 공유의 소유자인지 확인
+     */
+    public boolean isOwnedBy(Long userId) {
+        return this.ownerId != null && this.ownerId.equals(userId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.hamkkebu.boilerplate.common.ledger.cache;
+
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedger;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * {@link SyncedLedgerCache}가 보관하는 가계부 불변 스냅샷
+ *
+ * <p>캐시 항목은 여러 요청/스레드가 공유하므로 JPA 엔티티 대신 조회 시점의 값만 복사해 둡니다.
+ * 서비스별 추가 필드나 변경이 필요하면 Repository로 엔티티를 조회하세요.</p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SyncedLedgerSnapshot {
+
+    private final Long ledgerId;
+    private final Long userId;
+    private final String name;
+    private final String description;
+    private final String currency;
+    private final Boolean isDefault;
+
+    public static SyncedLedgerSnapshot from(SyncedLedger ledger) {
+        return new SyncedLedgerSnapshot(ledger.getLedgerId(), ledger.getUserId(), ledger.getName(),
+                ledger.getDescription(), ledger.getCurrency(), ledger.getIsDefault());
+    }
+
+    /**
+     * 가계부가 특정 사용자의 소유인지 확인
+     */
+    public boolean isOwnedBy(Long userId) {
+        return this.userId != null && this.userId.equals(userId);
+    }
+}
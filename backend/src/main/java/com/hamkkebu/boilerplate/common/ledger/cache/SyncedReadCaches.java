@@ -0,0 +1,68 @@
+package com.hamkkebu.boilerplate.common.ledger.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synced* 읽기 캐시 생성 유틸리티
+ *
+ * <p>크기/TTL 제한과 hit ratio 메트릭(cache.gets, cache.evictions 등)을 공통으로 적용합니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SyncedReadCaches {
+
+    /**
+     * broadcast 무효화 후 한 번 더 무효화하기까지의 기본 지연
+     *
+     * <p>broadcast 이벤트는 이벤트를 처리하는 인스턴스의 커밋보다 먼저 도착할 수 있고, 그 사이에 읽은 이전 값이
+     * 다시 캐싱될 수 있습니다. 커밋이 끝났을 시점에 한 번 더 무효화하여 stale 기간을 TTL이 아닌 이 지연으로 줄입니다.
+     * 캐시 생성자의 remoteInvalidationDelay로 바꿀 수 있으며, 0이면 재무효화하지 않습니다.</p>
+     */
+    static final Duration DEFAULT_REMOTE_INVALIDATION_DELAY = Duration.ofSeconds(2);
+
+    /**
+     * 캐시 생성 및 메트릭 등록
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @param name          캐시 이름 (메트릭 태그 cache=name)
+     * @param ttl           최대 보관 시간 (broadcast 무효화를 받지 못한 경우의 최대 stale 기간)
+     * @param maximumSize   최대 항목 수
+     */
+    static <K, V> Cache<K, V> build(MeterRegistry meterRegistry, String name, Duration ttl, long maximumSize) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return cache;
+    }
+
+    /**
+     * 지연 무효화용 Executor (delay 후 실행, 0 이하면 실행하지 않음)
+     */
+    static Executor delayedInvalidationExecutor(Duration delay) {
+        if (delay.isZero() || delay.isNegative()) {
+            return invalidation -> {
+            };
+        }
+        return CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * broadcast 무효화 (즉시 + 지연 후 한 번 더)
+     */
+    static void invalidateNowAndLater(Runnable invalidation, Executor delayedInvalidation) {
+        invalidation.run();
+        delayedInvalidation.execute(invalidation);
+    }
+}
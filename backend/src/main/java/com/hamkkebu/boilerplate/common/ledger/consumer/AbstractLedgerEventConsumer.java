@@ -4,11 +4,15 @@ import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedger;
 import com.hamkkebu.boilerplate.common.ledger.event.LedgerCreatedEvent;
 import com.hamkkebu.boilerplate.common.ledger.event.LedgerDeletedEvent;
 import com.hamkkebu.boilerplate.common.ledger.event.LedgerUpdatedEvent;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerChangeListener;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerChangeNotifier;
 import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -65,6 +69,18 @@ public abstract class AbstractLedgerEventConsumer<T extends SyncedLedger> {
 
     private final SyncedLedgerRepository<T> ledgerRepository;
 
+    private final SyncedLedgerChangeNotifier changeNotifier = new SyncedLedgerChangeNotifier();
+
+    /**
+     * 변경 리스너 등록 (Bean으로 등록된 {@link SyncedLedgerChangeListener}가 자동 주입됨)
+     *
+     * <p>리스너는 이벤트 반영 트랜잭션이 커밋된 뒤 호출됩니다. (캐시 무효화, 권한 인덱스 갱신 등)</p>
+     */
+    @Autowired(required = false)
+    public void setChangeListeners(List<SyncedLedgerChangeListener> changeListeners) {
+        changeNotifier.setListeners(changeListeners);
+    }
+
     /**
      * 가계부 이벤트 처리 (서브클래스에서 KafkaListener와 함께 호출)
      *
@@ -110,6 +126,7 @@ public abstract class AbstractLedgerEventConsumer<T extends SyncedLedger> {
         // 가계부 엔티티 생성 및 저장
         T ledger = createLedgerEntity(eventData);
         ledgerRepository.save(ledger);
+        notifyChanged(ledger);
         log.info("[Kafka Consumer] Ledger synced successfully: ledgerId={}, name={}",
                 ledger.getLedgerId(), ledger.getName());
     }
@@ -130,12 +147,14 @@ public abstract class AbstractLedgerEventConsumer<T extends SyncedLedger> {
                             extractBoolean(eventData, "isDefault")
                     );
                     ledgerRepository.save(ledger);
+                    notifyChanged(ledger);
                     log.info("[Kafka Consumer] Ledger updated successfully: ledgerId={}", ledgerId);
                 },
                 () -> {
                     // 없으면 새로 생성
                     T ledger = createLedgerEntity(eventData);
                     ledgerRepository.save(ledger);
+                    notifyChanged(ledger);
                     log.info("[Kafka Consumer] Ledger created from update event: ledgerId={}", ledgerId);
                 }
         );
@@ -152,6 +171,7 @@ public abstract class AbstractLedgerEventConsumer<T extends SyncedLedger> {
                 ledger -> {
                     ledger.delete();
                     ledgerRepository.save(ledger);
+                    notifyChanged(ledger);
                     log.info("[Kafka Consumer] Ledger deleted successfully: ledgerId={}", ledgerId);
                 },
                 () -> log.warn("[Kafka Consumer] Ledger not found for deletion: ledgerId={}", ledgerId)
@@ -208,6 +228,13 @@ public abstract class AbstractLedgerEventConsumer<T extends SyncedLedger> {
         return false;
     }
 
+    /**
+     * 변경 리스너 통지 (커밋 후)
+     */
+    private void notifyChanged(T ledger) {
+        changeNotifier.notifyAfterCommit(listener -> listener.onLedgerChanged(ledger));
+    }
+
     /**
      * 가계부 엔티티 생성 (서비스별 구현 필요)
      *
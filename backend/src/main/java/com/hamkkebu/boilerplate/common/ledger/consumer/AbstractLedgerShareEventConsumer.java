@@ -7,13 +7,21 @@ import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareAcceptedEvent;
 import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareCreatedEvent;
 import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareDeletedEvent;
 import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareRejectedEvent;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerChangeListener;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerChangeNotifier;
 import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerShareRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -71,6 +79,41 @@ public abstract class AbstractLedgerShareEventConsumer<T extends SyncedLedgerSha
 
     private final SyncedLedgerShareRepository<T> ledgerShareRepository;
 
+    private final SyncedLedgerChangeNotifier changeNotifier = new SyncedLedgerChangeNotifier();
+
+    private TransactionTemplate insertTransactionTemplate;
+
+    /**
+     * 변경 리스너 등록 (Bean으로 등록된 {@link SyncedLedgerChangeListener}가 자동 주입됨)
+     *
+     * <p>리스너는 이벤트 반영 트랜잭션이 커밋된 뒤 호출됩니다. (캐시 무효화, 권한 인덱스 갱신 등)</p>
+     */
+    @Autowired(required = false)
+    public void setChangeListeners(List<SyncedLedgerChangeListener> changeListeners) {
+        changeNotifier.setListeners(changeListeners);
+    }
+
+    /**
+     * 신규 엔티티 INSERT용 트랜잭션 매니저 등록 (단일 Bean이 있으면 자동 주입)
+     *
+     * <p>INSERT는 별도 트랜잭션(REQUIRES_NEW)에서 즉시 flush합니다. 동시에 처리된 중복 이벤트의 키 충돌이
+     * 이벤트 처리 트랜잭션을 rollback-only로 만들지 않고 이 클래스에서 무시됩니다.
+     * 트랜잭션 매니저가 없으면 현재 트랜잭션에서 saveAndFlush합니다.</p>
+     *
+     * <p>REQUIRES_NEW 동안 이벤트 처리 트랜잭션의 커넥션도 유지되므로 Consumer 스레드당 커넥션 2개가 필요합니다.
+     * Consumer 커넥션 풀(datasource.pools.kafka-consumer)은 listener concurrency x 2 이상으로 설정합니다.</p>
+     */
+    @Autowired
+    public void setTransactionManager(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        PlatformTransactionManager manager = transactionManager.getIfUnique();
+        if (manager == null) {
+            return;
+        }
+        TransactionTemplate template = new TransactionTemplate(manager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.insertTransactionTemplate = template;
+    }
+
     /**
      * 가계부 공유 이벤트 처리 (서브클래스에서 KafkaListener와 함께 호출)
      *
@@ -110,7 +153,8 @@ public abstract class AbstractLedgerShareEventConsumer<T extends SyncedLedgerSha
     /**
      * LEDGER_SHARE_CREATED 이벤트 처리
      *
-     * <p>멱등성 보장: 중복 이벤트 수신 시 DataIntegrityViolationException을 catch하여 무시합니다.</p>
+     * <p>멱등성 보장: 중복 이벤트 수신 시 DataIntegrityViolationException을 catch하여 무시합니다.
+     * ID를 할당받는 엔티티는 INSERT가 커밋 시점까지 지연되므로 {@link #insertNew}에서 즉시 flush합니다.</p>
      */
     private void handleLedgerShareCreated(Map<String, Object> eventData) {
         Long ledgerShareId = extractLedgerShareId(eventData);
@@ -131,6 +175,7 @@ public abstract class AbstractLedgerShareEventConsumer<T extends SyncedLedgerSha
                 SharePermission permission = extractPermission(eventData);
                 share.updateFromEvent(status, permission, LocalDateTime.now());
                 ledgerShareRepository.save(share);
+                notifyChanged(share);
                 log.info("[Kafka Consumer] Ledger share restored: shareId={}, ledgerId={}, sharedUserId={}",
                         ledgerShareId, ledgerId, sharedUserId);
             } else {
@@ -142,7 +187,8 @@ public abstract class AbstractLedgerShareEventConsumer<T extends SyncedLedgerSha
         // 공유 엔티티 생성 및 저장 (race condition 대비 try-catch)
         try {
             T share = createLedgerShareEntity(eventData);
-            ledgerShareRepository.save(share);
+            insertNew(share);
+            notifyChanged(share);
             log.info("[Kafka Consumer] Ledger share synced successfully: shareId={}, ledgerId={}, sharedUserId={}",
                     ledgerShareId, ledgerId, sharedUserId);
         } catch (DataIntegrityViolationException e) {
@@ -169,6 +215,7 @@ public abstract class AbstractLedgerShareEventConsumer<T extends SyncedLedgerSha
                     }
                     share.updateFromEvent(ShareStatus.ACCEPTED, share.getPermission(), LocalDateTime.now());
                     ledgerShareRepository.save(share);
+                    notifyChanged(share);
                     log.info("[Kafka Consumer] Ledger share accepted successfully: shareId={}", ledgerShareId);
                 },
                 () -> log.warn("[Kafka Consumer] Ledger share not found for acceptance: shareId={}", ledgerShareId)
@@ -193,6 +240,7 @@ public abstract class AbstractLedgerShareEventConsumer<T extends SyncedLedgerSha
                     }
                     share.updateFromEvent(ShareStatus.REJECTED, share.getPermission(), null);
                     ledgerShareRepository.save(share);
+                    notifyChanged(share);
                     log.info("[Kafka Consumer] Ledger share rejected successfully: shareId={}", ledgerShareId);
                 },
                 () -> log.warn("[Kafka Consumer] Ledger share not found for rejection: shareId={}", ledgerShareId)
@@ -217,6 +265,7 @@ public abstract class AbstractLedgerShareEventConsumer<T extends SyncedLedgerSha
                     }
                     share.delete();
                     ledgerShareRepository.save(share);
+                    notifyChanged(share);
                     log.info("[Kafka Consumer] Ledger share deleted successfully: shareId={}", ledgerShareId);
                 },
                 () -> log.warn("[Kafka Consumer] Ledger share not found for deletion: shareId={}", ledgerShareId)
@@ -327,6 +376,25 @@ public abstract class AbstractLedgerShareEventConsumer<T extends SyncedLedgerSha
         throw new IllegalArgumentException("Invalid " + key + " type: " + value.getClass().getSimpleName());
     }
 
+    /**
+     * 신규 엔티티 INSERT (즉시 flush, 키 충돌 시 DataIntegrityViolationException)
+     */
+    private void insertNew(T share) {
+        TransactionTemplate template = insertTransactionTemplate;
+        if (template == null) {
+            ledgerShareRepository.saveAndFlush(share);
+            return;
+        }
+        template.executeWithoutResult(status -> ledgerShareRepository.saveAndFlush(share));
+    }
+
+    /**
+     * 변경 리스너 통지 (커밋 후)
+     */
+    private void notifyChanged(T share) {
+        changeNotifier.notifyAfterCommit(listener -> listener.onLedgerShareChanged(share));
+    }
+
     /**
      * 가계부 공유 엔티티 생성 (서비스별 구현 필요)
      *
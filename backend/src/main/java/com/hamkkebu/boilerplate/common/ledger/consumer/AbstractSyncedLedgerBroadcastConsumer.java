@@ -0,0 +1,248 @@
+package com.hamkkebu.boilerplate.common.ledger.consumer;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+import com.hamkkebu.boilerplate.common.enums.ShareStatus;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerShare;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerCreatedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerDeletedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerMemberAddedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerMemberRemovedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerMemberRoleChangedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareAcceptedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareCreatedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareDeletedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareRejectedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerUpdatedEvent;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerBroadcastListener;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerShareRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 가계부/멤버/공유 이벤트 인스턴스별(broadcast) Kafka Consumer 추상 클래스
+ *
+ * <p>Abstract*EventConsumer는 Consumer Group을 공유하므로 다른 인스턴스가 처리한 이벤트는
+ * 이 인스턴스의 캐시와 권한 인덱스에 반영되지 않습니다. 이 Consumer는 인스턴스마다 고유한 groupId로
+ * 같은 토픽을 구독하여, 모든 인스턴스의 {@link SyncedLedgerBroadcastListener}에 변경을 전달합니다.</p>
+ *
+ * <ul>
+ *   <li>DB에 쓰지 않음 (동기화는 기존 Abstract*EventConsumer가 담당)</li>
+ *   <li>이벤트에 있는 값만 전달 (수락 공유의 권한, 삭제된 공유의 수신자만 공유 ID로 조회)</li>
+ *   <li>새 인스턴스는 최신 offset부터 수신 (기존 상태는 캐시 로딩/인덱스 구축으로 반영)</li>
+ *   <li>형식 오류 이벤트와 리스너 예외는 로그만 남기고 건너뜀 (재시도 없음)</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * {@code
+ * @Component
+ * public class LedgerBroadcastConsumer extends AbstractSyncedLedgerBroadcastConsumer {
+ *
+ *     public LedgerBroadcastConsumer(LedgerShareRepository ledgerShareRepository) {
+ *         super(ledgerShareRepository);
+ *     }
+ *
+ *     @KafkaListener(
+ *             topics = "${kafka.topics.ledger-member-events:ledger-member.events}",
+ *             groupId = "#{'transaction-service-ledger-broadcast-' + T(java.util.UUID).randomUUID()}",
+ *             properties = "auto.offset.reset=latest",
+ *             containerFactory = "transactionKafkaListenerContainerFactory"
+ *     )
+ *     public void onLedgerMemberEvent(Map<String, Object> eventData) {
+ *         processLedgerMemberBroadcast(eventData);
+ *     }
+ *
+ *     // ledger.events → processLedgerBroadcast, ledger-share.events → processLedgerShareBroadcast
+ * }
+ * }
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public abstract class AbstractSyncedLedgerBroadcastConsumer {
+
+    private final SyncedLedgerShareRepository<? extends SyncedLedgerShare> ledgerShareRepository;
+
+    private volatile List<SyncedLedgerBroadcastListener> listeners = List.of();
+
+    /**
+     * 리스너 등록 (Bean으로 등록된 {@link SyncedLedgerBroadcastListener}가 자동 주입됨)
+     */
+    @Autowired(required = false)
+    public void setBroadcastListeners(List<SyncedLedgerBroadcastListener> broadcastListeners) {
+        this.listeners = broadcastListeners != null ? List.copyOf(broadcastListeners) : List.of();
+    }
+
+    /**
+     * 가계부 이벤트 전달 (LEDGER_CREATED / LEDGER_UPDATED / LEDGER_DELETED)
+     */
+    protected void processLedgerBroadcast(Map<String, Object> eventData) {
+        String eventType = (String) eventData.get("eventType");
+        try {
+            if (LedgerCreatedEvent.EVENT_TYPE.equals(eventType) || LedgerUpdatedEvent.EVENT_TYPE.equals(eventType)) {
+                long ledgerId = extractLong(eventData, "ledgerId");
+                Long ownerId = extractOptionalLong(eventData, "userId");
+                notifyListeners(listener -> listener.onLedgerEvent(ledgerId, ownerId, false));
+            } else if (LedgerDeletedEvent.EVENT_TYPE.equals(eventType)) {
+                long ledgerId = extractLong(eventData, "ledgerId");
+                Long ownerId = extractOptionalLong(eventData, "userId");
+                notifyListeners(listener -> listener.onLedgerEvent(ledgerId, ownerId, true));
+            }
+        } catch (IllegalArgumentException e) {
+            logSkipped(eventType, eventData, e);
+        }
+    }
+
+    /**
+     * 가계부 멤버 이벤트 전달 (LEDGER_MEMBER_ADDED / ROLE_CHANGED / REMOVED)
+     *
+     * <p>역할은 AbstractLedgerMemberEventConsumer가 DB에 저장하는 값과 같은 규칙으로 추출합니다.</p>
+     */
+    protected void processLedgerMemberBroadcast(Map<String, Object> eventData) {
+        String eventType = (String) eventData.get("eventType");
+        try {
+            if (LedgerMemberAddedEvent.EVENT_TYPE.equals(eventType)
+                    || LedgerMemberRoleChangedEvent.EVENT_TYPE.equals(eventType)) {
+                long ledgerId = extractLong(eventData, "ledgerId");
+                long accountId = extractLong(eventData, "accountId");
+                MemberRole role = extractRole(eventData);
+                notifyListeners(listener -> listener.onLedgerMemberEvent(ledgerId, accountId, role));
+            } else if (LedgerMemberRemovedEvent.EVENT_TYPE.equals(eventType)) {
+                long ledgerId = extractLong(eventData, "ledgerId");
+                long accountId = extractLong(eventData, "accountId");
+                notifyListeners(listener -> listener.onLedgerMemberEvent(ledgerId, accountId, null));
+            }
+        } catch (IllegalArgumentException e) {
+            logSkipped(eventType, eventData, e);
+        }
+    }
+
+    /**
+     * 가계부 공유 이벤트 전달 (LEDGER_SHARE_CREATED / ACCEPTED / REJECTED / DELETED)
+     *
+     * <p>ACCEPTED 이벤트에는 권한이, DELETED 이벤트에는 수신자가 없으므로 공유 ID로 조회합니다.
+     * (생성 시 정해지는 값이라 다른 인스턴스의 반영 여부와 무관, 조회되지 않으면 권한은 READ_ONLY로 간주)</p>
+     */
+    protected void processLedgerShareBroadcast(Map<String, Object> eventData) {
+        String eventType = (String) eventData.get("eventType");
+        try {
+            if (LedgerShareCreatedEvent.EVENT_TYPE.equals(eventType)) {
+                long ledgerId = extractLong(eventData, "ledgerId");
+                long sharedUserId = extractLong(eventData, "sharedUserId");
+                SharePermission permission = extractStatus(eventData) == ShareStatus.ACCEPTED
+                        ? extractPermission(eventData) : null;
+                notifyListeners(listener -> listener.onLedgerShareEvent(ledgerId, sharedUserId, permission));
+            } else if (LedgerShareAcceptedEvent.EVENT_TYPE.equals(eventType)) {
+                long ledgerId = extractLong(eventData, "ledgerId");
+                long sharedUserId = extractLong(eventData, "sharedUserId");
+                SharePermission permission = ledgerShareRepository.findById(extractLong(eventData, "ledgerShareId"))
+                        .map(SyncedLedgerShare::getPermission)
+                        .orElse(SharePermission.READ_ONLY);
+                notifyListeners(listener -> listener.onLedgerShareEvent(ledgerId, sharedUserId, permission));
+            } else if (LedgerShareRejectedEvent.EVENT_TYPE.equals(eventType)) {
+                long ledgerId = extractLong(eventData, "ledgerId");
+                long sharedUserId = extractLong(eventData, "sharedUserId");
+                notifyListeners(listener -> listener.onLedgerShareEvent(ledgerId, sharedUserId, null));
+            } else if (LedgerShareDeletedEvent.EVENT_TYPE.equals(eventType)) {
+                long ledgerId = extractLong(eventData, "ledgerId");
+                Long sharedUserId = ledgerShareRepository.findById(extractLong(eventData, "ledgerShareId"))
+                        .map(SyncedLedgerShare::getSharedUserId)
+                        .orElse(null);
+                notifyListeners(listener -> listener.onLedgerShareEvent(ledgerId, sharedUserId, null));
+            }
+        } catch (IllegalArgumentException e) {
+            logSkipped(eventType, eventData, e);
+        }
+    }
+
+    // ==================== 데이터 추출 유틸리티 ====================
+
+    private MemberRole extractRole(Map<String, Object> eventData) {
+        Object role = eventData.get("role");
+        if (role == null) {
+            return MemberRole.MEMBER;
+        }
+        try {
+            return MemberRole.valueOf(role.toString());
+        } catch (IllegalArgumentException e) {
+            return MemberRole.MEMBER;
+        }
+    }
+
+    private ShareStatus extractStatus(Map<String, Object> eventData) {
+        Object status = eventData.get("status");
+        if (status == null) {
+            return ShareStatus.PENDING;
+        }
+        try {
+            return ShareStatus.valueOf(status.toString());
+        } catch (IllegalArgumentException e) {
+            return ShareStatus.PENDING;
+        }
+    }
+
+    private SharePermission extractPermission(Map<String, Object> eventData) {
+        Object permission = eventData.get("permission");
+        if (permission == null) {
+            return SharePermission.READ_ONLY;
+        }
+        try {
+            return SharePermission.valueOf(permission.toString());
+        } catch (IllegalArgumentException e) {
+            return SharePermission.READ_ONLY;
+        }
+    }
+
+    /**
+     * 이벤트 데이터에서 Long 값 추출
+     *
+     * @throws IllegalArgumentException 값이 null이거나 유효하지 않은 형식인 경우
+     */
+    private long extractLong(Map<String, Object> eventData, String key) {
+        Long value = extractOptionalLong(eventData, key);
+        if (value == null) {
+            throw new IllegalArgumentException("Required field '" + key + "' is missing from event data");
+        }
+        return value;
+    }
+
+    private Long extractOptionalLong(Map<String, Object> eventData, String key) {
+        Object value = eventData.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + key + " format: " + value, e);
+            }
+        }
+        throw new IllegalArgumentException("Invalid " + key + " type: " + value.getClass().getSimpleName());
+    }
+
+    private void notifyListeners(Consumer<SyncedLedgerBroadcastListener> action) {
+        for (SyncedLedgerBroadcastListener listener : listeners) {
+            try {
+                action.accept(listener);
+            } catch (RuntimeException e) {
+                log.error("[Synced Ledger] Broadcast listener failed: listener={}, error={}",
+                        listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void logSkipped(String eventType, Map<String, Object> eventData, IllegalArgumentException e) {
+        log.warn("[Kafka Consumer] Skipping malformed broadcast event: eventType={}, eventId={}, error={}",
+                eventType, eventData.get("eventId"), e.getMessage());
+    }
+}
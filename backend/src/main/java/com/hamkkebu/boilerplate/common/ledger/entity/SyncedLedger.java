@@ -1,6 +1,7 @@
 package com.hamkkebu.boilerplate.common.ledger.entity;
 
-import com.hamkkebu.boilerplate.common.entity.BaseEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.hamkkebu.boilerplate.common.entity.AssignedIdEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,7 +31,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @MappedSuperclass
-public abstract class SyncedLedger extends BaseEntity {
+public abstract class SyncedLedger extends AssignedIdEntity {
 
     @Id
     @Column(name = "ledger_id", nullable = false)
@@ -53,6 +54,15 @@ public abstract class SyncedLedger extends BaseEntity {
     @Builder.Default
     private Boolean isDefault = false;
 
+    /**
+     * Persistable ID (이벤트로 전달받은 ID)
+     */
+    @JsonIgnore
+    @Override
+    public Long getId() {
+        return ledgerId;
+    }
+
     /**
      * 가계부 정보 업데이트 (이벤트로 받아온 정보로 갱신)
      *
@@ -1,6 +1,7 @@
 package com.hamkkebu.boilerplate.common.ledger.entity;
 
-import com.hamkkebu.boilerplate.common.entity.BaseEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.hamkkebu.boilerplate.common.entity.AssignedIdEntity;
 import com.hamkkebu.boilerplate.common.enums.MemberRole;
 import jakarta.persistence.*;
 import lombok.*;
@@ -30,10 +31,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @MappedSuperclass
-public abstract class SyncedLedgerMember extends BaseEntity {
+public abstract class SyncedLedgerMember extends AssignedIdEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "ledger_member_id", nullable = false)
     private Long ledgerMemberId;
 
@@ -52,6 +52,15 @@ public abstract class SyncedLedgerMember extends BaseEntity {
     @Builder.Default
     private LocalDateTime joinedAt = LocalDateTime.now();
 
+    /**
+     * Persistable ID (이벤트로 전달받은 ID)
+     */
+    @JsonIgnore
+    @Override
+    public Long getId() {
+        return ledgerMemberId;
+    }
+
     // ==================== 상태 확인 메서드 ====================
 
     /**
@@ -1,6 +1,7 @@
 package com.hamkkebu.boilerplate.common.ledger.entity;
 
-import com.hamkkebu.boilerplate.common.entity.BaseEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.hamkkebu.boilerplate.common.entity.AssignedIdEntity;
 import com.hamkkebu.boilerplate.common.enums.SharePermission;
 import com.hamkkebu.boilerplate.common.enums.ShareStatus;
 import jakarta.persistence.*;
@@ -34,10 +35,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @MappedSuperclass
-public abstract class SyncedLedgerShare extends BaseEntity {
+public abstract class SyncedLedgerShare extends AssignedIdEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "ledger_share_id", nullable = false)
     private Long ledgerShareId;
 
@@ -70,6 +70,15 @@ public abstract class SyncedLedgerShare extends BaseEntity {
     @Column(name = "rejection_reason", length = 500)
     private String rejectionReason;
 
+    /**
+     * Persistable ID (이벤트로 전달받은 ID)
+     */
+    @JsonIgnore
+    @Override
+    public Long getId() {
+        return ledgerShareId;
+    }
+
     // ==================== 상태 변경 메서드 ====================
 
     /**
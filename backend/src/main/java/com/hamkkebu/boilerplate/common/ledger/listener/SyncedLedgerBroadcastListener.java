@@ -0,0 +1,50 @@
+package com.hamkkebu.boilerplate.common.ledger.listener;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+
+/**
+ * 인스턴스별(broadcast) 가계부 이벤트 리스너
+ *
+ * <p>Abstract*EventConsumer는 Consumer Group을 공유하므로 이벤트를 한 인스턴스만 처리하고,
+ * {@link SyncedLedgerChangeListener}도 그 인스턴스에서만 호출됩니다.
+ * AbstractSyncedLedgerBroadcastConsumer는 인스턴스별 Consumer Group으로 같은 이벤트를 모든 인스턴스에서 받아
+ * 이 리스너에 키 단위로 전달합니다. (인스턴스별 캐시 무효화, 권한 인덱스 갱신)</p>
+ *
+ * <p>이벤트는 다른 인스턴스의 DB 반영(커밋)보다 먼저 도착할 수 있으므로, 전달된 값만 사용하고 DB를 다시 읽지 않습니다.</p>
+ *
+ * <p>리스너를 Spring Bean으로 등록하면 broadcast consumer에 자동으로 연결됩니다.
+ * 리스너 예외는 로그만 남깁니다.</p>
+ */
+public interface SyncedLedgerBroadcastListener {
+
+    /**
+     * 가계부 생성/수정/삭제 이벤트 수신 시 호출
+     *
+     * @param ledgerId 가계부 ID
+     * @param ownerId  소유자 ID (이벤트에 없으면 null)
+     * @param deleted  삭제 이벤트 여부
+     */
+    default void onLedgerEvent(long ledgerId, Long ownerId, boolean deleted) {
+    }
+
+    /**
+     * 가계부 멤버 추가/역할 변경/제거 이벤트 수신 시 호출
+     *
+     * @param ledgerId  가계부 ID
+     * @param accountId 계정 ID
+     * @param role      변경 후 역할 (제거되었으면 null)
+     */
+    default void onLedgerMemberEvent(long ledgerId, long accountId, MemberRole role) {
+    }
+
+    /**
+     * 가계부 공유 생성/수락/거절/삭제 이벤트 수신 시 호출
+     *
+     * @param ledgerId         가계부 ID
+     * @param sharedUserId     수신자 ID (확인할 수 없으면 null)
+     * @param activePermission 수락된 공유의 권한 (수락 상태가 아니거나 삭제되었으면 null)
+     */
+    default void onLedgerShareEvent(long ledgerId, Long sharedUserId, SharePermission activePermission) {
+    }
+}
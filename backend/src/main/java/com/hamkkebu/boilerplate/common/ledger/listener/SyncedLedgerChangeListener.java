@@ -0,0 +1,46 @@
+package com.hamkkebu.boilerplate.common.ledger.listener;
+
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedger;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerMember;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerShare;
+
+/**
+ * 동기화된 가계부 데이터 변경 리스너
+ *
+ * <p>Abstract*EventConsumer가 이벤트를 반영(저장)한 트랜잭션이 커밋된 뒤 호출됩니다.
+ * 캐시 무효화, 인메모리 인덱스 갱신 등에 사용합니다.</p>
+ *
+ * <p>리스너를 Spring Bean으로 등록하면 Consumer에 자동으로 연결됩니다.
+ * 전달되는 엔티티는 변경 후 상태이며 (soft delete 포함), 읽기 전용으로만 사용해야 합니다.</p>
+ *
+ * <p>리스너 예외는 로그만 남기고 이벤트 처리 결과에 영향을 주지 않습니다.</p>
+ *
+ * <p>Consumer Group을 공유하므로 이벤트를 처리한 인스턴스에서만 호출됩니다.
+ * 모든 인스턴스에 반영해야 하는 상태(인스턴스별 캐시 등)는 {@link SyncedLedgerBroadcastListener}도 구현합니다.</p>
+ */
+public interface SyncedLedgerChangeListener {
+
+    /**
+     * 가계부 생성/수정/삭제 후 호출
+     *
+     * @param ledger 변경된 가계부
+     */
+    default void onLedgerChanged(SyncedLedger ledger) {
+    }
+
+    /**
+     * 가계부 멤버 추가/역할 변경/제거 후 호출
+     *
+     * @param member 변경된 멤버
+     */
+    default void onLedgerMemberChanged(SyncedLedgerMember member) {
+    }
+
+    /**
+     * 가계부 공유 생성/수락/거절/삭제 후 호출
+     *
+     * @param share 변경된 공유
+     */
+    default void onLedgerShareChanged(SyncedLedgerShare share) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.hamkkebu.boilerplate.common.ledger.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * SyncedLedgerChangeListener 호출기
+ *
+ * <p>트랜잭션이 활성화되어 있으면 커밋 후에 호출하고 (롤백 시 호출하지 않음), 없으면 즉시 호출합니다.
+ * 커밋 전에 캐시를 무효화하면 다른 스레드가 커밋 전 데이터로 캐시를 다시 채울 수 있기 때문입니다.</p>
+ */
+@Slf4j
+public class SyncedLedgerChangeNotifier {
+
+    private volatile List<SyncedLedgerChangeListener> listeners = List.of();
+
+    /**
+     * 리스너 목록 설정
+     */
+    public void setListeners(List<SyncedLedgerChangeListener> listeners) {
+        this.listeners = listeners != null ? List.copyOf(listeners) : List.of();
+    }
+
+    /**
+     * 등록된 리스너가 있는지 확인
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * 변경 통지 (커밋 후)
+     *
+     * @param action 리스너별 호출 내용
+     */
+    public void notifyAfterCommit(Consumer<SyncedLedgerChangeListener> action) {
+        List<SyncedLedgerChangeListener> targets = listeners;
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invoke(targets, action);
+                }
+            });
+        } else {
+            invoke(targets, action);
+        }
+    }
+
+    private void invoke(List<SyncedLedgerChangeListener> targets, Consumer<SyncedLedgerChangeListener> action) {
+        for (SyncedLedgerChangeListener listener : targets) {
+            try {
+                action.accept(listener);
+            } catch (RuntimeException e) {
+                log.error("[Synced Ledger] Change listener failed: listener={}, error={}",
+                        listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+}
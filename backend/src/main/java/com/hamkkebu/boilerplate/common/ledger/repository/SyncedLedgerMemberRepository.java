@@ -1,8 +1,12 @@
 package com.hamkkebu.boilerplate.common.ledger.repository;
 
 import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerMember;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -76,4 +80,47 @@ public interface SyncedLedgerMemberRepository<T extends SyncedLedgerMember> exte
      * @return 멤버 수
      */
     long countByLedgerIdAndIsDeletedFalse(Long ledgerId);
+
+    /**
+     * 가계부의 멤버 목록 커서 조회 (삭제되지 않은 것만, 멤버 ID 오름차순)
+     *
+     * <p>COUNT 쿼리 없이 size + 1건만 조회합니다. 첫 페이지는 afterLedgerMemberId = 0</p>
+     *
+     * @param ledgerId            가계부 ID
+     * @param afterLedgerMemberId 이전 페이지 마지막 멤버 ID
+     * @param pageable            페이지 크기 ({@code CursorRequestDto.toPageable()})
+     * @return 멤버 Slice
+     */
+    @Query("SELECT m FROM #{#entityName} m WHERE m.ledgerId = :ledgerId AND m.isDeleted = false " +
+           "AND m.ledgerMemberId > :afterLedgerMemberId ORDER BY m.ledgerMemberId ASC")
+    Slice<T> findSliceByLedgerId(@Param("ledgerId") Long ledgerId,
+                                 @Param("afterLedgerMemberId") Long afterLedgerMemberId,
+                                 Pageable pageable);
+
+    /**
+     * 계정의 멤버십 목록 커서 조회 (삭제되지 않은 것만, 멤버 ID 오름차순)
+     *
+     * @param accountId           계정 ID
+     * @param afterLedgerMemberId 이전 페이지 마지막 멤버 ID
+     * @param pageable            페이지 크기
+     * @return 멤버 Slice
+     */
+    @Query("SELECT m FROM #{#entityName} m WHERE m.accountId = :accountId AND m.isDeleted = false " +
+           "AND m.ledgerMemberId > :afterLedgerMemberId ORDER BY m.ledgerMemberId ASC")
+    Slice<T> findSliceByAccountId(@Param("accountId") Long accountId,
+                                  @Param("afterLedgerMemberId") Long afterLedgerMemberId,
+                                  Pageable pageable);
+
+    /**
+     * 전체 멤버 커서 조회 (삭제되지 않은 것만, 멤버 ID 오름차순)
+     *
+     * <p>인메모리 인덱스 구축 등 전체 순회용입니다. 첫 페이지는 afterLedgerMemberId = 0</p>
+     *
+     * @param afterLedgerMemberId 이전 페이지 마지막 멤버 ID
+     * @param pageable            페이지 크기
+     * @return 멤버 Slice
+     */
+    @Query("SELECT m FROM #{#entityName} m WHERE m.isDeleted = false " +
+           "AND m.ledgerMemberId > :afterLedgerMemberId ORDER BY m.ledgerMemberId ASC")
+    Slice<T> findSliceAll(@Param("afterLedgerMemberId") Long afterLedgerMemberId, Pageable pageable);
 }
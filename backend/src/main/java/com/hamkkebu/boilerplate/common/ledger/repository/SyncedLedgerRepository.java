@@ -1,8 +1,12 @@
 package com.hamkkebu.boilerplate.common.ledger.repository;
 
 import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedger;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -68,4 +72,33 @@ public interface SyncedLedgerRepository<T extends SyncedLedger> extends JpaRepos
      * @return 해당 사용자의 가계부이면 true
      */
     boolean existsByLedgerIdAndUserIdAndIsDeletedFalse(Long ledgerId, Long userId);
+
+    /**
+     * 사용자의 가계부 목록 커서 조회 (삭제되지 않은 것만, 가계부 ID 오름차순)
+     *
+     * <p>COUNT 쿼리 없이 size + 1건만 조회합니다. 첫 페이지는 afterLedgerId = 0</p>
+     *
+     * @param userId        사용자 ID
+     * @param afterLedgerId 이전 페이지 마지막 가계부 ID
+     * @param pageable      페이지 크기 ({@code CursorRequestDto.toPageable()})
+     * @return 가계부 Slice
+     */
+    @Query("SELECT l FROM #{#entityName} l WHERE l.userId = :userId AND l.isDeleted = false " +
+           "AND l.ledgerId > :afterLedgerId ORDER BY l.ledgerId ASC")
+    Slice<T> findSliceByUserId(@Param("userId") Long userId,
+                               @Param("afterLedgerId") Long afterLedgerId,
+                               Pageable pageable);
+
+    /**
+     * 전체 가계부 커서 조회 (삭제되지 않은 것만, 가계부 ID 오름차순)
+     *
+     * <p>인메모리 인덱스 구축 등 전체 순회용입니다. 첫 페이지는 afterLedgerId = 0</p>
+     *
+     * @param afterLedgerId 이전 페이지 마지막 가계부 ID
+     * @param pageable      페이지 크기
+     * @return 가계부 Slice
+     */
+    @Query("SELECT l FROM #{#entityName} l WHERE l.isDeleted = false " +
+           "AND l.ledgerId > :afterLedgerId ORDER BY l.ledgerId ASC")
+    Slice<T> findSliceAll(@Param("afterLedgerId") Long afterLedgerId, Pageable pageable);
 }
@@ -2,8 +2,12 @@ package com.hamkkebu.boilerplate.common.ledger.repository;
 
 import com.hamkkebu.boilerplate.common.enums.ShareStatus;
 import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerShare;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -92,4 +96,52 @@ public interface SyncedLedgerShareRepository<T extends SyncedLedgerShare> extend
      */
     boolean existsByLedgerIdAndSharedUserIdAndStatusAndIsDeletedFalse(
             Long ledgerId, Long sharedUserId, ShareStatus status);
+
+    /**
+     * 공유받은 가계부 목록 커서 조회 (상태별, 삭제되지 않은 것만, 공유 ID 오름차순)
+     *
+     * <p>COUNT 쿼리 없이 size + 1건만 조회합니다. 첫 페이지는 afterLedgerShareId = 0</p>
+     *
+     * @param sharedUserId       공유받은 사용자 ID
+     * @param status             공유 상태
+     * @param afterLedgerShareId 이전 페이지 마지막 공유 ID
+     * @param pageable           페이지 크기 ({@code CursorRequestDto.toPageable()})
+     * @return 공유 Slice
+     */
+    @Query("SELECT s FROM #{#entityName} s WHERE s.sharedUserId = :sharedUserId AND s.status = :status " +
+           "AND s.isDeleted = false AND s.ledgerShareId > :afterLedgerShareId ORDER BY s.ledgerShareId ASC")
+    Slice<T> findSliceBySharedUserIdAndStatus(@Param("sharedUserId") Long sharedUserId,
+                                              @Param("status") ShareStatus status,
+                                              @Param("afterLedgerShareId") Long afterLedgerShareId,
+                                              Pageable pageable);
+
+    /**
+     * 가계부의 공유 목록 커서 조회 (삭제되지 않은 것만, 공유 ID 오름차순)
+     *
+     * @param ledgerId           가계부 ID
+     * @param afterLedgerShareId 이전 페이지 마지막 공유 ID
+     * @param pageable           페이지 크기
+     * @return 공유 Slice
+     */
+    @Query("SELECT s FROM #{#entityName} s WHERE s.ledgerId = :ledgerId AND s.isDeleted = false " +
+           "AND s.ledgerShareId > :afterLedgerShareId ORDER BY s.ledgerShareId ASC")
+    Slice<T> findSliceByLedgerId(@Param("ledgerId") Long ledgerId,
+                                 @Param("afterLedgerShareId") Long afterLedgerShareId,
+                                 Pageable pageable);
+
+    /**
+     * 상태별 전체 공유 커서 조회 (삭제되지 않은 것만, 공유 ID 오름차순)
+     *
+     * <p>인메모리 인덱스 구축 등 전체 순회용입니다. 첫 페이지는 afterLedgerShareId = 0</p>
+     *
+     * @param status             공유 상태
+     * @param afterLedgerShareId 이전 페이지 마지막 공유 ID
+     * @param pageable           페이지 크기
+     * @return 공유 Slice
+     */
+    @Query("SELECT s FROM #{#entityName} s WHERE s.status = :status AND s.isDeleted = false " +
+           "AND s.ledgerShareId > :afterLedgerShareId ORDER BY s.ledgerShareId ASC")
+    Slice<T> findSliceByStatus(@Param("status") ShareStatus status,
+                               @Param("afterLedgerShareId") Long afterLedgerShareId,
+                               Pageable pageable);
 }
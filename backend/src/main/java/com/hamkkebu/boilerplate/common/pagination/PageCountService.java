@@ -0,0 +1,145 @@
+package com.hamkkebu.boilerplate.common.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hamkkebu.boilerplate.common.dto.PageRequestDto;
+import com.hamkkebu.boilerplate.common.dto.PageResponseDto;
+import com.hamkkebu.boilerplate.common.enums.PageCountMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이징 COUNT 처리 서비스
+ *
+ * <p>{@link PageRequestDto#getCountMode()}에 따라 COUNT 쿼리 실행 여부를 결정합니다.</p>
+ *
+ * <ul>
+ *   <li>EXACT: Slice 조회 후 COUNT 실행 (마지막 페이지 등 계산 가능한 경우 생략)</li>
+ *   <li>NONE: Slice 조회만 수행 (size + 1건)</li>
+ *   <li>ESTIMATED: countKey별로 COUNT 결과를 TTL 동안 캐싱</li>
+ * </ul>
+ *
+ * <p>ESTIMATED 모드는 totalElements/totalPages만 추정값입니다. 다음 페이지 여부(hasNext, isLast)는
+ * 항상 Slice 조회 결과를 사용하므로 캐시된 개수가 오래되어도 페이지 이동은 정확합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * // Repository: Slice 반환 메서드 (COUNT 쿼리 없음)
+ * Slice{@literal <}Transaction{@literal >} findByLedgerIdAndIsDeletedFalse(Long ledgerId, Pageable pageable);
+ * long countByLedgerIdAndIsDeletedFalse(Long ledgerId);
+ *
+ * // Service
+ * return pageCountService.fetch(pageRequest,
+ *         "transactions:ledger:" + ledgerId,
+ *         pageable -{@literal >} repository.findByLedgerIdAndIsDeletedFalse(ledgerId, pageable),
+ *         () -{@literal >} repository.countByLedgerIdAndIsDeletedFalse(ledgerId),
+ *         TransactionDto::from);
+ * </pre>
+ */
+@Slf4j
+@Service
+public class PageCountService {
+
+    private static final String TABLE_ROWS_QUERY =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Long> countCache;
+
+    public PageCountService(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${pagination.count-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${pagination.count-cache.maximum-size:10000}") long maximumSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.countCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, countCache, "pagination.count");
+    }
+
+    /**
+     * countMode에 따라 페이징 조회
+     *
+     * @param request    페이징 요청
+     * @param countKey   COUNT 캐시 키 (쿼리 + 필터 조건을 식별, ESTIMATED 모드에서 사용)
+     * @param sliceQuery Slice 조회 함수 (Pageable 전달)
+     * @param countQuery COUNT 조회 함수
+     * @return 페이징 응답 (countMode 포함)
+     */
+    public <T> PageResponseDto<T> fetch(PageRequestDto request, String countKey,
+                                        Function<Pageable, Slice<T>> sliceQuery, LongSupplier countQuery) {
+        return fetch(request, countKey, sliceQuery, countQuery, Function.identity());
+    }
+
+    /**
+     * countMode에 따라 페이징 조회 (데이터 변환)
+     */
+    public <T, U> PageResponseDto<U> fetch(PageRequestDto request, String countKey,
+                                           Function<Pageable, Slice<T>> sliceQuery, LongSupplier countQuery,
+                                           Function<T, U> converter) {
+        Pageable pageable = request.toPageable();
+        PageCountMode countMode = request.getCountMode() != null ? request.getCountMode() : PageCountMode.EXACT;
+        Slice<U> slice = sliceQuery.apply(pageable).map(converter);
+
+        return switch (countMode) {
+            case NONE -> PageResponseDto.ofSlice(slice);
+            case ESTIMATED -> PageResponseDto.ofEstimate(slice, estimateTotal(slice, countKey, countQuery));
+            case EXACT -> PageResponseDto.of(
+                    PageableExecutionUtils.getPage(slice.getContent(), pageable, countQuery), PageCountMode.EXACT);
+        };
+    }
+
+    /**
+     * 추정 전체 개수
+     *
+     * <p>마지막 페이지면 조회 결과로 정확한 개수를 계산하고, 아니면 캐시된 COUNT를 사용하되
+     * 이미 확인된 개수(현재 페이지까지 + 다음 페이지 1건)보다 작게 보고하지 않습니다.</p>
+     */
+    private long estimateTotal(Slice<?> slice, String countKey, LongSupplier countQuery) {
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return seen;
+        }
+        long cached = countCache.get(countKey, key -> countQuery.getAsLong());
+        return Math.max(cached, slice.hasNext() ? seen + 1 : seen);
+    }
+
+    /**
+     * 테이블 통계 기반 행 수 추정 (필터 없는 전체 목록용)
+     *
+     * <p>MySQL information_schema.TABLES.TABLE_ROWS 값을 사용하며, InnoDB에서는 근사값입니다.
+     * ESTIMATED 모드의 countQuery로 전달하면 결과도 TTL 동안 캐싱됩니다.</p>
+     *
+     * @param tableName 테이블명
+     * @return 추정 행 수 조회 함수
+     */
+    public LongSupplier tableRowEstimate(String tableName) {
+        return () -> {
+            Long rows = jdbcTemplate.queryForObject(TABLE_ROWS_QUERY, Long.class, tableName);
+            return rows != null ? rows : 0L;
+        };
+    }
+
+    /**
+     * COUNT 캐시 무효화 (대량 변경 후)
+     *
+     * @param countKey COUNT 캐시 키
+     */
+    public void evictCount(String countKey) {
+        countCache.invalidate(countKey);
+    }
+}
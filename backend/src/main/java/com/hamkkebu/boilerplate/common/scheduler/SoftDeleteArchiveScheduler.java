@@ -0,0 +1,88 @@
+package com.hamkkebu.boilerplate.common.scheduler;
+
+import com.hamkkebu.boilerplate.common.archive.SoftDeleteArchiver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Soft Delete 아카이브 스케줄러
+ *
+ * <p>설정된 테이블마다 보관 기간(retention-days)이 지난 삭제 행을 아카이브 테이블로 옮깁니다.
+ * 기본값은 비활성이며, 각 서비스에서 대상 테이블과 아카이브 테이블 DDL을 준비한 뒤 활성화합니다.</p>
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * archive:
+ *   soft-delete:
+ *     enabled: true
+ *     tables: tbl_ledgers:ledger_id,tbl_ledger_members:ledger_member_id,tbl_ledger_shares:ledger_share_id
+ *     retention-days: 30
+ * </pre>
+ */
+@Slf4j
+@Component
+public class SoftDeleteArchiveScheduler {
+
+    private final SoftDeleteArchiver archiver;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final List<SoftDeleteArchiver.Target> targets;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public SoftDeleteArchiveScheduler(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${archive.soft-delete.enabled:false}") boolean enabled,
+            @Value("${archive.soft-delete.tables:}") List<String> tables,
+            @Value("${archive.soft-delete.retention-days:30}") int retentionDays,
+            @Value("${archive.soft-delete.chunk-size:500}") int chunkSize) {
+        this.archiver = new SoftDeleteArchiver(jdbcTemplate, transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.targets = tables.stream()
+                .filter(spec -> !spec.isBlank())
+                .map(SoftDeleteArchiver.Target::parse)
+                .toList();
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 행 아카이브
+     *
+     * <p>매일 새벽 4시에 실행 (Outbox 정리 작업과 겹치지 않도록 1시간 뒤)</p>
+     */
+    @Scheduled(cron = "${archive.soft-delete.cron:0 0 4 * * *}")
+    public void archiveSoftDeletedRows() {
+        if (!enabled || targets.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        for (SoftDeleteArchiver.Target target : targets) {
+            try {
+                int archived = archiver.archive(target, cutoff, chunkSize);
+                Counter.builder("archive.soft_delete.rows")
+                        .description("Soft-deleted rows moved to archive tables")
+                        .tag("table", target.getTable())
+                        .register(meterRegistry)
+                        .increment(archived);
+            } catch (Exception e) {
+                // 한 테이블 실패가 다른 테이블 아카이브를 막지 않도록 로그만 남김 (처리된 청크는 이미 커밋됨)
+                log.error("Failed to archive soft-deleted rows: table={}, error={}",
+                        target.getTable(), e.getMessage(), e);
+            }
+        }
+    }
+}
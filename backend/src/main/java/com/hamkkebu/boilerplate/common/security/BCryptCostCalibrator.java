@@ -0,0 +1,74 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * BCrypt cost(strength) 보정 유틸리티
+ *
+ * <p>노드 성능에 따라 해시 1회 소요 시간이 다르므로, 시작 시 최소 cost로 측정한 뒤
+ * 목표 시간을 넘지 않는 범위에서 cost를 올립니다. (cost가 1 증가할 때마다 소요 시간은 2배)</p>
+ *
+ * <p>보정은 위로만 합니다. 최소 cost로도 목표 시간을 넘는 느린 노드에서도 최소 cost 아래로 내리지 않습니다.</p>
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password1!";
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+        // 유틸리티 클래스 인스턴스화 방지
+    }
+
+    /**
+     * 목표 시간에 맞는 BCrypt cost 계산
+     *
+     * @param targetTime  해시 1회 목표 소요 시간
+     * @param minStrength 최소 cost (보안 하한)
+     * @param maxStrength 최대 cost
+     * @return 보정된 cost
+     */
+    public static int calibrate(Duration targetTime, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode(SAMPLE_PASSWORD); // JIT warmup
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        long measuredNanos = samples[SAMPLES / 2];
+
+        int strength = chooseStrength(measuredNanos, targetTime.toNanos(), minStrength, maxStrength);
+        long estimatedNanos = measuredNanos << (strength - minStrength);
+        if (strength == minStrength && measuredNanos > targetTime.toNanos()) {
+            log.warn("BCrypt hashing at minimum strength {} takes {}ms, above target {}ms; keeping minimum strength",
+                    minStrength, Duration.ofNanos(measuredNanos).toMillis(), targetTime.toMillis());
+        }
+        log.info("BCrypt cost calibrated: strength={}, estimated={}ms, target={}ms",
+                strength, Duration.ofNanos(estimatedNanos).toMillis(), targetTime.toMillis());
+        return strength;
+    }
+
+    /**
+     * 최소 cost 측정 시간으로 cost 선택 (minStrength 이상, maxStrength 이하)
+     *
+     * @param measuredNanos 최소 cost에서 해시 1회 소요 시간
+     * @param targetNanos   목표 소요 시간
+     */
+    static int chooseStrength(long measuredNanos, long targetNanos, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        long estimatedNanos = measuredNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetNanos) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+        return strength;
+    }
+}
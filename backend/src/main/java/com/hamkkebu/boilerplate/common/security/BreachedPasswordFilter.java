@@ -0,0 +1,85 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import com.hamkkebu.boilerplate.common.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 유출/흔한 비밀번호 필터
+ *
+ * <p>블록리스트(한 줄에 하나의 비밀번호)를 시작 시 Bloom Filter로 적재하여
+ * 원소 수와 무관하게 마이크로초 단위로 포함 여부를 확인합니다.
+ * 백만 건 블록리스트 기준 약 1.8MB (false positive 0.1%)를 사용합니다.</p>
+ *
+ * <p>비교는 대소문자를 구분하지 않습니다. 기본 리소스는 소규모 목록이며,
+ * 운영 환경에서는 security.password.blocklist.location으로 대용량 목록을 지정합니다.</p>
+ */
+@Slf4j
+@Component
+public class BreachedPasswordFilter {
+
+    private final BloomFilter bloomFilter;
+
+    public BreachedPasswordFilter(
+            @Value("${security.password.blocklist.location:classpath:security/common-passwords.txt}") Resource blocklist,
+            @Value("${security.password.blocklist.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.bloomFilter = load(blocklist, falsePositiveRate);
+    }
+
+    /**
+     * 블록리스트 포함 여부 확인 (false positive 가능)
+     *
+     * @param password 평문 비밀번호
+     * @return 블록리스트에 있을 가능성이 높으면 true
+     */
+    public boolean isBreached(String password) {
+        return bloomFilter != null && bloomFilter.mightContain(normalize(password));
+    }
+
+    private static BloomFilter load(Resource blocklist, double falsePositiveRate) {
+        if (!blocklist.exists()) {
+            log.warn("Password blocklist not found: {}", blocklist.getDescription());
+            return null;
+        }
+
+        try {
+            long entries = countEntries(blocklist);
+            BloomFilter filter = BloomFilter.create(entries, falsePositiveRate);
+            try (BufferedReader reader = open(blocklist)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        filter.put(normalize(line.trim()));
+                    }
+                }
+            }
+            log.info("Password blocklist loaded: entries={}, size={}KB", entries, filter.sizeInBytes() / 1024);
+            return filter;
+        } catch (IOException e) {
+            log.error("Failed to load password blocklist: {}", blocklist.getDescription(), e);
+            return null;
+        }
+    }
+
+    private static long countEntries(Resource blocklist) throws IOException {
+        try (BufferedReader reader = open(blocklist)) {
+            return reader.lines().filter(line -> !line.isBlank()).count();
+        }
+    }
+
+    private static BufferedReader open(Resource resource) throws IOException {
+        return new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static String normalize(String password) {
+        return password.toLowerCase(Locale.ROOT);
+    }
+}
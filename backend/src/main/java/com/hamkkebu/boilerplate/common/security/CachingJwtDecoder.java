@@ -0,0 +1,23 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * 검증 결과를 캐싱하는 JwtDecoder
+ *
+ * <p>서명 검증은 delegate에 위임하고, 결과는 {@link JwtVerificationCache}에 토큰 exp까지 보관합니다.</p>
+ */
+@RequiredArgsConstructor
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final JwtVerificationCache jwtVerificationCache;
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        return jwtVerificationCache.decode(token, delegate);
+    }
+}
@@ -0,0 +1,241 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검증된 JWT 캐시
+ *
+ * <p>동일한 Access Token이 만료 전까지 반복 사용되므로, 서명 검증이 끝난 Jwt와
+ * 변환된 인증 정보(authorities, principal)를 토큰 해시(SHA-256) 기준으로 캐싱합니다.</p>
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>토큰 원문이 아닌 SHA-256 digest를 키로 사용</li>
+ *   <li>엔트리는 토큰의 exp 시각까지만 유효 (최대 TTL로 상한 제한)</li>
+ *   <li>검증에 실패한 토큰은 캐싱하지 않음</li>
+ *   <li>로그아웃 등으로 폐기된 토큰은 {@link #invalidate(String)}로 즉시 제거</li>
+ *   <li>최대 엔트리 수 제한 및 Micrometer 메트릭 (cache.gets, cache.evictions 등) 노출</li>
+ * </ul>
+ *
+ * <p>JwtAuthenticationToken은 요청마다 details가 설정되는 가변 객체이므로 공유하지 않고,
+ * 캐싱된 authorities와 principal로 매 요청 새로 생성합니다.</p>
+ *
+ * <p>decode와 convert는 같은 스레드에서 연달아 호출되므로, decode에서 찾은 엔트리를 넘겨받아
+ * 요청당 digest는 한 번만 계산합니다.</p>
+ */
+@Slf4j
+@Component
+public class JwtVerificationCache {
+
+    private static final String CACHE_NAME = "jwt.verification";
+
+    private final boolean enabled;
+    private final long maxTtlNanos;
+    private final Cache<String, CachedJwt> cache;
+
+    /**
+     * 직전 decode 결과 엔트리 (같은 요청의 convert에서 사용 후 제거)
+     */
+    private final ThreadLocal<CachedJwt> lastDecoded = new ThreadLocal<>();
+
+    @Autowired
+    public JwtVerificationCache(
+            @Value("${security.jwt.cache.enabled:true}") boolean enabled,
+            @Value("${security.jwt.cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds,
+            MeterRegistry meterRegistry) {
+        this(enabled, maximumSize, maxTtlSeconds, meterRegistry, Ticker.systemTicker());
+    }
+
+    JwtVerificationCache(boolean enabled, long maximumSize, long maxTtlSeconds, MeterRegistry meterRegistry,
+                         Ticker ticker) {
+        this.enabled = enabled;
+        this.maxTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedJwt>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedJwt value, long currentTime) {
+                        return value.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedJwt value, long currentTime, long currentDuration) {
+                        return value.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedJwt value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("JWT verification cache initialized: enabled={}, maximumSize={}, maxTtl={}s",
+                enabled, maximumSize, maxTtlSeconds);
+    }
+
+    /**
+     * 캐시를 거쳐 토큰 디코딩
+     *
+     * <p>캐시에 없으면 delegate로 서명/클레임을 검증한 뒤 exp까지 캐싱합니다.</p>
+     *
+     * @param token    Bearer 토큰 원문
+     * @param delegate 실제 검증을 수행하는 JwtDecoder
+     * @return 검증된 Jwt
+     */
+    public Jwt decode(String token, JwtDecoder delegate) {
+        if (!enabled) {
+            return delegate.decode(token);
+        }
+
+        lastDecoded.remove();
+        String key = digest(token);
+        CachedJwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            lastDecoded.set(cached);
+            return cached.jwt;
+        }
+
+        Jwt jwt = delegate.decode(token);
+        long ttlNanos = calculateTtlNanos(jwt);
+        if (ttlNanos > 0) {
+            CachedJwt entry = new CachedJwt(jwt, ttlNanos);
+            cache.put(key, entry);
+            lastDecoded.set(entry);
+        }
+        return jwt;
+    }
+
+    /**
+     * 캐시를 거쳐 Jwt를 인증 토큰으로 변환
+     *
+     * <p>최초 변환 결과의 authorities/principal을 엔트리에 보관하고,
+     * 이후에는 delegate 호출 없이 JwtAuthenticationToken을 생성합니다.</p>
+     *
+     * @param jwt      검증된 Jwt
+     * @param delegate 실제 변환을 수행하는 Converter
+     * @return 인증 토큰
+     */
+    public AbstractAuthenticationToken convert(Jwt jwt, Converter<Jwt, ? extends AbstractAuthenticationToken> delegate) {
+        if (!enabled) {
+            return delegate.convert(jwt);
+        }
+
+        CachedJwt cached = lastDecoded.get();
+        lastDecoded.remove();
+        if (cached == null || cached.jwt != jwt) {
+            // decode를 거치지 않은 Jwt (직접 호출 등)
+            cached = cache.getIfPresent(digest(jwt.getTokenValue()));
+        }
+        if (cached == null) {
+            return delegate.convert(jwt);
+        }
+
+        ConvertedAuthentication converted = cached.converted;
+        if (converted == null) {
+            AbstractAuthenticationToken token = delegate.convert(jwt);
+            if (token != null) {
+                cached.converted = new ConvertedAuthentication(List.copyOf(token.getAuthorities()), token.getName());
+            }
+            return token;
+        }
+
+        return new JwtAuthenticationToken(cached.jwt, converted.authorities, converted.principalName);
+    }
+
+    /**
+     * 토큰 무효화 (로그아웃, 토큰 폐기 등)
+     *
+     * @param token Bearer 토큰 원문
+     */
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * 캐시 전체 무효화 (키 교체 등)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * exp 기준 남은 유효 시간 계산 (최대 TTL로 제한)
+     */
+    private long calculateTtlNanos(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return 0;
+        }
+        long remaining = Duration.between(Instant.now(), expiresAt).toNanos();
+        return Math.min(remaining, maxTtlNanos);
+    }
+
+    /**
+     * 토큰 SHA-256 digest (Base64 URL-safe)
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 캐시 엔트리
+     */
+    private static final class CachedJwt {
+        private final Jwt jwt;
+        private final long ttlNanos;
+        private volatile ConvertedAuthentication converted;
+
+        private CachedJwt(Jwt jwt, long ttlNanos) {
+            this.jwt = jwt;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    /**
+     * 변환된 인증 정보 (불변)
+     */
+    private static final class ConvertedAuthentication {
+        private final Collection<GrantedAuthority> authorities;
+        private final String principalName;
+
+        private ConvertedAuthentication(Collection<GrantedAuthority> authorities, String principalName) {
+            this.authorities = authorities;
+            this.principalName = principalName;
+        }
+    }
+}
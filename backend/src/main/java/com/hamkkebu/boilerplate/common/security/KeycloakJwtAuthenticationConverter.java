@@ -1,5 +1,9 @@
 package com.hamkkebu.boilerplate.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -13,7 +17,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Keycloak JWT를 Spring Security Authentication으로 변환
@@ -26,7 +29,18 @@ public class KeycloakJwtAuthenticationConverter implements Converter<Jwt, Abstra
 
     private static final String REALM_ACCESS_CLAIM = "realm_access";
     private static final String ROLES_CLAIM = "roles";
+    private static final String RESOURCE_ACCESS_CLAIM = "resource_access";
     private static final String ROLE_PREFIX = "ROLE_";
+    private static final int MAX_CACHED_ROLE_SETS = 1_000;
+
+    /**
+     * 역할 조합별 불변 authority 목록
+     *
+     * <p>역할 문자열은 토큰 발급자가 정하는 값이므로 크기가 제한된 이 캐시에만 보관합니다.</p>
+     */
+    private final Cache<RoleSetKey, List<GrantedAuthority>> authoritySetCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_ROLE_SETS)
+            .build();
 
     @Override
     public AbstractAuthenticationToken convert(Jwt jwt) {
@@ -54,48 +68,56 @@ public class KeycloakJwtAuthenticationConverter implements Converter<Jwt, Abstra
      *   }
      * }
      * </pre>
+     *
+     * <p>대부분의 사용자는 소수의 역할 조합을 공유하므로, realm/resource 역할 조합별로
+     * 불변 authority 목록을 캐싱하여 요청마다 객체를 생성하지 않습니다.</p>
      */
-    @SuppressWarnings("unchecked")
     private Collection<GrantedAuthority> extractAuthorities(Jwt jwt) {
+        Map<String, Object> realmAccess = jwt.getClaim(REALM_ACCESS_CLAIM);
+        Map<String, Object> resourceAccess = jwt.getClaim(RESOURCE_ACCESS_CLAIM);
+
+        RoleSetKey key = new RoleSetKey(
+                realmAccess != null ? realmAccess.get(ROLES_CLAIM) : null,
+                resourceAccess);
+        return authoritySetCache.get(key, k -> buildAuthorities(realmAccess, resourceAccess));
+    }
+
+    /**
+     * 역할 조합에 대한 authority 목록 생성 (캐시 미스 시에만 호출)
+     */
+    @SuppressWarnings("unchecked")
+    private List<GrantedAuthority> buildAuthorities(Map<String, Object> realmAccess, Map<String, Object> resourceAccess) {
         List<GrantedAuthority> authorities = new ArrayList<>();
 
         // 1. Realm roles 추출
-        Map<String, Object> realmAccess = jwt.getClaim(REALM_ACCESS_CLAIM);
-        if (realmAccess != null && realmAccess.containsKey(ROLES_CLAIM)) {
+        if (realmAccess != null && realmAccess.get(ROLES_CLAIM) instanceof List) {
             List<String> roles = (List<String>) realmAccess.get(ROLES_CLAIM);
-            authorities.addAll(
-                    roles.stream()
-                            .map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role))
-                            .collect(Collectors.toList())
-            );
+            for (String role : roles) {
+                authorities.add(new SimpleGrantedAuthority(ROLE_PREFIX + role));
+            }
 
             // ROLE_ prefix 없는 버전도 추가 (기존 코드 호환성)
-            authorities.addAll(
-                    roles.stream()
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList())
-            );
+            for (String role : roles) {
+                authorities.add(new SimpleGrantedAuthority(role));
+            }
         }
 
         // 2. Resource (client) roles 추출 (선택적)
-        Map<String, Object> resourceAccess = jwt.getClaim("resource_access");
         if (resourceAccess != null) {
             resourceAccess.forEach((clientId, access) -> {
                 if (access instanceof Map) {
                     Map<String, Object> clientAccess = (Map<String, Object>) access;
-                    if (clientAccess.containsKey(ROLES_CLAIM)) {
+                    if (clientAccess.get(ROLES_CLAIM) instanceof List) {
                         List<String> clientRoles = (List<String>) clientAccess.get(ROLES_CLAIM);
-                        authorities.addAll(
-                                clientRoles.stream()
-                                        .map(role -> new SimpleGrantedAuthority(clientId + "_" + role))
-                                        .collect(Collectors.toList())
-                        );
+                        for (String role : clientRoles) {
+                            authorities.add(new SimpleGrantedAuthority(clientId + "_" + role));
+                        }
                     }
                 }
             });
         }
 
-        return authorities;
+        return List.copyOf(authorities);
     }
 
     /**
@@ -113,4 +135,16 @@ public class KeycloakJwtAuthenticationConverter implements Converter<Jwt, Abstra
         // 없으면 subject (user id) 사용
         return jwt.getSubject();
     }
+
+    /**
+     * 역할 조합 캐시 키 (realm roles 목록 + resource_access 클레임)
+     *
+     * <p>클레임 값(List/Map)의 equals/hashCode를 그대로 사용합니다.</p>
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class RoleSetKey {
+        private final Object realmRoles;
+        private final Object resourceAccess;
+    }
 }
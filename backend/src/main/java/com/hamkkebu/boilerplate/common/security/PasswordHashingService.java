@@ -0,0 +1,249 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱 서비스
+ *
+ * <p>BCrypt 해싱은 CPU 비용이 크므로 전용 bounded executor에서 실행하여 동시에 해싱하는 작업 수를 코어 수로 제한합니다.</p>
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>전용 스레드 풀 + 큐 깊이 제한 (포화 시 SERVICE_BUSY)</li>
+ *   <li>처리 시간 예산 초과 시 SERVICE_BUSY (큐에서 기다리다 예산을 넘긴 작업은 해싱하지 않고 버림)</li>
+ *   <li>로그인 시 cost가 낮은 기존 해시 재해싱 (upgrade-on-login)</li>
+ *   <li>해싱 소요 시간/대기 시간/거부 건수 메트릭</li>
+ * </ul>
+ *
+ * <p>스레드 사용:</p>
+ * <ul>
+ *   <li>{@code *Async} 메서드는 CompletableFuture를 반환하므로, 컨트롤러가 그대로 반환하면 해싱 중 요청 스레드가 반환됩니다.</li>
+ *   <li>동기 메서드는 호출 스레드가 결과를 최대 timeout-millis 동안 기다립니다. 동시에 막히는 요청 스레드 수는
+ *       pool-size + queue-capacity를 넘지 않으므로, 이 합을 Tomcat 스레드 수보다 충분히 작게 설정합니다.</li>
+ *   <li>이미 시작된 BCrypt 연산은 중단할 수 없으므로 시간 초과 후에도 해당 해싱 스레드는 연산을 끝까지 수행합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "password.hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter upgradedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.hashing.pool-size:0}") int poolSize,
+            @Value("${security.password.hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${security.password.hashing.timeout-millis:3000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder(METRIC_PREFIX + ".duration").tag("operation", "encode").register(meterRegistry);
+        this.matchTimer = Timer.builder(METRIC_PREFIX + ".duration").tag("operation", "matches").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(METRIC_PREFIX + ".queue.wait").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected").register(meterRegistry);
+        this.upgradedCounter = Counter.builder(METRIC_PREFIX + ".upgraded").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+
+        log.info("Password hashing executor initialized: threads={}, queueCapacity={}, timeout={}ms",
+                threads, queueCapacity, timeoutMillis);
+    }
+
+    /**
+     * 비밀번호 해싱
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시
+     * @throws BusinessException 작업 큐 포화 또는 처리 시간 초과 시 (SERVICE_BUSY)
+     */
+    public String encode(String rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    /**
+     * 비밀번호 해싱 (비동기)
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시 (작업 큐 포화 또는 처리 시간 초과 시 SERVICE_BUSY BusinessException으로 완료)
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     *
+     * @param rawPassword     평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     * @throws BusinessException 작업 큐 포화 또는 처리 시간 초과 시 (SERVICE_BUSY)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인 (비동기)
+     */
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchTimer);
+    }
+
+    /**
+     * 비밀번호 검증 + 필요 시 재해싱 (upgrade-on-login)
+     *
+     * <p>저장된 해시의 cost가 현재 보정된 cost보다 낮으면 새 해시를 함께 반환합니다.
+     * 호출 측은 {@link VerificationResult#getUpgradedHash()}가 null이 아니면 저장된 해시를 교체합니다.</p>
+     *
+     * @param rawPassword     평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 검증 결과
+     */
+    public VerificationResult verify(String rawPassword, String encodedPassword) {
+        return await(verifyAsync(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 검증 + 필요 시 재해싱 (비동기)
+     */
+    public CompletableFuture<VerificationResult> verifyAsync(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return VerificationResult.NOT_MATCHED;
+            }
+            if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return VerificationResult.MATCHED;
+            }
+            upgradedCounter.increment();
+            return new VerificationResult(true, passwordEncoder.encode(rawPassword));
+        }, matchTimer);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 전용 executor에 제출 (시간 예산 초과 시 SERVICE_BUSY로 완료)
+     */
+    private <T> CompletableFuture<T> submit(Callable<T> task, Timer timer) {
+        long submittedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                if (result.isDone()) {
+                    // 큐에서 기다리는 동안 시간 예산 초과 (호출 측은 이미 응답함)
+                    return;
+                }
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    result.complete(timer.recordCallable(task));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full: queueSize={}", executor.getQueue().size());
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.SERVICE_BUSY, e));
+        }
+
+        return result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(translate(e)));
+    }
+
+    private RuntimeException translate(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        if (cause instanceof TimeoutException) {
+            rejectedCounter.increment();
+            log.warn("Password hashing exceeded time budget: {}ms", timeoutMillis);
+            return new BusinessException(ErrorCode.SERVICE_BUSY, cause);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, cause);
+    }
+
+    /**
+     * 동기 호출: 결과 대기 (최대 시간 예산까지)
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        }
+    }
+
+    /**
+     * 비밀번호 검증 결과
+     */
+    @Getter
+    public static final class VerificationResult {
+
+        private static final VerificationResult NOT_MATCHED = new VerificationResult(false, null);
+        private static final VerificationResult MATCHED = new VerificationResult(true, null);
+
+        /** 일치 여부 */
+        private final boolean matched;
+
+        /** 재해싱된 새 해시 (재해싱이 필요 없으면 null) */
+        private final String upgradedHash;
+
+        private VerificationResult(boolean matched, String upgradedHash) {
+            this.matched = matched;
+            this.upgradedHash = upgradedHash;
+        }
+    }
+}
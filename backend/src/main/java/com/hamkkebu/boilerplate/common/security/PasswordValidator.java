@@ -5,10 +5,9 @@ import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 /**
  * 비밀번호 검증 유틸리티
@@ -16,8 +15,8 @@ import java.util.regex.Pattern;
  * <p>비밀번호 검증 로직을 중앙화하여 일관된 검증 및 에러 처리를 제공합니다.</p>
  * <p>주요 기능:</p>
  * <ul>
- *   <li>비밀번호 형식 검증 (길이, 복잡도)</li>
- *   <li>비밀번호 일치 여부 검증</li>
+ *   <li>비밀번호 형식 검증 (길이, 복잡도, 연속 문자, 유출 비밀번호)</li>
+ *   <li>비밀번호 일치 여부 검증 (전용 executor에서 해싱, {@link PasswordHashingService})</li>
  *   <li>검증 실패 시 로깅 및 예외 발생</li>
  * </ul>
  */
@@ -26,9 +25,11 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class PasswordValidator {
 
-    private static final Pattern PASSWORD_PATTERN = Pattern.compile(CommonConstants.PASSWORD_REGEX);
+    /** 허용 특수문자 조회 테이블 (ASCII) */
+    private static final boolean[] SPECIAL_CHARACTERS = buildSpecialCharacterTable();
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final BreachedPasswordFilter breachedPasswordFilter;
 
     /**
      * 비밀번호 검증
@@ -42,17 +43,31 @@ public class PasswordValidator {
      * @throws BusinessException 비밀번호가 일치하지 않는 경우
      */
     public void validatePassword(String rawPassword, String encodedPassword, String userId) {
-        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
-            if (userId != null) {
-                log.warn("Invalid password for user: {}", userId);
-            }
-            throw new BusinessException(
-                ErrorCode.AUTHENTICATION_FAILED,
-                "비밀번호가 일치하지 않습니다"
-            );
+        if (!passwordHashingService.matches(rawPassword, encodedPassword)) {
+            throwPasswordMismatch(userId);
         }
     }
 
+    /**
+     * 비밀번호 검증 + 재해싱 (upgrade-on-login)
+     *
+     * <p>저장된 해시의 cost가 현재 설정보다 낮으면 새 해시를 반환합니다.
+     * 호출 측은 반환값이 있으면 저장된 비밀번호 해시를 교체해야 합니다.</p>
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 암호화된 비밀번호
+     * @param userId 사용자 ID (로깅용, null 가능)
+     * @return 재해싱된 새 해시 (재해싱이 필요 없으면 empty)
+     * @throws BusinessException 비밀번호가 일치하지 않는 경우
+     */
+    public Optional<String> validatePasswordAndUpgrade(String rawPassword, String encodedPassword, String userId) {
+        PasswordHashingService.VerificationResult result = passwordHashingService.verify(rawPassword, encodedPassword);
+        if (!result.isMatched()) {
+            throwPasswordMismatch(userId);
+        }
+        return Optional.ofNullable(result.getUpgradedHash());
+    }
+
     /**
      * 비밀번호 검증 (간단한 버전)
      *
@@ -69,12 +84,16 @@ public class PasswordValidator {
      *
      * <p>비밀번호는 다음 조건을 만족해야 합니다:</p>
      * <ul>
-     *   <li>{@link CommonConstants#PASSWORD_MIN_LENGTH}자 이상</li>
+     *   <li>{@link CommonConstants#PASSWORD_MIN_LENGTH}자 이상 {@link CommonConstants#PASSWORD_MAX_LENGTH}자 이하</li>
      *   <li>영문자 포함 (대소문자 구분 없음)</li>
      *   <li>숫자 포함</li>
      *   <li>특수문자 포함</li>
+     *   <li>4자 이상 연속(abcd, 1234) 또는 반복(aaaa) 문자 금지</li>
+     *   <li>유출/흔한 비밀번호 목록에 없음</li>
      * </ul>
      *
+     * <p>정규식 대신 한 번의 순회로 모든 규칙을 검사합니다.</p>
+     *
      * @param password 검증할 비밀번호
      * @throws BusinessException 비밀번호 형식이 올바르지 않은 경우
      */
@@ -86,7 +105,47 @@ public class PasswordValidator {
             );
         }
 
-        if (!PASSWORD_PATTERN.matcher(password).matches()) {
+        int length = password.length();
+        boolean hasLetter = false;
+        boolean hasDigit = false;
+        boolean hasSpecial = false;
+        boolean hasLineTerminator = false;
+        int repeatRun = 1;
+        int ascendingRun = 1;
+        int descendingRun = 1;
+        int longestRun = 1;
+
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                hasLetter = true;
+            } else if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else if (c < SPECIAL_CHARACTERS.length && SPECIAL_CHARACTERS[c]) {
+                hasSpecial = true;
+            } else if (isLineTerminator(c)) {
+                hasLineTerminator = true;
+            }
+
+            if (i > 0) {
+                int diff = c - password.charAt(i - 1);
+                repeatRun = diff == 0 ? repeatRun + 1 : 1;
+                ascendingRun = diff == 1 && Character.isLetterOrDigit(c) ? ascendingRun + 1 : 1;
+                descendingRun = diff == -1 && Character.isLetterOrDigit(c) ? descendingRun + 1 : 1;
+                longestRun = Math.max(longestRun, Math.max(repeatRun, Math.max(ascendingRun, descendingRun)));
+            }
+        }
+
+        if (length > CommonConstants.PASSWORD_MAX_LENGTH) {
+            throw new BusinessException(
+                ErrorCode.VALIDATION_FAILED,
+                String.format("비밀번호는 %d자 이하여야 합니다", CommonConstants.PASSWORD_MAX_LENGTH)
+            );
+        }
+
+        if (length < CommonConstants.PASSWORD_MIN_LENGTH
+                || !hasLetter || !hasDigit || !hasSpecial || hasLineTerminator) {
             throw new BusinessException(
                 ErrorCode.VALIDATION_FAILED,
                 String.format("비밀번호는 %d자 이상이며 영문자, 숫자, 특수문자를 모두 포함해야 합니다",
@@ -94,6 +153,43 @@ public class PasswordValidator {
             );
         }
 
+        if (longestRun > CommonConstants.PASSWORD_MAX_SEQUENCE_LENGTH) {
+            throw new BusinessException(
+                ErrorCode.VALIDATION_FAILED,
+                String.format("비밀번호에 %d자 이상 연속되거나 반복되는 문자를 사용할 수 없습니다",
+                    CommonConstants.PASSWORD_MAX_SEQUENCE_LENGTH + 1)
+            );
+        }
+
+        if (breachedPasswordFilter.isBreached(password)) {
+            throw new BusinessException(
+                ErrorCode.VALIDATION_FAILED,
+                "유출되었거나 흔히 사용되는 비밀번호는 사용할 수 없습니다"
+            );
+        }
+
         log.debug("Password format validation passed");
     }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean[] buildSpecialCharacterTable() {
+        boolean[] table = new boolean[128];
+        for (char c : CommonConstants.PASSWORD_SPECIAL_CHARACTERS.toCharArray()) {
+            table[c] = true;
+        }
+        return table;
+    }
+
+    private void throwPasswordMismatch(String userId) {
+        if (userId != null) {
+            log.warn("Invalid password for user: {}", userId);
+        }
+        throw new BusinessException(
+            ErrorCode.AUTHENTICATION_FAILED,
+            "비밀번호가 일치하지 않습니다"
+        );
+    }
 }
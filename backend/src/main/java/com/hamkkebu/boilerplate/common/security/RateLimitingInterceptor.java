@@ -1,14 +1,11 @@
 package com.hamkkebu.boilerplate.common.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.hamkkebu.boilerplate.common.dto.ApiResponse;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.boilerplate.common.web.ApiResponseWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -33,7 +30,7 @@ import java.io.IOException;
 public class RateLimitingInterceptor implements HandlerInterceptor {
 
     private final RateLimitingService rateLimitingService;
-    private final ObjectMapper objectMapper;
+    private final ApiResponseWriter apiResponseWriter;
 
     /**
      * SECURITY: 프록시 사용 여부
@@ -175,6 +172,8 @@ public class RateLimitingInterceptor implements HandlerInterceptor {
     /**
      * Rate Limit 초과 시 429 응답 반환
      *
+     * <p>본문은 기동 시 미리 인코딩한 byte[]를 그대로 출력합니다. (요청마다 직렬화하지 않음)</p>
+     *
      * @param request HTTP 요청
      * @param response HTTP 응답
      */
@@ -182,21 +181,10 @@ public class RateLimitingInterceptor implements HandlerInterceptor {
             HttpServletRequest request,
             HttpServletResponse response
     ) throws IOException {
-        ErrorCode errorCode = ErrorCode.RATE_LIMIT_EXCEEDED;
-
-        response.setStatus(errorCode.getStatusValue()); // 429
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
         // Retry-After 헤더 추가 (60초 후 재시도)
         response.setHeader("Retry-After", "60");
 
-        ApiResponse<Void> apiResponse = ApiResponse.error(
-                errorCode.getCode(),
-                errorCode.getMessage()
-        );
-
-        response.getWriter().write(objectMapper.writeValueAsString(apiResponse));
+        apiResponseWriter.writeError(response, ErrorCode.RATE_LIMIT_EXCEEDED); // 429
 
         log.warn("Rate limit exceeded: method={}, uri={}, ip={}",
                 request.getMethod(),
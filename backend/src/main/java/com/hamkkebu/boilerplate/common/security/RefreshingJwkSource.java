@@ -0,0 +1,231 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 로컬 캐싱 + 백그라운드 갱신 JWK Source
+ *
+ * <p>Keycloak JWKS를 애플리케이션 시작 시 미리 조회하고, TTL 만료 전에 백그라운드에서 갱신합니다.
+ * 요청 스레드는 캐싱된 키만 사용하므로 Keycloak 지연이 요청 처리에 전파되지 않습니다.</p>
+ *
+ * <p>동작 방식:</p>
+ * <ul>
+ *   <li>시작 시 warmup 조회 (실패해도 기동은 계속)</li>
+ *   <li>ttl - refreshAhead 주기로 백그라운드 갱신</li>
+ *   <li>갱신 실패 시 기존(stale) 키를 계속 사용</li>
+ *   <li>알 수 없는 kid (키 교체) 요청 시 최소 간격을 지켜 즉시 재조회</li>
+ *   <li>조회는 한 번에 하나만 수행 (single-flight), 잠금 없이 네트워크 조회</li>
+ *   <li>다른 조회가 진행 중이면 요청 스레드는 기다리지 않고 현재 키로 처리</li>
+ * </ul>
+ *
+ * <p>테스트에서는 {@link #fromResource(Resource)}로 로컬 JWKS 파일을 사용할 수 있습니다.</p>
+ */
+@Slf4j
+public class RefreshingJwkSource implements JWKSource<SecurityContext>, InitializingBean, DisposableBean {
+
+    private static final int JWKS_SIZE_LIMIT = 50 * 1024;
+
+    private final JwkSetLoader loader;
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration minRefetchInterval;
+    private final Clock clock;
+
+    /**
+     * 진행 중인 조회 (없으면 null)
+     */
+    private final AtomicReference<CompletableFuture<JWKSet>> inFlight = new AtomicReference<>();
+
+    private volatile JWKSet jwkSet;
+    private volatile Instant lastFetchedAt;
+    private volatile Instant lastAttemptAt = Instant.EPOCH;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * JWK Set 로더
+     */
+    @FunctionalInterface
+    public interface JwkSetLoader {
+        JWKSet load() throws IOException, ParseException;
+    }
+
+    public RefreshingJwkSource(JwkSetLoader loader, Duration ttl, Duration refreshAhead, Duration minRefetchInterval) {
+        this(loader, ttl, refreshAhead, minRefetchInterval, Clock.systemUTC());
+    }
+
+    RefreshingJwkSource(JwkSetLoader loader, Duration ttl, Duration refreshAhead,
+                        Duration minRefetchInterval, Clock clock) {
+        if (refreshAhead.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("refreshAhead must be shorter than ttl");
+        }
+        this.loader = loader;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.minRefetchInterval = minRefetchInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * JWKS URI 로더 생성
+     */
+    public static JwkSetLoader fromUri(String jwkSetUri, int connectTimeoutMillis, int readTimeoutMillis) {
+        return () -> JWKSet.load(new URL(jwkSetUri), connectTimeoutMillis, readTimeoutMillis, JWKS_SIZE_LIMIT);
+    }
+
+    /**
+     * 로컬 JWKS 파일/클래스패스 리소스 로더 생성
+     */
+    public static JwkSetLoader fromResource(Resource resource) {
+        return () -> {
+            try (InputStream inputStream = resource.getInputStream()) {
+                return JWKSet.load(inputStream);
+            }
+        };
+    }
+
+    /**
+     * 시작 시 warmup 조회 및 백그라운드 갱신 스케줄 등록
+     */
+    @Override
+    public void afterPropertiesSet() {
+        refresh();
+
+        long periodMillis = ttl.minus(refreshAhead).toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        log.info("JWKS background refresh scheduled: ttl={}, refreshAhead={}", ttl, refreshAhead);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        JWKSet current = jwkSet;
+        if (current != null) {
+            List<JWK> matches = jwkSelector.select(current);
+            if (!matches.isEmpty()) {
+                return matches;
+            }
+        }
+
+        // 키를 찾지 못한 경우 (키 교체 또는 warmup 실패) 최소 간격을 지켜 재조회
+        JWKSet refreshed = refreshIfAllowed();
+        if (refreshed != null) {
+            return jwkSelector.select(refreshed);
+        }
+        if (current == null) {
+            throw new KeySourceException("JWK set is not available");
+        }
+        return List.of();
+    }
+
+    /**
+     * 마지막 성공 조회 이후 TTL이 지났는지 여부 (stale 키 사용 중)
+     */
+    public boolean isStale() {
+        Instant fetchedAt = lastFetchedAt;
+        return fetchedAt == null || clock.instant().isAfter(fetchedAt.plus(ttl));
+    }
+
+    /**
+     * 최소 재조회 간격 내이거나 다른 조회가 진행 중이면 조회하지 않고 현재 키 반환
+     */
+    private JWKSet refreshIfAllowed() {
+        if (isWithinMinRefetchInterval()) {
+            return jwkSet;
+        }
+        CompletableFuture<JWKSet> fetch = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, fetch)) {
+            return jwkSet;
+        }
+        if (isWithinMinRefetchInterval()) {
+            // 다른 스레드의 조회가 방금 끝난 경우
+            inFlight.set(null);
+            fetch.complete(jwkSet);
+            return jwkSet;
+        }
+        return load(fetch);
+    }
+
+    /**
+     * JWKS 조회 (진행 중인 조회가 있으면 그 결과를 기다림, 실패 시 기존 키 유지)
+     *
+     * <p>warmup과 백그라운드 갱신에서 호출합니다.</p>
+     */
+    JWKSet refresh() {
+        CompletableFuture<JWKSet> fetch = new CompletableFuture<>();
+        CompletableFuture<JWKSet> running = inFlight.compareAndExchange(null, fetch);
+        if (running != null) {
+            return running.join();
+        }
+        return load(fetch);
+    }
+
+    private boolean isWithinMinRefetchInterval() {
+        return clock.instant().isBefore(lastAttemptAt.plus(minRefetchInterval));
+    }
+
+    /**
+     * 조회 수행 후 대기 중인 스레드에 결과 전달
+     */
+    private JWKSet load(CompletableFuture<JWKSet> fetch) {
+        JWKSet result = jwkSet;
+        try {
+            result = fetchKeys();
+            return result;
+        } finally {
+            inFlight.set(null);
+            fetch.complete(result);
+        }
+    }
+
+    private JWKSet fetchKeys() {
+        lastAttemptAt = clock.instant();
+        try {
+            JWKSet loaded = loader.load();
+            jwkSet = loaded;
+            lastFetchedAt = lastAttemptAt;
+            log.debug("JWKS refreshed: {} keys", loaded.getKeys().size());
+            return loaded;
+        } catch (IOException | ParseException | RuntimeException e) {
+            if (jwkSet != null) {
+                log.warn("JWKS refresh failed, serving stale keys (stale={}): {}", isStale(), e.getMessage());
+            } else {
+                log.error("JWKS fetch failed and no cached keys are available: {}", e.getMessage());
+            }
+            return jwkSet;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hamkkebu.boilerplate.common.user.config;
 
+import com.hamkkebu.boilerplate.common.datasource.ConnectionPathRecordInterceptor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
@@ -16,6 +17,9 @@ import java.util.Map;
  * <p>사용자 이벤트(USER_REGISTERED, USER_DELETED)를 Map으로 수신하여
  * 이벤트 타입에 따라 처리합니다.</p>
  *
+ * <p>{@link #createContainerFactory()}로 만든 factory의 리스너는 요청 처리 풀과 분리된 Consumer 전용 커넥션 풀을 사용합니다.
+ * (사용자/가계부 이벤트 Consumer 공통, factory를 직접 만드는 경우 {@link ConnectionPathRecordInterceptor}를 지정)</p>
+ *
  * <p>사용 예시:</p>
  * <pre>
  * {@code
@@ -100,6 +104,8 @@ public abstract class AbstractUserEventKafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(createConsumerFactory());
+        // Consumer 스레드는 전용 커넥션 풀 사용 (요청 처리 풀과 분리)
+        factory.setRecordInterceptor(new ConnectionPathRecordInterceptor<>());
         return factory;
     }
 }
@@ -0,0 +1,103 @@
+package com.hamkkebu.boilerplate.common.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 문자열용 Bloom Filter
+ *
+ * <p>대량의 문자열 집합에 대한 포함 여부를 적은 메모리로 확인합니다.
+ * false positive는 설정한 확률로 발생할 수 있으나 false negative는 없습니다.</p>
+ *
+ * <p>해시는 64비트 FNV-1a + finalizer mix 결과를 상위/하위 32비트로 나누어
+ * double hashing (h1 + i * h2) 방식으로 k개 인덱스를 계산합니다.</p>
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.bits = new long[(int) ((bitCount + 63) >>> 6)];
+    }
+
+    /**
+     * 예상 원소 수와 목표 false positive 확률로 Bloom Filter 생성
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 false positive 확률 (0 < p < 1)
+     * @return 빈 Bloom Filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    /**
+     * 원소 추가
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    /**
+     * 포함 가능성 확인
+     *
+     * @return false면 확실히 없음, true면 있을 가능성이 높음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비트 배열 크기 (bytes)
+     */
+    public long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    private long indexOf(int combinedHash) {
+        // 음수 해시를 양수로 변환
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        // MurmurHash3 fmix64
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,244 @@
+package com.hamkkebu.boilerplate.common.util;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * (long, long) → int 원시 타입 해시 맵
+ *
+ * <p>박싱 없이 두 개의 long 키와 int 값을 배열에 저장하는 open addressing(linear probing) 맵입니다.
+ * 항목당 약 20바이트(키 16 + 값 4)이며, 적재율 0.6 기준 100만 항목에 약 33MB를 사용합니다.</p>
+ *
+ * <ul>
+ *   <li>값 0은 "없음"을 의미하며, 0을 저장하면 항목이 삭제됩니다.</li>
+ *   <li>삭제는 backward-shift 방식이라 tombstone이 쌓이지 않습니다.</li>
+ *   <li>읽기는 StampedLock optimistic read로 잠금 없이 수행하고, 쓰기는 write lock으로 직렬화합니다.</li>
+ * </ul>
+ */
+public final class LongPairIntMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * 키 배열 (slot i의 키는 keys[2i], keys[2i + 1])
+     */
+    private long[] keys;
+
+    /**
+     * 값 배열 (0 = 빈 slot)
+     */
+    private int[] values;
+
+    private int size;
+    private int resizeThreshold;
+
+    public LongPairIntMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * 값 조회
+     *
+     * @return 값 (없으면 0)
+     */
+    public int get(long first, long second) {
+        long stamp = lock.tryOptimisticRead();
+        int value = find(first, second);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(first, second);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 값 저장 (0이면 삭제)
+     */
+    public void put(long first, long second, int value) {
+        update(first, second, old -> value);
+    }
+
+    /**
+     * 기존 값으로 새 값 계산 후 저장 (결과가 0이면 삭제)
+     *
+     * @param operator 기존 값(없으면 0) → 새 값
+     * @return 새 값
+     */
+    public int update(long first, long second, IntUnaryOperator operator) {
+        long stamp = lock.writeLock();
+        try {
+            int mask = values.length - 1;
+            int slot = slotOf(first, second, mask);
+            while (values[slot] != 0 && !matches(slot, first, second)) {
+                slot = (slot + 1) & mask;
+            }
+
+            int newValue = operator.applyAsInt(values[slot]);
+            if (values[slot] != 0) {
+                if (newValue == 0) {
+                    removeAt(slot);
+                } else {
+                    values[slot] = newValue;
+                }
+                return newValue;
+            }
+
+            if (newValue != 0) {
+                keys[slot << 1] = first;
+                keys[(slot << 1) + 1] = second;
+                values[slot] = newValue;
+                if (++size > resizeThreshold) {
+                    resize(values.length << 1);
+                }
+            }
+            return newValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 첫 번째 키가 일치하는 모든 항목 삭제 (전체 순회, 드물게 호출되는 연산용)
+     *
+     * @return 삭제된 항목 수
+     */
+    public int removeAllByFirst(long first) {
+        long stamp = lock.writeLock();
+        try {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            int removed = 0;
+            for (int slot = 0; slot < oldValues.length; slot++) {
+                if (oldValues[slot] != 0 && oldKeys[slot << 1] == first) {
+                    removed++;
+                }
+            }
+            if (removed == 0) {
+                return 0;
+            }
+
+            allocate(values.length);
+            for (int slot = 0; slot < oldValues.length; slot++) {
+                if (oldValues[slot] != 0 && oldKeys[slot << 1] != first) {
+                    insertNew(oldKeys[slot << 1], oldKeys[(slot << 1) + 1], oldValues[slot]);
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 항목 수
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 잠금 없이 탐색 (optimistic read 중 배열이 교체될 수 있으므로 길이 불일치 시 0 반환 후 재시도)
+     */
+    private int find(long first, long second) {
+        long[] currentKeys = keys;
+        int[] currentValues = values;
+        if (currentValues == null || currentKeys == null || currentKeys.length != currentValues.length << 1) {
+            return 0;
+        }
+
+        int mask = currentValues.length - 1;
+        int slot = slotOf(first, second, mask);
+        for (int probes = 0; probes < currentValues.length; probes++) {
+            int value = currentValues[slot];
+            if (value == 0) {
+                return 0;
+            }
+            if (currentKeys[slot << 1] == first && currentKeys[(slot << 1) + 1] == second) {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    private boolean matches(int slot, long first, long second) {
+        return keys[slot << 1] == first && keys[(slot << 1) + 1] == second;
+    }
+
+    /**
+     * backward-shift 삭제: 뒤따르는 항목 중 원래 위치(home)로부터 빈 slot을 지나온 항목을 앞으로 당김
+     */
+    private void removeAt(int slot) {
+        int mask = values.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (values[next] != 0) {
+            int home = slotOf(keys[next << 1], keys[(next << 1) + 1], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole << 1] = keys[next << 1];
+                keys[(hole << 1) + 1] = keys[(next << 1) + 1];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[hole] = 0;
+        size--;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] != 0) {
+                insertNew(oldKeys[slot << 1], oldKeys[(slot << 1) + 1], oldValues[slot]);
+            }
+        }
+    }
+
+    private void insertNew(long first, long second, int value) {
+        int mask = values.length - 1;
+        int slot = slotOf(first, second, mask);
+        while (values[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot << 1] = first;
+        keys[(slot << 1) + 1] = second;
+        values[slot] = value;
+        size++;
+    }
+
+    private void allocate(int capacity) {
+        // 값 배열을 먼저 교체하면 optimistic read가 길이 불일치를 감지
+        this.values = new int[capacity];
+        this.keys = new long[capacity << 1];
+        this.size = 0;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int required = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(required - 1) << 1);
+    }
+
+    private static int slotOf(long first, long second, int mask) {
+        long hash = first * 0x9E3779B97F4A7C15L + second;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
@@ -0,0 +1,60 @@
+package com.hamkkebu.boilerplate.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+
+/**
+ * ApiResponse 응답 본문 컨버터
+ *
+ * <p>컨트롤러가 반환한 성공 응답은 {@link ApiResponseWriter}로 envelope를 출력 스트림에 바로 쓰고,
+ * 에러 응답은 ObjectMapper로 직렬화합니다. 출력 형식은 MappingJackson2HttpMessageConverter와 같습니다.</p>
+ *
+ * <ul>
+ *   <li>쓰기 전용 (요청 본문을 ApiResponse로 읽지 않음)</li>
+ *   <li>timestamp는 응답을 쓰는 시각(초 단위)</li>
+ *   <li>WebMvcConfig에서 기본 JSON 컨버터보다 앞에 등록</li>
+ * </ul>
+ */
+public class ApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+
+    private final ApiResponseWriter apiResponseWriter;
+    private final ObjectMapper objectMapper;
+
+    public ApiResponseHttpMessageConverter(ApiResponseWriter apiResponseWriter, ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.apiResponseWriter = apiResponseWriter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse is not readable as a request body", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        if (response.isSuccess() && response.getError() == null) {
+            apiResponseWriter.writeSuccess(outputMessage.getBody(), response.getData(), response.getMessage());
+            return;
+        }
+        objectMapper.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), response);
+    }
+}
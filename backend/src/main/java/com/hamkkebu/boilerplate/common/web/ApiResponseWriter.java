@@ -0,0 +1,201 @@
+package com.hamkkebu.boilerplate.common.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ApiResponse 직렬화 writer
+ *
+ * <p>ApiResponse 객체를 만들지 않고 응답 본문을 출력 스트림에 바로 씁니다.
+ * 필터/인터셉터처럼 MessageConverter를 거치지 않는 곳에서 사용합니다.</p>
+ *
+ * <ul>
+ *   <li>에러 응답: ErrorCode별 본문을 기동 시 byte[]로 미리 인코딩하고, timestamp만 이어 붙여 출력</li>
+ *   <li>성공 응답: JsonGenerator로 envelope 필드를 순서대로 스트리밍 (필드명은 미리 인코딩)</li>
+ * </ul>
+ *
+ * <p>출력 형식은 {@link com.hamkkebu.boilerplate.common.dto.ApiResponse}를 ObjectMapper로 직렬화한 결과와 같습니다.
+ * timestamp는 초 단위이므로 같은 초 안의 응답은 인코딩된 값을 재사용합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * // 429 응답 (HandlerInterceptor)
+ * apiResponseWriter.writeError(response, ErrorCode.RATE_LIMIT_EXCEEDED);
+ *
+ * // 성공 응답
+ * apiResponseWriter.writeSuccess(response, HttpStatus.OK, data, "Success");
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiResponseWriter {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String JSON_CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private static final byte[] ERROR_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final SerializableString SUCCESS_FIELD = new SerializedString("success");
+    private static final SerializableString DATA_FIELD = new SerializedString("data");
+    private static final SerializableString MESSAGE_FIELD = new SerializedString("message");
+    private static final SerializableString TIMESTAMP_FIELD = new SerializedString("timestamp");
+
+    /**
+     * ErrorCode별 에러 본문 (timestamp 값 직전까지)
+     */
+    private static final Map<ErrorCode, byte[]> ERROR_PREFIXES = buildErrorPrefixes();
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 마지막으로 인코딩한 timestamp (초 단위 갱신)
+     */
+    private volatile EncodedTimestamp timestamp = EncodedTimestamp.of(currentEpochSecond());
+
+    /**
+     * 에러 응답 출력 (status, Content-Type, Content-Length 설정 포함)
+     *
+     * @param response  HTTP 응답
+     * @param errorCode 에러 코드 (기본 메시지 사용)
+     */
+    public void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        EncodedTimestamp now = currentTimestamp();
+        byte[] prefix = ERROR_PREFIXES.get(errorCode);
+
+        response.setStatus(errorCode.getStatusValue());
+        response.setContentType(JSON_CONTENT_TYPE);
+        response.setContentLength(prefix.length + now.bytes.length + ERROR_SUFFIX.length);
+        writeError(response.getOutputStream(), prefix, now);
+    }
+
+    /**
+     * 에러 응답 본문 출력
+     *
+     * @param outputStream 출력 스트림
+     * @param errorCode    에러 코드 (기본 메시지 사용)
+     */
+    public void writeError(OutputStream outputStream, ErrorCode errorCode) throws IOException {
+        writeError(outputStream, ERROR_PREFIXES.get(errorCode), currentTimestamp());
+    }
+
+    /**
+     * 성공 응답 출력
+     *
+     * @param response HTTP 응답
+     * @param status   HTTP 상태
+     * @param data     응답 데이터 (null이면 생략)
+     * @param message  응답 메시지 (null이면 생략)
+     */
+    public void writeSuccess(HttpServletResponse response, HttpStatus status, Object data, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(JSON_CONTENT_TYPE);
+        writeSuccess(response.getOutputStream(), data, message);
+    }
+
+    /**
+     * 성공 응답 본문 출력
+     *
+     * <p>data는 ObjectMapper 설정(모듈, NON_NULL 등)을 그대로 사용하여 직렬화합니다.</p>
+     */
+    public void writeSuccess(OutputStream outputStream, Object data, String message) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+            generator.writeStartObject();
+            generator.writeFieldName(SUCCESS_FIELD);
+            generator.writeBoolean(true);
+            if (data != null) {
+                generator.writeFieldName(DATA_FIELD);
+                generator.writeObject(data);
+            }
+            if (message != null) {
+                generator.writeFieldName(MESSAGE_FIELD);
+                generator.writeString(message);
+            }
+            generator.writeFieldName(TIMESTAMP_FIELD);
+            generator.writeString(currentTimestamp().text);
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeError(OutputStream outputStream, byte[] prefix, EncodedTimestamp now) throws IOException {
+        outputStream.write(prefix);
+        outputStream.write(now.bytes);
+        outputStream.write(ERROR_SUFFIX);
+        outputStream.flush();
+    }
+
+    /**
+     * 현재 초의 인코딩된 timestamp (같은 초 안에서는 재사용)
+     */
+    private EncodedTimestamp currentTimestamp() {
+        long epochSecond = currentEpochSecond();
+        EncodedTimestamp cached = timestamp;
+        if (cached.epochSecond == epochSecond) {
+            return cached;
+        }
+        EncodedTimestamp refreshed = EncodedTimestamp.of(epochSecond);
+        timestamp = refreshed;
+        return refreshed;
+    }
+
+    private static long currentEpochSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static Map<ErrorCode, byte[]> buildErrorPrefixes() {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        Map<ErrorCode, byte[]> prefixes = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            String prefix = "{\"success\":false,\"error\":{\"code\":\""
+                    + new String(encoder.quoteAsString(errorCode.getCode()))
+                    + "\",\"message\":\""
+                    + new String(encoder.quoteAsString(errorCode.getMessage()))
+                    + "\"},\"timestamp\":\"";
+            prefixes.put(errorCode, prefix.getBytes(StandardCharsets.UTF_8));
+        }
+        return prefixes;
+    }
+
+    /**
+     * 초 단위 timestamp와 인코딩 결과
+     */
+    private static final class EncodedTimestamp {
+
+        private final long epochSecond;
+        private final String text;
+        private final byte[] bytes;
+
+        private EncodedTimestamp(long epochSecond, String text) {
+            this.epochSecond = epochSecond;
+            this.text = text;
+            this.bytes = text.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        private static EncodedTimestamp of(long epochSecond) {
+            LocalDateTime second = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+            return new EncodedTimestamp(epochSecond, TIMESTAMP_FORMAT.format(second));
+        }
+    }
+}
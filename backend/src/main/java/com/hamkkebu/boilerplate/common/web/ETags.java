@@ -0,0 +1,133 @@
+package com.hamkkebu.boilerplate.common.web;
+
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import com.hamkkebu.boilerplate.common.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 지원 유틸리티
+ *
+ * <p>응답 본문이 아니라 리소스 버전(BaseEntity.updatedAt, JPA {@code @Version} 등)으로 strong ETag를 만듭니다.
+ * If-None-Match가 일치하면 DTO 변환과 JSON 직렬화 없이 304 Not Modified를 반환합니다.</p>
+ *
+ * <p>ETag 값은 리소스 식별자와 버전의 SHA-256 앞 16바이트(hex)이며, 내부 ID나 시각을 노출하지 않습니다.</p>
+ *
+ * <p>주의:</p>
+ * <ul>
+ *   <li>updated_at이 초 단위(DATETIME)면 같은 초 안의 두 번째 수정은 구분되지 않으므로, {@code @Version}이 있는 엔티티는 버전을 함께 사용</li>
+ *   <li>gzip 압축 응답은 Tomcat이 weak ETag(W/)로 바꾸며, If-None-Match 비교는 weak 비교라 그대로 동작</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * {@literal @}GetMapping("/ledgers/{ledgerId}")
+ * public ResponseEntity{@literal <}ApiResponse{@literal <}LedgerDto{@literal >>} getLedger({@literal @}PathVariable Long ledgerId, WebRequest request) {
+ *     Ledger ledger = ledgerService.getLedger(ledgerId);
+ *     return ETags.okOrNotModified(request, ETags.of("ledger", ledgerId, ledger), () -{@literal >} LedgerDto.from(ledger));
+ * }
+ *
+ * // 목록: 각 항목의 버전을 모두 반영
+ * String etag = ETags.ofAll("ledgers:user:" + userId, ledgers);
+ * </pre>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ETags {
+
+    private static final int ETAG_BYTES = 16;
+    private static final byte SEPARATOR = 0x1F;
+
+    /**
+     * 엔티티 ETag (리소스 식별자 + updatedAt)
+     *
+     * @param type   리소스 종류 (예: "ledger")
+     * @param id     리소스 ID
+     * @param entity 엔티티
+     */
+    public static String of(String type, Object id, BaseEntity entity) {
+        return of(type, id, entity.getUpdatedAt());
+    }
+
+    /**
+     * 엔티티 ETag (리소스 식별자 + updatedAt + JPA 버전)
+     */
+    public static String of(String type, Object id, BaseEntity entity, long version) {
+        return of(type, id, entity.getUpdatedAt(), version);
+    }
+
+    /**
+     * 목록 ETag (각 항목의 updatedAt과 개수를 순서대로 반영)
+     *
+     * @param key      목록 식별자 (조회 조건 포함, 예: "ledgers:user:1:page:0")
+     * @param entities 조회 결과
+     */
+    public static String ofAll(String key, Collection<? extends BaseEntity> entities) {
+        MessageDigest digest = sha256();
+        update(digest, key);
+        update(digest, entities.size());
+        for (BaseEntity entity : entities) {
+            update(digest, entity.getUpdatedAt());
+        }
+        return format(digest);
+    }
+
+    /**
+     * 임의 버전 값으로 ETag 생성
+     *
+     * @param versionParts 리소스 식별자와 버전 (toString 결과 사용)
+     * @return 따옴표를 포함한 strong ETag (예: "\"3f2a...\"")
+     */
+    public static String of(Object... versionParts) {
+        MessageDigest digest = sha256();
+        for (Object part : versionParts) {
+            update(digest, part);
+        }
+        return format(digest);
+    }
+
+    /**
+     * If-None-Match가 일치하면 304, 아니면 ETag와 함께 200 응답
+     *
+     * <p>304인 경우 body 공급자를 호출하지 않습니다.</p>
+     *
+     * @param request WebRequest (컨트롤러 파라미터로 주입)
+     * @param etag    {@link #of} 등으로 만든 ETag
+     * @param body    응답 데이터 공급자
+     */
+    public static <T> ResponseEntity<ApiResponse<T>> okOrNotModified(WebRequest request, String etag, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(body.get()));
+    }
+
+    private static void update(MessageDigest digest, Object part) {
+        digest.update(Objects.toString(part, "").getBytes(StandardCharsets.UTF_8));
+        digest.update(SEPARATOR);
+    }
+
+    private static String format(MessageDigest digest) {
+        byte[] hash = Arrays.copyOf(digest.digest(), ETAG_BYTES);
+        return "\"" + HexFormat.of().formatHex(hash) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.hamkkebu.boilerplate.common.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.boilerplate.common.constant.CommonConstants;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 대용량 목록 스트리밍 응답
+ *
+ * <p>결과 전체를 List로 만들지 않고, Stream에서 한 건씩 읽어 Jackson JsonGenerator로 바로 출력합니다.
+ * 결과 크기와 무관하게 메모리 사용량이 일정합니다. (내보내기, 관리자 화면 등)</p>
+ *
+ * <p>지원 형식:</p>
+ * <ul>
+ *   <li>NDJSON (application/x-ndjson): 한 줄에 JSON 객체 하나</li>
+ *   <li>JSON 배열 (application/json): [{...},{...}]</li>
+ * </ul>
+ *
+ * <p>Stream은 응답 쓰기 스레드에서 읽기 전용 트랜잭션 안에서 열리고, 출력한 엔티티는 즉시 detach하여
+ * 영속성 컨텍스트가 커지지 않도록 합니다.</p>
+ *
+ * <p>스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로, converter에서 지연 로딩 연관관계에
+ * 접근하지 않도록 필요한 데이터는 fetch join이나 DTO 프로젝션으로 함께 조회합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * // Repository (Spring Data Stream + fetch size)
+ * {@literal @}QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = CommonConstants.STREAM_FETCH_SIZE_HINT))
+ * Stream{@literal <}Transaction{@literal >} streamByLedgerIdAndIsDeletedFalse(Long ledgerId);
+ *
+ * // Controller
+ * {@literal @}GetMapping("/ledgers/{ledgerId}/transactions/export")
+ * public ResponseEntity{@literal <}StreamingResponseBody{@literal >} export({@literal @}PathVariable Long ledgerId) {
+ *     return jsonStreamingResponses.ndjson(
+ *             () -{@literal >} transactionRepository.streamByLedgerIdAndIsDeletedFalse(ledgerId),
+ *             TransactionDto::from);
+ * }
+ *
+ * // JDBC cursor
+ * return jsonStreamingResponses.jsonArray(
+ *         jsonStreamingResponses.jdbcStream("SELECT ... FROM tbl_transactions WHERE ledger_id = ?", rowMapper, ledgerId));
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JsonStreamingResponses {
+
+    /**
+     * 출력 버퍼 flush 간격 (건)
+     */
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * NDJSON 스트리밍 응답
+     */
+    public <T> ResponseEntity<StreamingResponseBody> ndjson(Supplier<Stream<T>> source) {
+        return ndjson(source, Function.identity());
+    }
+
+    /**
+     * NDJSON 스트리밍 응답 (데이터 변환)
+     */
+    public <T, U> ResponseEntity<StreamingResponseBody> ndjson(Supplier<Stream<T>> source, Function<T, U> converter) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> write(outputStream, source, converter, false));
+    }
+
+    /**
+     * JSON 배열 스트리밍 응답
+     */
+    public <T> ResponseEntity<StreamingResponseBody> jsonArray(Supplier<Stream<T>> source) {
+        return jsonArray(source, Function.identity());
+    }
+
+    /**
+     * JSON 배열 스트리밍 응답 (데이터 변환)
+     */
+    public <T, U> ResponseEntity<StreamingResponseBody> jsonArray(Supplier<Stream<T>> source, Function<T, U> converter) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> write(outputStream, source, converter, true));
+    }
+
+    /**
+     * JDBC 스트리밍 Stream 공급자 (fetch size 적용)
+     *
+     * <p>MySQL은 fetch size가 Integer.MIN_VALUE인 Statement만 결과를 한 행씩 스트리밍합니다.
+     * 다른 쿼리의 fetch 방식에는 영향이 없습니다.</p>
+     *
+     * @param sql       조회 SQL
+     * @param rowMapper 행 매핑
+     * @param args      바인딩 파라미터
+     */
+    public <T> Supplier<Stream<T>> jdbcStream(String sql, RowMapper<T> rowMapper, Object... args) {
+        return () -> {
+            JdbcTemplate cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+            cursorTemplate.setFetchSize(CommonConstants.STREAM_FETCH_SIZE);
+            return cursorTemplate.queryForStream(sql, rowMapper, args);
+        };
+    }
+
+    private <T, U> void write(OutputStream outputStream, Supplier<Stream<T>> source,
+                              Function<T, U> converter, boolean jsonArray) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            long count = 0;
+            try (Stream<T> stream = source.get();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                generator.setRootValueSeparator(null);
+
+                if (jsonArray) {
+                    generator.writeStartArray();
+                }
+
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    T item = iterator.next();
+                    generator.writeObject(converter.apply(item));
+                    if (!jsonArray) {
+                        generator.writeRaw('\n');
+                    }
+                    detach(item);
+
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+
+                if (jsonArray) {
+                    generator.writeEndArray();
+                }
+                generator.flush();
+            } catch (IOException e) {
+                log.warn("Streaming response aborted after {} rows: {}", count, e.getMessage());
+                throw new UncheckedIOException(e);
+            }
+            log.debug("Streaming response completed: {} rows", count);
+        });
+    }
+
+    /**
+     * 출력한 엔티티를 영속성 컨텍스트에서 분리
+     */
+    private void detach(Object item) {
+        if (item != null && item.getClass().isAnnotationPresent(Entity.class)) {
+            entityManager.detach(item);
+        }
+    }
+}
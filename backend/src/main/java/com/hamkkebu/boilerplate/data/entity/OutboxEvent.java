@@ -36,6 +36,14 @@ import java.time.LocalDateTime;
 @Table(name = "tbl_outbox_event")
 public class OutboxEvent {
 
+    /**
+     * ID (기본 IDENTITY)
+     *
+     * <p>IDENTITY는 INSERT마다 생성 키를 받아야 해서 JDBC 배치가 비활성화됩니다.
+     * 이벤트를 한 트랜잭션에서 여러 건 저장하는 서비스는 classpath:sql/id-sequences.sql로 tbl_id_sequences를
+     * 생성/초기화한 뒤 spring.jpa.mapping-resources=META-INF/outbox-table-id-orm.xml을 지정하면
+     * pooled TABLE 생성기(allocationSize 50)로 전환되어 INSERT가 배치로 묶입니다.</p>
+     */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
@@ -0,0 +1,23 @@
+-- =====================================================================
+-- TABLE ID 생성기 테이블 (MySQL 8.0+)
+--
+-- 자동 실행되지 않습니다. 각 서비스의 마이그레이션에 복사하여 사용하세요.
+-- 선택 사항: 이 스크립트를 실행한 뒤 spring.jpa.mapping-resources=META-INF/outbox-table-id-orm.xml을 지정한
+-- 서비스만 OutboxEvent ID를 이 테이블에서 할당합니다. (지정하지 않으면 기존 AUTO_INCREMENT 사용)
+-- IDENTITY 대신 pooled TABLE 생성기(@TableGenerator, allocationSize=50)를 쓰는 엔티티의 ID를 할당합니다.
+-- Hibernate가 allocationSize 단위로 next_val을 증가시키고, 그 구간의 ID를 메모리에서 배정합니다.
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS tbl_id_sequences (
+    sequence_name VARCHAR(100) NOT NULL PRIMARY KEY,
+    next_val      BIGINT       NOT NULL
+);
+
+-- 기존 테이블을 전환하는 경우 현재 최대 ID 이후부터 할당되도록 초기값 설정
+-- pooled 생성기는 읽은 값을 구간의 끝으로 보고 (값 - allocationSize + 1)부터 배정하므로 MAX(id) + allocationSize
+-- (행이 없으면 Hibernate가 초기값 1로 생성하므로 기존 ID와 충돌)
+INSERT INTO tbl_id_sequences (sequence_name, next_val)
+SELECT 'tbl_outbox_event', COALESCE(MAX(id), 0) + 50 FROM tbl_outbox_event;
+
+-- 전환 후에는 기존 AUTO_INCREMENT를 사용하지 않음 (남겨두어도 무방)
+-- ALTER TABLE tbl_outbox_event MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,61 @@
+-- =====================================================================
+-- Soft Delete 인덱스 / 아카이브 테이블 DDL (MySQL 8.0+)
+--
+-- 자동 실행되지 않습니다. 각 서비스의 마이그레이션에 복사하여 사용하세요.
+-- 테이블명은 Synced* 엔티티 Javadoc 예시(tbl_ledgers, tbl_ledger_members, tbl_ledger_shares) 기준입니다.
+--
+-- MySQL은 partial index(WHERE is_deleted = FALSE)를 지원하지 않으므로
+-- is_deleted를 조회 조건 컬럼 뒤에 붙인 복합 인덱스를 사용합니다.
+-- 죽은 행은 SoftDeleteArchiveScheduler가 보관 기간 후 *_archive 테이블로 옮겨 인덱스 크기를 유지합니다.
+-- =====================================================================
+
+-- ---------------------------------------------------------------------
+-- 1. 조회 조건 인덱스 (Synced* Repository 쿼리)
+-- ---------------------------------------------------------------------
+
+-- findByUserIdAndIsDeletedFalse
+CREATE INDEX idx_ledgers_user_deleted ON tbl_ledgers (user_id, is_deleted);
+
+-- findByLedgerIdAndIsDeletedFalse, findByLedgerIdAndAccountIdAndIsDeletedFalse
+CREATE INDEX idx_ledger_members_ledger_deleted ON tbl_ledger_members (ledger_id, is_deleted, account_id);
+-- findByAccountIdAndIsDeletedFalse
+CREATE INDEX idx_ledger_members_account_deleted ON tbl_ledger_members (account_id, is_deleted);
+
+-- findByLedgerIdAndIsDeletedFalse
+CREATE INDEX idx_ledger_shares_ledger_deleted ON tbl_ledger_shares (ledger_id, is_deleted);
+-- findBySharedUserIdAndStatusAndIsDeletedFalse
+CREATE INDEX idx_ledger_shares_user_status_deleted ON tbl_ledger_shares (shared_user_id, share_status, is_deleted);
+-- findByOwnerIdAndIsDeletedFalse
+CREATE INDEX idx_ledger_shares_owner_deleted ON tbl_ledger_shares (owner_id, is_deleted);
+
+-- ---------------------------------------------------------------------
+-- 2. 아카이브 대상 조회 인덱스 (WHERE is_deleted = TRUE AND deleted_at < ?)
+-- ---------------------------------------------------------------------
+
+CREATE INDEX idx_ledgers_deleted_at ON tbl_ledgers (is_deleted, deleted_at);
+CREATE INDEX idx_ledger_members_deleted_at ON tbl_ledger_members (is_deleted, deleted_at);
+CREATE INDEX idx_ledger_shares_deleted_at ON tbl_ledger_shares (is_deleted, deleted_at);
+
+-- ---------------------------------------------------------------------
+-- 3. 아카이브 테이블
+--    원본과 컬럼 순서가 같아야 하며 archived_at이 마지막 컬럼이어야 합니다.
+--    (INSERT INTO <table>_archive SELECT t.*, NOW() ...)
+--    원본에 컬럼을 추가하면 아카이브 테이블에도 같은 위치에 추가하세요.
+-- ---------------------------------------------------------------------
+
+CREATE TABLE tbl_ledgers_archive LIKE tbl_ledgers;
+ALTER TABLE tbl_ledgers_archive
+    ADD COLUMN archived_at DATETIME NOT NULL,
+    ADD INDEX idx_ledgers_archive_archived_at (archived_at);
+
+CREATE TABLE tbl_ledger_members_archive LIKE tbl_ledger_members;
+ALTER TABLE tbl_ledger_members_archive
+    MODIFY ledger_member_id BIGINT NOT NULL,
+    ADD COLUMN archived_at DATETIME NOT NULL,
+    ADD INDEX idx_ledger_members_archive_archived_at (archived_at);
+
+CREATE TABLE tbl_ledger_shares_archive LIKE tbl_ledger_shares;
+ALTER TABLE tbl_ledger_shares_archive
+    MODIFY ledger_share_id BIGINT NOT NULL,
+    ADD COLUMN archived_at DATETIME NOT NULL,
+    ADD INDEX idx_ledger_shares_archive_archived_at (archived_at);
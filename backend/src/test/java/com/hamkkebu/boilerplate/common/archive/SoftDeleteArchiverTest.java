@@ -0,0 +1,66 @@
+package com.hamkkebu.boilerplate.common.archive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SoftDeleteArchiverTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SoftDeleteArchiver archiver =
+            new SoftDeleteArchiver(jdbcTemplate, mock(PlatformTransactionManager.class));
+
+    @Test
+    void archivesInChunksUntilLastPartialChunk() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenAnswer(invocation -> invocation.getArguments().length - 1);
+
+        int archived = archiver.archive(SoftDeleteArchiver.Target.of("tbl_ledger_members", "ledger_member_id"),
+                LocalDateTime.now().minusDays(30), 2);
+
+        assertThat(archived).isEqualTo(3);
+        verify(jdbcTemplate, times(2)).update(
+                startsWith("INSERT INTO tbl_ledger_members_archive SELECT t.*, NOW() FROM tbl_ledger_members t"),
+                any(Object[].class));
+        verify(jdbcTemplate, times(2)).update(
+                startsWith("DELETE FROM tbl_ledger_members WHERE ledger_member_id IN ("), any(Object[].class));
+    }
+
+    @Test
+    void stopsWhenNothingToArchive() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of());
+
+        int archived = archiver.archive(SoftDeleteArchiver.Target.of("tbl_ledgers", "ledger_id"),
+                LocalDateTime.now(), 500);
+
+        assertThat(archived).isZero();
+        verify(jdbcTemplate, times(0)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void parseRejectsNonIdentifiers() {
+        assertThat(SoftDeleteArchiver.Target.parse(" tbl_ledgers : ledger_id ").getTable()).isEqualTo("tbl_ledgers");
+
+        assertThatThrownBy(() -> SoftDeleteArchiver.Target.parse("tbl_ledgers"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SoftDeleteArchiver.Target.parse("tbl_ledgers; DROP TABLE x:ledger_id"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
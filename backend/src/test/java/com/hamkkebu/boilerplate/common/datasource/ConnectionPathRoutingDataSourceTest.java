@@ -0,0 +1,72 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ConnectionPathRoutingDataSourceTest {
+
+    private final Connection requestConnection = mock(Connection.class);
+    private final Connection consumerConnection = mock(Connection.class);
+    private final Connection schedulerConnection = mock(Connection.class);
+
+    @AfterEach
+    void tearDown() {
+        ConnectionPathContext.clear();
+    }
+
+    @Test
+    void routesByCurrentPath() throws SQLException {
+        ConnectionPathRoutingDataSource dataSource = routingDataSource();
+
+        assertThat(dataSource.getConnection()).isSameAs(requestConnection);
+
+        ConnectionPathContext.bind(ConnectionPath.KAFKA_CONSUMER);
+        assertThat(dataSource.getConnection()).isSameAs(consumerConnection);
+
+        ConnectionPathContext.bind(ConnectionPath.SCHEDULER);
+        assertThat(dataSource.getConnection()).isSameAs(schedulerConnection);
+    }
+
+    @Test
+    void wrappedTaskRunsOnPathAndClearsAfterwards() throws SQLException {
+        ConnectionPathRoutingDataSource dataSource = routingDataSource();
+        Connection[] used = new Connection[1];
+
+        ConnectionPathContext.wrap(ConnectionPath.SCHEDULER, () -> {
+            try {
+                used[0] = dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }).run();
+
+        assertThat(used[0]).isSameAs(schedulerConnection);
+        assertThat(ConnectionPathContext.current()).isEqualTo(ConnectionPath.REQUEST);
+    }
+
+    private ConnectionPathRoutingDataSource routingDataSource() throws SQLException {
+        Map<ConnectionPath, DataSource> pools = new EnumMap<>(ConnectionPath.class);
+        pools.put(ConnectionPath.REQUEST, pool(requestConnection));
+        pools.put(ConnectionPath.KAFKA_CONSUMER, pool(consumerConnection));
+        pools.put(ConnectionPath.SCHEDULER, pool(schedulerConnection));
+        ConnectionPathRoutingDataSource dataSource = new ConnectionPathRoutingDataSource(pools);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private static DataSource pool(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,53 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HikariPoolAdvisorTest {
+
+    private final PoolAdvisorSettings settings = PoolAdvisorSettings.builder()
+            .headroom(1.2)
+            .minPoolSize(2)
+            .maxPoolSize(50)
+            .build();
+
+    @Test
+    void recommendsPeakDemandWithHeadroom() {
+        assertThat(HikariPoolAdvisor.recommendedSize(10, settings)).isEqualTo(12);
+        assertThat(HikariPoolAdvisor.recommendedSize(11, settings)).isEqualTo(14);
+    }
+
+    @Test
+    void clampsRecommendationToBounds() {
+        assertThat(HikariPoolAdvisor.recommendedSize(0, settings)).isEqualTo(2);
+        assertThat(HikariPoolAdvisor.recommendedSize(100, settings)).isEqualTo(50);
+    }
+
+    @Test
+    void keepsSizesWithinBudget() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("request", 12);
+        sizes.put("kafka-consumer", 4);
+
+        assertThat(HikariPoolAdvisor.fitToBudget(sizes, 60, 2)).isEqualTo(sizes);
+    }
+
+    @Test
+    void scalesDownProportionallyWhenOverBudget() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("request", 40);
+        sizes.put("kafka-consumer", 16);
+        sizes.put("scheduler", 4);
+
+        Map<String, Integer> fitted = HikariPoolAdvisor.fitToBudget(sizes, 30, 2);
+
+        assertThat(fitted).containsEntry("request", 20)
+                .containsEntry("kafka-consumer", 8)
+                .containsEntry("scheduler", 2);
+        assertThat(fitted.values().stream().mapToInt(Integer::intValue).sum()).isLessThanOrEqualTo(30);
+    }
+}
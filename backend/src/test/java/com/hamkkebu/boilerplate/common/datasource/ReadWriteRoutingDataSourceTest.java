@@ -0,0 +1,272 @@
+package com.hamkkebu.boilerplate.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+public class ReadWriteRoutingDataSourceTest {
+
+    private static final String MYSQL_IMAGE = "mysql:8.0";
+    private static final String WHICH_NODE = "SELECT name FROM node";
+
+    @Container
+    private static final MySQLContainer<?> PRIMARY = new MySQLContainer<>(MYSQL_IMAGE);
+
+    @Container
+    private static final MySQLContainer<?> REPLICA = new MySQLContainer<>(MYSQL_IMAGE);
+
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void setUpPools() {
+        primaryPool = pool(PRIMARY, "primary");
+        replicaPool = pool(REPLICA, "replica");
+    }
+
+    @AfterAll
+    static void closePools() {
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        ConnectionPathContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionReadsFromReplica() {
+        RoutingFixture fixture = new RoutingFixture(healthyReplica(), new ReadYourWritesTracker(Duration.ofSeconds(5)));
+
+        assertThat(fixture.read()).isEqualTo("replica");
+        assertThat(fixture.write()).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing").tag("role", "replica").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryWithinWindow() {
+        RoutingFixture fixture = new RoutingFixture(healthyReplica(), new ReadYourWritesTracker(Duration.ofSeconds(5)));
+        authenticate("alice");
+
+        assertThat(fixture.read()).isEqualTo("replica");
+        fixture.write();
+        assertThat(fixture.read()).isEqualTo("primary");
+
+        authenticate("bob");
+        assertThat(fixture.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionWithoutWritesDoesNotStickToPrimary() {
+        RoutingFixture fixture = new RoutingFixture(healthyReplica(), new ReadYourWritesTracker(Duration.ofSeconds(5)));
+        authenticate("alice");
+
+        assertThat(fixture.readInWriteTransaction()).isEqualTo("primary");
+        assertThat(fixture.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void jpaTransactionsRouteByReadOnlyAndStickOnlyAfterFlushedWrites() {
+        JpaRoutingFixture fixture = new JpaRoutingFixture(healthyReplica(),
+                new ReadYourWritesTracker(Duration.ofSeconds(5)));
+        try {
+            authenticate("alice");
+
+            assertThat(fixture.read()).isEqualTo("replica");
+            assertThat(fixture.readInWriteTransaction()).isEqualTo("primary");
+            assertThat(fixture.read()).isEqualTo("replica");
+
+            // 변경 감지로 커밋 시점 flush에서 UPDATE 실행
+            fixture.visit();
+            assertThat(fixture.read()).isEqualTo("primary");
+
+            authenticate("bob");
+            assertThat(fixture.read()).isEqualTo("replica");
+        } finally {
+            fixture.close();
+        }
+    }
+
+    @Test
+    void nonRequestPathsStayOnPrimary() {
+        RoutingFixture fixture = new RoutingFixture(healthyReplica(), new ReadYourWritesTracker(Duration.ofSeconds(5)));
+
+        ConnectionPathContext.bind(ConnectionPath.KAFKA_CONSUMER);
+        assertThat(fixture.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicationStatusIsUnknown() {
+        // 두 컨테이너는 복제 관계가 아니므로 SHOW REPLICA STATUS로 지연을 확인할 수 없음
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicaPool, Duration.ofSeconds(5), true, meterRegistry);
+        lagMonitor.check();
+        RoutingFixture fixture = new RoutingFixture(lagMonitor, new ReadYourWritesTracker(Duration.ofSeconds(5)));
+
+        assertThat(lagMonitor.isHealthy()).isFalse();
+        assertThat(fixture.read()).isEqualTo("primary");
+    }
+
+    private ReplicaLagMonitor healthyReplica() {
+        return new ReplicaLagMonitor(replicaPool, Duration.ofSeconds(5), false, meterRegistry);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    private static HikariDataSource pool(MySQLContainer<?> container, String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(container.getJdbcUrl());
+        dataSource.setUsername(container.getUsername());
+        dataSource.setPassword(container.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setPoolName(name);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node ("
+                + "name VARCHAR(20) NOT NULL PRIMARY KEY, visits INT NOT NULL DEFAULT 0)");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * 읽기/쓰기 라우팅 DataSource와 트랜잭션 템플릿
+     */
+    private final class RoutingFixture {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private RoutingFixture(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker tracker) {
+            DataSource dataSource = ReadWriteRoutingDataSource.lazy(primaryPool, replicaPool, tracker, lagMonitor,
+                    meterRegistry);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class));
+        }
+
+        private String readInWriteTransaction() {
+            return readWrite.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class));
+        }
+
+        private String write() {
+            return readWrite.execute(status -> {
+                jdbcTemplate.update("UPDATE node SET name = name");
+                return jdbcTemplate.queryForObject(WHICH_NODE, String.class);
+            });
+        }
+    }
+
+    /**
+     * 운영과 같은 JpaTransactionManager(HibernateJpaDialect) + LazyConnectionDataSourceProxy 구성
+     */
+    private final class JpaRoutingFixture {
+
+        private final LocalContainerEntityManagerFactoryBean factoryBean;
+        private final EntityManager entityManager;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private JpaRoutingFixture(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker tracker) {
+            DataSource dataSource = ReadWriteRoutingDataSource.lazy(primaryPool, replicaPool, tracker, lagMonitor,
+                    meterRegistry);
+            this.factoryBean = new LocalContainerEntityManagerFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factoryBean.setManagedTypes(PersistenceManagedTypes.of(RoutingNode.class.getName()));
+            factoryBean.setPersistenceUnitName("routing-test");
+            factoryBean.afterPropertiesSet();
+            EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+            this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnly.execute(status -> currentNode().getName());
+        }
+
+        private String readInWriteTransaction() {
+            return readWrite.execute(status -> currentNode().getName());
+        }
+
+        private void visit() {
+            readWrite.executeWithoutResult(status -> currentNode().visit());
+        }
+
+        private RoutingNode currentNode() {
+            return entityManager.createQuery("SELECT n FROM RoutingNode n", RoutingNode.class).getSingleResult();
+        }
+
+        private void close() {
+            factoryBean.destroy();
+        }
+    }
+
+    @Entity(name = "RoutingNode")
+    @Table(name = "node")
+    public static class RoutingNode {
+
+        @Id
+        @Column(name = "name")
+        private String name;
+
+        @Column(name = "visits")
+        private int visits;
+
+        protected RoutingNode() {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void visit() {
+            visits++;
+        }
+    }
+}
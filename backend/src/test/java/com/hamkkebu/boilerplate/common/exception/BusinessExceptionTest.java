@@ -0,0 +1,57 @@
+package com.hamkkebu.boilerplate.common.exception;
+
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BusinessExceptionTest {
+
+    @Test
+    void clientErrorHasNoStackTrace() {
+        BusinessException ex = new BusinessException(ErrorCode.AUTHENTICATION_FAILED);
+
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getDetails()).isEmpty();
+    }
+
+    @Test
+    void serverErrorKeepsStackTrace() {
+        BusinessException ex = new BusinessException(ErrorCode.DATABASE_ERROR);
+
+        assertThat(ex.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void clientErrorWithCauseKeepsStackTrace() {
+        BusinessException ex = new BusinessException(ErrorCode.INVALID_REQUEST, new IllegalArgumentException("bad"));
+
+        assertThat(ex.getStackTrace()).isNotEmpty();
+        assertThat(ex.getCause()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void detailsAreCreatedOnFirstAdd() {
+        BusinessException ex = new BusinessException(ErrorCode.VALIDATION_FAILED)
+                .addDetail("field", "email")
+                .addDetails(Map.of("value", "invalid-email"));
+
+        assertThat(ex.getDetails()).containsEntry("field", "email").containsEntry("value", "invalid-email");
+    }
+
+    @Test
+    void handlerReusesDefaultErrorResponse() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+        ApiResponse<Void> first = handler.handleBusinessException(new BusinessException(ErrorCode.USER_NOT_FOUND)).getBody();
+        ApiResponse<Void> second = handler.handleBusinessException(new BusinessException(ErrorCode.USER_NOT_FOUND)).getBody();
+        ApiResponse<Void> custom = handler.handleBusinessException(
+                new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자 ID: 1를 찾을 수 없습니다")).getBody();
+
+        assertThat(first.getError()).isSameAs(second.getError());
+        assertThat(first.getError().getCode()).isEqualTo("USER-101");
+        assertThat(custom.getError().getMessage()).isEqualTo("사용자 ID: 1를 찾을 수 없습니다");
+    }
+}
@@ -0,0 +1,49 @@
+package com.hamkkebu.boilerplate.common.grpc;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 테스트용 지연 주입 서버 인터셉터 (in-process 서버에 등록)
+ *
+ * <p>호출 순번(0부터)별 지연 시간을 받아 서비스 처리 전에 대기합니다.
+ * 서버는 기본 executor(스레드 풀)로 만들어야 지연 중에도 다른 호출이 처리됩니다.</p>
+ *
+ * <pre>
+ * // 첫 호출만 500ms 지연 (느린 replica 흉내)
+ * new LatencyInjectingServerInterceptor(call -{@literal >} call == 0 ? Duration.ofMillis(500) : Duration.ZERO)
+ * </pre>
+ */
+public class LatencyInjectingServerInterceptor implements ServerInterceptor {
+
+    private final IntFunction<Duration> latencyByCall;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    public LatencyInjectingServerInterceptor(IntFunction<Duration> latencyByCall) {
+        this.latencyByCall = latencyByCall;
+    }
+
+    public int callCount() {
+        return calls.get();
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        Duration latency = latencyByCall.apply(calls.getAndIncrement());
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return next.startCall(call, headers);
+    }
+}
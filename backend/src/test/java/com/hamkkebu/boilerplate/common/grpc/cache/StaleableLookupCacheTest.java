@@ -0,0 +1,118 @@
+package com.hamkkebu.boilerplate.common.grpc.cache;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StaleableLookupCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("userService");
+    private final Bulkhead bulkhead = Bulkhead.of("userService", BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StaleableLookupCache<String, String> cache = new StaleableLookupCache<>("test",
+            GrpcCacheSettings.builder()
+                    .ttl(Duration.ofSeconds(60))
+                    .negativeTtl(Duration.ofSeconds(5))
+                    .maxStale(Duration.ofMinutes(10))
+                    .build(),
+            circuitBreaker, bulkhead, meterRegistry, nanos::get);
+
+    @Test
+    void cachesValuesForTtl() {
+        assertThat(cache.get("1", () -> load("user-1"))).contains("user-1");
+        advance(Duration.ofSeconds(59));
+        assertThat(cache.get("1", () -> load("other"))).contains("user-1");
+        assertThat(loads.get()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(2));
+        assertThat(cache.get("1", () -> load("user-1-v2"))).contains("user-1-v2");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void cachesNotFoundForNegativeTtl() {
+        assertThat(cache.get("missing", () -> load(null))).isEmpty();
+        advance(Duration.ofSeconds(4));
+        assertThat(cache.get("missing", () -> load("created"))).isEmpty();
+
+        advance(Duration.ofSeconds(2));
+        assertThat(cache.get("missing", () -> load("created"))).contains("created");
+    }
+
+    @Test
+    void servesStaleWithoutCallingWhenCircuitIsOpen() {
+        cache.get("1", () -> load("user-1"));
+        advance(Duration.ofMinutes(2));
+        circuitBreaker.transitionToOpenState();
+
+        assertThat(cache.get("1", () -> load("unreachable"))).contains("user-1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void servesStaleOnFailureAndRethrowsWithoutStaleEntry() {
+        cache.get("1", () -> load("user-1"));
+        advance(Duration.ofMinutes(2));
+
+        assertThat(cache.get("1", () -> {
+            throw Status.UNAVAILABLE.asRuntimeException();
+        })).contains("user-1");
+        assertThatThrownBy(() -> cache.get("2", () -> {
+            throw Status.UNAVAILABLE.asRuntimeException();
+        })).hasMessageContaining("UNAVAILABLE");
+    }
+
+    @Test
+    void invalidateRemovesStaleEntryToo() {
+        cache.get("1", () -> load("user-1"));
+        cache.invalidate("1");
+        circuitBreaker.transitionToOpenState();
+
+        assertThatThrownBy(() -> cache.get("1", () -> load("user-1")))
+                .isInstanceOf(CallNotPermittedException.class);
+    }
+
+    @Test
+    void fallsBackToStaleWhenBulkheadIsFull() {
+        cache.get("1", () -> load("user-1"));
+        advance(Duration.ofMinutes(2));
+        assertThat(bulkhead.tryAcquirePermission()).isTrue();
+
+        assertThat(cache.get("1", () -> load("unreachable"))).contains("user-1");
+        assertThatThrownBy(() -> cache.get("2", () -> load("user-2")))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("grpc.client.bulkhead.rejected", "caller", "test", "bulkhead", "userService")
+                .count()).isEqualTo(2.0);
+
+        bulkhead.onComplete();
+        assertThat(cache.get("2", () -> load("user-2"))).contains("user-2");
+    }
+
+    private Optional<String> load(String value) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(value);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,130 @@
+package com.hamkkebu.boilerplate.common.grpc.channel;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.hamkkebu.boilerplate.grpc.user.GetUserRequest;
+import com.hamkkebu.boilerplate.grpc.user.GetUserResponse;
+import com.hamkkebu.boilerplate.grpc.user.User;
+import com.hamkkebu.boilerplate.grpc.user.UserServiceGrpc;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GrpcChannelPoolTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private Server server;
+    private GrpcChannelPool pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(new UserServiceGrpc.UserServiceImplBase() {
+                    @Override
+                    public void getUser(GetUserRequest request, StreamObserver<GetUserResponse> responseObserver) {
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        responseObserver.onNext(GetUserResponse.newBuilder()
+                                .setUser(User.newBuilder().setId(request.getUserId()))
+                                .build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        pool = new GrpcChannelPool("user-service", 2, 1,
+                index -> InProcessChannelBuilder.forName(name).build(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        pool.close();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void spreadsCallsAcrossChannelsAndRejectsWhenAllAreFull() throws Exception {
+        UserServiceGrpc.UserServiceFutureStub stub = UserServiceGrpc.newFutureStub(pool);
+
+        ListenableFuture<GetUserResponse> first = stub.getUser(request("user-1"));
+        ListenableFuture<GetUserResponse> second = stub.getUser(request("user-2"));
+
+        assertThat(pool.inFlight(0)).isEqualTo(1);
+        assertThat(pool.inFlight(1)).isEqualTo(1);
+        assertThatThrownBy(() -> stub.getUser(request("user-3")).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(Status.fromThrowable(e).getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+        assertThat(meterRegistry.counter("grpc.client.pool.rejected", "service", "user-service").count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getUser().getId()).isEqualTo("user-1");
+        assertThat(second.get(5, TimeUnit.SECONDS).getUser().getId()).isEqualTo("user-2");
+        assertThat(pool.inFlight(0)).isZero();
+        assertThat(pool.inFlight(1)).isZero();
+    }
+
+    @Test
+    void inFlightGaugeIsPublishedPerChannel() {
+        assertThat(meterRegistry.get("grpc.client.pool.in_flight").gauges()).hasSize(2);
+        assertThat(meterRegistry.get("grpc.client.pool.ready_channels").gauge().value()).isZero();
+    }
+
+    @Test
+    void createResolvesStaticTargetWithoutSpringContext() throws Exception {
+        Server tcpServer = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(new UserServiceGrpc.UserServiceImplBase() {
+                    @Override
+                    public void getUser(GetUserRequest request, StreamObserver<GetUserResponse> responseObserver) {
+                        responseObserver.onNext(GetUserResponse.newBuilder()
+                                .setUser(User.newBuilder().setId(request.getUserId()))
+                                .build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        GrpcChannelPool staticPool = GrpcChannelPool.create("static-user-service", GrpcChannelPoolSettings.builder()
+                .target("static://localhost:" + tcpServer.getPort())
+                .poolSize(2)
+                .build(), meterRegistry);
+        try {
+            GetUserResponse response = UserServiceGrpc.newBlockingStub(staticPool)
+                    .withDeadlineAfter(5, TimeUnit.SECONDS)
+                    .getUser(request("user-1"));
+
+            assertThat(response.getUser().getId()).isEqualTo("user-1");
+        } finally {
+            staticPool.close();
+            tcpServer.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static GetUserRequest request(String userId) {
+        return GetUserRequest.newBuilder().setUserId(userId).build();
+    }
+}
@@ -0,0 +1,181 @@
+package com.hamkkebu.boilerplate.common.grpc.hedging;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.hamkkebu.boilerplate.common.grpc.LatencyInjectingServerInterceptor;
+import com.hamkkebu.boilerplate.grpc.user.GetUserRequest;
+import com.hamkkebu.boilerplate.grpc.user.GetUserResponse;
+import com.hamkkebu.boilerplate.grpc.user.User;
+import com.hamkkebu.boilerplate.grpc.user.UserServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HedgedCallerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Server server;
+    private ManagedChannel channel;
+    private HedgedCaller hedgedCaller;
+    private LatencyInjectingServerInterceptor latency;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        hedgedCaller.close();
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void hedgeAnswersWhenFirstAttemptIsSlow() throws IOException {
+        start(call -> call == 0 ? Duration.ofMillis(1000) : Duration.ZERO, false);
+
+        long startedAt = System.nanoTime();
+        GetUserResponse response = hedgedCaller.call("GetUser", this::getUser).join();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(response.getUser().getId()).isEqualTo("user-1");
+        assertThat(elapsedMillis).isLessThan(500);
+        assertThat(latency.callCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("grpc.client.hedge.won", "service", "user-service", "method", "GetUser")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void noHedgeWhenFirstAttemptIsFast() throws IOException, InterruptedException {
+        start(call -> Duration.ZERO, false);
+
+        hedgedCaller.call("GetUser", this::getUser).join();
+        Thread.sleep(100);
+
+        assertThat(latency.callCount()).isEqualTo(1);
+    }
+
+    @Test
+    void nonRetryableErrorFailsWithoutWaitingForHedge() throws IOException {
+        start(call -> Duration.ZERO, true);
+
+        assertThatThrownBy(() -> hedgedCaller.call("GetUser", this::getUser).join())
+                .hasCauseInstanceOf(StatusRuntimeException.class)
+                .hasMessageContaining("NOT_FOUND");
+        assertThat(latency.callCount()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgeStartedAfterPrimaryCompletedIsCancelled() throws IOException, InterruptedException {
+        start(call -> Duration.ZERO, false);
+        SettableFuture<String> primary = SettableFuture.create();
+        SettableFuture<String> hedge = SettableFuture.create();
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = hedgedCaller.call("GetUser", timeout -> {
+            if (attempts.getAndIncrement() == 0) {
+                return primary;
+            }
+            // hedge()의 완료 확인 직후 첫 시도가 성공한 경우
+            primary.set("primary");
+            return hedge;
+        });
+        CountDownLatch hedgeDone = new CountDownLatch(1);
+        hedge.addListener(hedgeDone::countDown, Runnable::run);
+
+        assertThat(result.join()).isEqualTo("primary");
+        assertThat(hedgeDone.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(hedge.isCancelled()).isTrue();
+    }
+
+    @Test
+    void timeoutAdaptsToObservedLatency() throws IOException {
+        start(call -> Duration.ZERO, false);
+
+        assertThat(hedgedCaller.currentTimeout("GetUser")).isEqualTo(Duration.ofSeconds(3));
+        for (int i = 0; i < 20; i++) {
+            hedgedCaller.call("GetUser", this::getUser).join();
+        }
+
+        assertThat(hedgedCaller.currentTimeout("GetUser")).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void timeoutGrowsAgainWhenLatencyExceedsLearnedTimeout() throws IOException {
+        AtomicReference<Duration> serverLatency = new AtomicReference<>(Duration.ZERO);
+        start(call -> serverLatency.get(), false, HedgingPolicy.builder()
+                .minSamples(10)
+                .maxHedgeDelay(Duration.ofMillis(50))
+                .maxHedgeRatio(1.0)
+                .refreshInterval(Duration.ZERO)
+                .build());
+        for (int i = 0; i < 20; i++) {
+            hedgedCaller.call("GetUser", this::getUser).join();
+        }
+        assertThat(hedgedCaller.currentTimeout("GetUser")).isEqualTo(Duration.ofMillis(200));
+
+        // 학습된 timeout(200ms)보다 느려짐
+        serverLatency.set(Duration.ofMillis(300));
+        assertThatThrownBy(() -> hedgedCaller.call("GetUser", this::getUser).join())
+                .hasMessageContaining("DEADLINE_EXCEEDED");
+        assertThat(hedgedCaller.currentTimeout("GetUser")).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+
+        GetUserResponse response = hedgedCaller.call("GetUser", this::getUser).join();
+
+        assertThat(response.getUser().getId()).isEqualTo("user-1");
+    }
+
+    private ListenableFuture<GetUserResponse> getUser(Duration timeout) {
+        return UserServiceGrpc.newFutureStub(channel)
+                .withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                .getUser(GetUserRequest.newBuilder().setUserId("user-1").build());
+    }
+
+    private void start(IntFunction<Duration> latencyByCall, boolean notFound) throws IOException {
+        start(latencyByCall, notFound, HedgingPolicy.builder()
+                .minSamples(10)
+                .maxHedgeDelay(Duration.ofMillis(50))
+                .maxHedgeRatio(1.0)
+                .build());
+    }
+
+    private void start(IntFunction<Duration> latencyByCall, boolean notFound, HedgingPolicy policy)
+            throws IOException {
+        latency = new LatencyInjectingServerInterceptor(latencyByCall);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(ServerInterceptors.intercept(new UserServiceGrpc.UserServiceImplBase() {
+                    @Override
+                    public void getUser(GetUserRequest request, StreamObserver<GetUserResponse> responseObserver) {
+                        if (notFound) {
+                            responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+                            return;
+                        }
+                        responseObserver.onNext(GetUserResponse.newBuilder()
+                                .setUser(User.newBuilder().setId(request.getUserId()))
+                                .build());
+                        responseObserver.onCompleted();
+                    }
+                }, latency))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        hedgedCaller = new HedgedCaller("user-service", policy, meterRegistry);
+    }
+}
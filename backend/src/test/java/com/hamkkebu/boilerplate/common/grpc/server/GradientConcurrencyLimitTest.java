@@ -0,0 +1,78 @@
+package com.hamkkebu.boilerplate.common.grpc.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GradientConcurrencyLimitTest {
+
+    private final ConcurrencyLimitSettings settings = ConcurrencyLimitSettings.builder()
+            .initialLimit(20)
+            .minLimit(5)
+            .maxLimit(100)
+            .windowSize(10)
+            .build();
+
+    @Test
+    void rejectsBeyondLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(ConcurrencyLimitSettings.builder()
+                .initialLimit(2)
+                .minLimit(1)
+                .build());
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release(TimeUnit.MILLISECONDS.toNanos(5), true);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsWhileLatencyIsStable() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(settings);
+
+        runWindows(limit, 20, 10, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void shrinksWhenLatencyInflates() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(settings);
+        runWindows(limit, 20, 10, TimeUnit.MILLISECONDS.toNanos(10));
+        int stableLimit = limit.getLimit();
+
+        runWindows(limit, stableLimit, 10, TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThat(limit.getLimit()).isLessThan(stableLimit);
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void keepsLimitWhenMostlyIdle() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(settings);
+
+        runWindows(limit, 1, 10, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    /**
+     * concurrency개씩 동시에 처리하는 부하를 windows번 반복
+     */
+    private void runWindows(GradientConcurrencyLimit limit, int concurrency, int windows, long rttNanos) {
+        int batches = Math.max(1, windows * settings.getWindowSize() / concurrency);
+        for (int batch = 0; batch < batches; batch++) {
+            int acquired = 0;
+            while (acquired < concurrency && limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(rttNanos, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.hamkkebu.boilerplate.common.grpc.server;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.hamkkebu.boilerplate.grpc.user.GetUserRequest;
+import com.hamkkebu.boilerplate.grpc.user.GetUserResponse;
+import com.hamkkebu.boilerplate.grpc.user.User;
+import com.hamkkebu.boilerplate.grpc.user.UserServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GrpcServerInterceptorsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        GrpcServerConcurrencyLimitInterceptor limitInterceptor = new GrpcServerConcurrencyLimitInterceptor(
+                ConcurrencyLimitSettings.builder().initialLimit(1).minLimit(1).build(), meterRegistry);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(ServerInterceptors.intercept(new UserServiceGrpc.UserServiceImplBase() {
+                    @Override
+                    public void getUser(GetUserRequest request, StreamObserver<GetUserResponse> responseObserver) {
+                        entered.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        responseObserver.onNext(GetUserResponse.newBuilder()
+                                .setUser(User.newBuilder().setId(request.getUserId()).setUsername("tester"))
+                                .build());
+                        responseObserver.onCompleted();
+                    }
+                }, limitInterceptor, new GrpcServerMetricsInterceptor(meterRegistry)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shedsCallsBeyondTheLimitAndRecordsMetrics() throws Exception {
+        ListenableFuture<GetUserResponse> first = UserServiceGrpc.newFutureStub(channel).getUser(request());
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(meterRegistry.get("grpc.server.calls.in_flight").tag("method", "GetUser").gauge().value())
+                .isEqualTo(1.0);
+        assertThatThrownBy(() -> UserServiceGrpc.newBlockingStub(channel).getUser(request()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(Status.fromThrowable(e).getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getUser().getId()).isEqualTo("user-1");
+
+        assertThat(meterRegistry.get("grpc.server.limit.rejected").tag("method", "GetUser").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("grpc.server.call.duration").tag("status", "OK").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("grpc.server.call.duration").tag("status", "RESOURCE_EXHAUSTED").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("grpc.server.message.size").tag("direction", "sent").summary().totalAmount())
+                .isPositive();
+        assertThat(meterRegistry.get("grpc.server.calls.in_flight").tag("method", "GetUser").gauge().value())
+                .isZero();
+    }
+
+    private static GetUserRequest request() {
+        return GetUserRequest.newBuilder().setUserId("user-1").build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.hamkkebu.boilerplate.common.grpc.transaction;
+
+import com.hamkkebu.boilerplate.grpc.transaction.Transaction;
+import com.hamkkebu.boilerplate.grpc.transaction.TransactionServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TransactionStreamingTest {
+
+    private static final int TOTAL = 1234;
+
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private Server server;
+    private ManagedChannel channel;
+    private TransactionStreamClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(new AbstractTransactionStreamingService() {
+                    @Override
+                    protected List<Transaction> fetchUserTransactions(String userId, long afterTransactionId, int limit) {
+                        fetchCount.incrementAndGet();
+                        List<Transaction> transactions = new ArrayList<>();
+                        for (long id = afterTransactionId + 1; id <= TOTAL && transactions.size() < limit; id++) {
+                            transactions.add(Transaction.newBuilder().setId(id).setUserId(userId).build());
+                        }
+                        return transactions;
+                    }
+                })
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        client = new TransactionStreamClient(TransactionServiceGrpc.newBlockingStub(channel), Duration.ofSeconds(10), 0);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void streamsAllTransactionsInIdOrder() {
+        List<Long> ids = new ArrayList<>();
+
+        long count = client.forEachUserTransaction("user-1", 0L, 500, transaction -> ids.add(transaction.getId()));
+
+        assertThat(count).isEqualTo(TOTAL);
+        assertThat(ids).hasSize(TOTAL).isSorted().startsWith(1L).endsWith((long) TOTAL);
+        assertThat(fetchCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void resumesAfterGivenTransactionId() {
+        long count = client.forEachUserTransaction("user-1", 1200L, 0, transaction -> { });
+
+        assertThat(count).isEqualTo(TOTAL - 1200);
+    }
+
+    @Test
+    void consumerFailureCancelsStream() {
+        AtomicInteger seen = new AtomicInteger();
+
+        assertThatThrownBy(() -> client.forEachUserTransaction("user-1", 0L, 100, transaction -> {
+            if (seen.incrementAndGet() == 150) {
+                throw new IllegalStateException("stop");
+            }
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(fetchCount.get()).isLessThan(TOTAL / 100);
+    }
+}
@@ -0,0 +1,143 @@
+package com.hamkkebu.boilerplate.common.grpc.user;
+
+import com.hamkkebu.boilerplate.common.grpc.cache.GrpcCacheSettings;
+import com.hamkkebu.boilerplate.common.grpc.hedging.HedgedCaller;
+import com.hamkkebu.boilerplate.common.grpc.hedging.HedgingPolicy;
+import com.hamkkebu.boilerplate.common.user.event.UserDeletedEvent;
+import com.hamkkebu.boilerplate.grpc.user.GetUserRequest;
+import com.hamkkebu.boilerplate.grpc.user.GetUserResponse;
+import com.hamkkebu.boilerplate.grpc.user.User;
+import com.hamkkebu.boilerplate.grpc.user.UserExistsRequest;
+import com.hamkkebu.boilerplate.grpc.user.UserExistsResponse;
+import com.hamkkebu.boilerplate.grpc.user.UserServiceGrpc;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CachingUserServiceClientTest {
+
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private final AtomicInteger getUserCalls = new AtomicInteger();
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("userService");
+    private Server server;
+    private ManagedChannel channel;
+    private CachingUserServiceClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(new UserServiceGrpc.UserServiceImplBase() {
+                    @Override
+                    public void getUser(GetUserRequest request, StreamObserver<GetUserResponse> responseObserver) {
+                        getUserCalls.incrementAndGet();
+                        GetUserResponse.Builder response = GetUserResponse.newBuilder();
+                        if (failing.get()) {
+                            response.setErrorMessage("database unavailable");
+                        } else {
+                            response.setUser(User.newBuilder().setId(request.getUserId()));
+                        }
+                        responseObserver.onNext(response.build());
+                        responseObserver.onCompleted();
+                    }
+
+                    @Override
+                    public void userExists(UserExistsRequest request, StreamObserver<UserExistsResponse> responseObserver) {
+                        UserExistsResponse.Builder response = UserExistsResponse.newBuilder();
+                        if (failing.get()) {
+                            response.setErrorMessage("database unavailable");
+                        } else {
+                            response.setExists(true);
+                        }
+                        responseObserver.onNext(response.build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        client = new CachingUserServiceClient(UserServiceGrpc.newBlockingStub(channel), circuitBreaker,
+                new SimpleMeterRegistry(), Duration.ofSeconds(5),
+                GrpcCacheSettings.builder().build(), GrpcCacheSettings.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void errorMessageIsFailureNotCachedNotFound() {
+        failing.set(true);
+
+        assertThatThrownBy(() -> client.getUser("user-1"))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INTERNAL));
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+
+        failing.set(false);
+        assertThat(client.getUser("user-1")).isPresent();
+        assertThat(getUserCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void userExistsErrorMessageIsFailure() {
+        failing.set(true);
+
+        assertThatThrownBy(() -> client.userExists("user-1"))
+                .isInstanceOf(StatusRuntimeException.class);
+
+        failing.set(false);
+        assertThat(client.userExists("user-1")).isTrue();
+    }
+
+    @Test
+    void hedgedClientUsesFutureStubAndKeepsErrorHandling() {
+        try (HedgedCaller hedgedCaller = new HedgedCaller("user-service", HedgingPolicy.builder().build(),
+                new SimpleMeterRegistry())) {
+            CachingUserServiceClient hedgedClient = new CachingUserServiceClient(
+                    UserServiceGrpc.newFutureStub(channel), hedgedCaller, circuitBreaker, null, new SimpleMeterRegistry(),
+                    GrpcCacheSettings.builder().build(), GrpcCacheSettings.builder().build());
+
+            failing.set(true);
+            assertThatThrownBy(() -> hedgedClient.getUser("user-1"))
+                    .isInstanceOfSatisfying(StatusRuntimeException.class,
+                            e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INTERNAL));
+
+            failing.set(false);
+            assertThat(hedgedClient.getUser("user-1")).hasValueSatisfying(
+                    user -> assertThat(user.getId()).isEqualTo("user-1"));
+            assertThat(hedgedClient.userExists("user-2")).isTrue();
+        }
+    }
+
+    @Test
+    void userDeletedEventInvalidatesCachedUser() {
+        client.getUser("user-1");
+
+        client.onUserEvent(Map.of("eventType", UserDeletedEvent.EVENT_TYPE, "userPk", "user-1"));
+        client.getUser("user-1");
+
+        assertThat(getUserCalls.get()).isEqualTo(2);
+    }
+}
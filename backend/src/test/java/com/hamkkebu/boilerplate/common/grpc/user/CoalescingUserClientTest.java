@@ -0,0 +1,125 @@
+package com.hamkkebu.boilerplate.common.grpc.user;
+
+import com.hamkkebu.boilerplate.common.grpc.hedging.HedgedCaller;
+import com.hamkkebu.boilerplate.common.grpc.hedging.HedgingPolicy;
+import com.hamkkebu.boilerplate.grpc.user.GetUsersRequest;
+import com.hamkkebu.boilerplate.grpc.user.GetUsersResponse;
+import com.hamkkebu.boilerplate.grpc.user.User;
+import com.hamkkebu.boilerplate.grpc.user.UserServiceGrpc;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CoalescingUserClientTest {
+
+    private final List<GetUsersRequest> requests = new CopyOnWriteArrayList<>();
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("userService");
+    private Server server;
+    private ManagedChannel channel;
+    private CoalescingUserClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(new UserServiceGrpc.UserServiceImplBase() {
+                    @Override
+                    public void getUsers(GetUsersRequest request, StreamObserver<GetUsersResponse> responseObserver) {
+                        requests.add(request);
+                        GetUsersResponse.Builder response = GetUsersResponse.newBuilder();
+                        request.getUserIdsList().stream()
+                                .filter(id -> !id.startsWith("missing"))
+                                .forEach(id -> response.addUsers(User.newBuilder().setId(id).setUsername("name-" + id)));
+                        responseObserver.onNext(response.build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        client = new CoalescingUserClient(UserServiceGrpc.newStub(channel), circuitBreaker, new SimpleMeterRegistry(),
+                Duration.ofMillis(20), 100, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        client.close();
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void coalescesAndDeduplicatesConcurrentLookups() {
+        List<CompletableFuture<Optional<User>>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(client.getUser("user-" + (i % 10)));
+        }
+        futures.add(client.getUser("missing-1"));
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getUserIdsList()).hasSize(11);
+        assertThat(futures.get(13).join()).map(User::getUsername).contains("name-user-3");
+        assertThat(futures.get(50).join()).isEmpty();
+    }
+
+    @Test
+    void sendsImmediatelyWhenBatchIsFull() {
+        CoalescingUserClient smallBatchClient = new CoalescingUserClient(UserServiceGrpc.newStub(channel),
+                circuitBreaker, new SimpleMeterRegistry(), Duration.ofSeconds(10), 3, Duration.ofSeconds(5));
+
+        List<CompletableFuture<Optional<User>>> futures = List.of(
+                smallBatchClient.getUser("a"), smallBatchClient.getUser("b"), smallBatchClient.getUser("c"));
+
+        // window(10초)를 기다리지 않고 완료
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).orTimeout(2, TimeUnit.SECONDS).join();
+        assertThat(requests).hasSize(1);
+        smallBatchClient.close();
+    }
+
+    @Test
+    void hedgedClientCoalescesThroughFutureStub() {
+        try (HedgedCaller hedgedCaller = new HedgedCaller("user-service", HedgingPolicy.builder().build(),
+                new SimpleMeterRegistry());
+             CoalescingUserClient hedgedClient = new CoalescingUserClient(UserServiceGrpc.newFutureStub(channel),
+                     hedgedCaller, circuitBreaker, null, new SimpleMeterRegistry(), Duration.ofMillis(20), 100)) {
+            CompletableFuture<Optional<User>> first = hedgedClient.getUser("user-1");
+            CompletableFuture<Optional<User>> missing = hedgedClient.getUser("missing-1");
+
+            assertThat(first.join()).map(User::getUsername).contains("name-user-1");
+            assertThat(missing.join()).isEmpty();
+            assertThat(requests).hasSize(1);
+        }
+    }
+
+    @Test
+    void failsFastWhenCircuitIsOpen() {
+        circuitBreaker.transitionToOpenState();
+
+        CompletableFuture<Optional<User>> future = client.getUser("user-1");
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(CallNotPermittedException.class);
+        assertThat(requests).isEmpty();
+    }
+}
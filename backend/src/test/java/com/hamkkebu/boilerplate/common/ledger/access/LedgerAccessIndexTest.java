@@ -0,0 +1,154 @@
+package com.hamkkebu.boilerplate.common.ledger.access;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+import com.hamkkebu.boilerplate.common.enums.ShareStatus;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedger;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerMember;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerShare;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerMemberRepository;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerRepository;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerShareRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LedgerAccessIndexTest {
+
+    private static final long LEDGER_ID = 1L;
+    private static final long OWNER_ID = 7L;
+    private static final long MEMBER_ID = 100L;
+    private static final long SHARED_USER_ID = 200L;
+
+    @SuppressWarnings("unchecked")
+    private final SyncedLedgerRepository<SyncedLedger> ledgerRepository = mock(SyncedLedgerRepository.class);
+    @SuppressWarnings("unchecked")
+    private final SyncedLedgerMemberRepository<SyncedLedgerMember> memberRepository =
+            mock(SyncedLedgerMemberRepository.class);
+    @SuppressWarnings("unchecked")
+    private final SyncedLedgerShareRepository<SyncedLedgerShare> shareRepository =
+            mock(SyncedLedgerShareRepository.class);
+    private final LedgerAccessIndex index = new LedgerAccessIndex(ledgerRepository, memberRepository,
+            shareRepository, new SimpleMeterRegistry(), Duration.ofMinutes(5));
+
+    @BeforeEach
+    void setUp() {
+        SyncedLedger ledger = mock(SyncedLedger.class);
+        when(ledger.getLedgerId()).thenReturn(LEDGER_ID);
+        when(ledger.getUserId()).thenReturn(OWNER_ID);
+        when(ledgerRepository.findSliceAll(anyLong(), any()))
+                .thenReturn(new SliceImpl<>(List.of(ledger), PageRequest.of(0, 1000), false));
+        givenDatabaseMembers(member(MemberRole.ADMIN));
+        givenDatabaseShares(share(SharePermission.READ_WRITE));
+        index.rebuild();
+    }
+
+    @Test
+    void buildsPermissionsFromSyncedTables() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.isOwner(LEDGER_ID, OWNER_ID)).isTrue();
+        assertThat(index.canAdmin(LEDGER_ID, MEMBER_ID)).isTrue();
+        assertThat(index.canWrite(LEDGER_ID, SHARED_USER_ID)).isTrue();
+        assertThat(index.canAdmin(LEDGER_ID, SHARED_USER_ID)).isFalse();
+        assertThat(index.canRead(LEDGER_ID, 999L)).isFalse();
+    }
+
+    @Test
+    void memberRemovedOnOtherInstanceIsRevokedImmediately() {
+        index.onLedgerMemberEvent(LEDGER_ID, MEMBER_ID, null);
+
+        assertThat(index.canRead(LEDGER_ID, MEMBER_ID)).isFalse();
+        assertThat(index.canWrite(LEDGER_ID, MEMBER_ID)).isFalse();
+        assertThat(index.canAdmin(LEDGER_ID, MEMBER_ID)).isFalse();
+    }
+
+    @Test
+    void roleDowngradeRevokesAdminButKeepsWrite() {
+        index.onLedgerMemberEvent(LEDGER_ID, MEMBER_ID, MemberRole.MEMBER);
+
+        assertThat(index.canWrite(LEDGER_ID, MEMBER_ID)).isTrue();
+        assertThat(index.canAdmin(LEDGER_ID, MEMBER_ID)).isFalse();
+    }
+
+    @Test
+    void shareDeletedOnOtherInstanceIsRevokedImmediately() {
+        index.onLedgerShareEvent(LEDGER_ID, SHARED_USER_ID, null);
+
+        assertThat(index.canRead(LEDGER_ID, SHARED_USER_ID)).isFalse();
+        assertThat(index.canWrite(LEDGER_ID, SHARED_USER_ID)).isFalse();
+    }
+
+    @Test
+    void rebuildDoesNotRestoreRevocationNotYetCommittedByOtherInstance() {
+        index.onLedgerMemberEvent(LEDGER_ID, MEMBER_ID, null);
+        index.onLedgerShareEvent(LEDGER_ID, SHARED_USER_ID, null);
+
+        // 처리 인스턴스가 아직 커밋하지 않아 DB에는 권한이 남아 있음
+        index.rebuild();
+
+        assertThat(index.canWrite(LEDGER_ID, MEMBER_ID)).isFalse();
+        assertThat(index.canWrite(LEDGER_ID, SHARED_USER_ID)).isFalse();
+        assertThat(index.isOwner(LEDGER_ID, OWNER_ID)).isTrue();
+    }
+
+    @Test
+    void revokeThenRegrantKeepsLatestState() {
+        index.onLedgerMemberEvent(LEDGER_ID, MEMBER_ID, null);
+        index.onLedgerMemberEvent(LEDGER_ID, MEMBER_ID, MemberRole.MEMBER);
+        givenDatabaseMembers();
+
+        index.rebuild();
+
+        assertThat(index.canWrite(LEDGER_ID, MEMBER_ID)).isTrue();
+        assertThat(index.canAdmin(LEDGER_ID, MEMBER_ID)).isFalse();
+    }
+
+    @Test
+    void ledgerDeletionRevokesEveryone() {
+        index.onLedgerEvent(LEDGER_ID, OWNER_ID, true);
+
+        assertThat(index.canRead(LEDGER_ID, OWNER_ID)).isFalse();
+        assertThat(index.canRead(LEDGER_ID, MEMBER_ID)).isFalse();
+        assertThat(index.canRead(LEDGER_ID, SHARED_USER_ID)).isFalse();
+    }
+
+    private void givenDatabaseMembers(SyncedLedgerMember... members) {
+        when(memberRepository.findSliceAll(anyLong(), any()))
+                .thenReturn(new SliceImpl<>(List.of(members), PageRequest.of(0, 1000), false));
+    }
+
+    private void givenDatabaseShares(SyncedLedgerShare... shares) {
+        when(shareRepository.findSliceByStatus(eq(ShareStatus.ACCEPTED), anyLong(), any()))
+                .thenReturn(new SliceImpl<>(List.of(shares), PageRequest.of(0, 1000), false));
+    }
+
+    private static SyncedLedgerMember member(MemberRole role) {
+        SyncedLedgerMember member = mock(SyncedLedgerMember.class);
+        when(member.getLedgerMemberId()).thenReturn(10L);
+        when(member.getLedgerId()).thenReturn(LEDGER_ID);
+        when(member.getAccountId()).thenReturn(MEMBER_ID);
+        when(member.getRole()).thenReturn(role);
+        return member;
+    }
+
+    private static SyncedLedgerShare share(SharePermission permission) {
+        SyncedLedgerShare share = mock(SyncedLedgerShare.class);
+        when(share.getLedgerShareId()).thenReturn(30L);
+        when(share.getLedgerId()).thenReturn(LEDGER_ID);
+        when(share.getSharedUserId()).thenReturn(SHARED_USER_ID);
+        when(share.getPermission()).thenReturn(permission);
+        return share;
+    }
+}
@@ -0,0 +1,105 @@
+package com.hamkkebu.boilerplate.common.ledger.cache;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerMember;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SyncedLedgerMemberCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private final SyncedLedgerMemberRepository<TestLedgerMember> repository = mock(SyncedLedgerMemberRepository.class);
+    private final List<Runnable> delayedInvalidations = new ArrayList<>();
+    private final SyncedLedgerMemberCache<TestLedgerMember> cache = new SyncedLedgerMemberCache<>(repository,
+            new SimpleMeterRegistry(), Duration.ofSeconds(60), 100, delayedInvalidations::add);
+
+    @Test
+    void cachesMembersPerLedger() {
+        when(repository.findByLedgerIdAndIsDeletedFalse(1L)).thenReturn(List.of(member(1L, 100L)));
+
+        assertThat(cache.findByLedgerId(1L)).hasSize(1);
+        assertThat(cache.findByLedgerId(1L)).hasSize(1);
+
+        verify(repository, times(1)).findByLedgerIdAndIsDeletedFalse(1L);
+    }
+
+    @Test
+    void cachesImmutableSnapshotsInsteadOfEntities() {
+        TestLedgerMember member = member(1L, 100L);
+        when(repository.findByLedgerIdAndIsDeletedFalse(1L)).thenReturn(List.of(member));
+
+        List<SyncedLedgerMemberSnapshot> cached = cache.findByLedgerId(1L);
+        member.updateRole(MemberRole.ADMIN);
+
+        assertThat(cached).singleElement()
+                .satisfies(snapshot -> {
+                    assertThat(snapshot.getAccountId()).isEqualTo(100L);
+                    assertThat(snapshot.getRole()).isEqualTo(MemberRole.MEMBER);
+                });
+        assertThat(cache.findByLedgerId(1L)).containsExactlyElementsOf(cached);
+        assertThatThrownBy(() -> cached.add(cached.get(0))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void localChangeInvalidatesLedgerAndAccountKeys() {
+        TestLedgerMember member = member(1L, 100L);
+        when(repository.findByLedgerIdAndIsDeletedFalse(1L)).thenReturn(List.of(member), List.of());
+        when(repository.findByAccountIdAndIsDeletedFalse(100L)).thenReturn(List.of(member), List.of());
+        cache.findByLedgerId(1L);
+        cache.findByAccountId(100L);
+
+        cache.onLedgerMemberChanged(member);
+
+        assertThat(cache.findByLedgerId(1L)).isEmpty();
+        assertThat(cache.findByAccountId(100L)).isEmpty();
+    }
+
+    @Test
+    void broadcastFromOtherInstanceInvalidatesNowAndAgainAfterCommitDelay() {
+        TestLedgerMember member = member(1L, 100L);
+        when(repository.findByLedgerIdAndIsDeletedFalse(1L))
+                .thenReturn(List.of(member), List.of(member), List.of());
+        cache.findByLedgerId(1L);
+
+        cache.onLedgerMemberEvent(1L, 100L, null);
+        // 다른 인스턴스의 커밋 전에 다시 읽어 이전 값이 캐싱된 경우
+        assertThat(cache.findByLedgerId(1L)).hasSize(1);
+
+        delayedInvalidations.forEach(Runnable::run);
+        assertThat(cache.findByLedgerId(1L)).isEmpty();
+        verify(repository, times(3)).findByLedgerIdAndIsDeletedFalse(1L);
+    }
+
+    @Test
+    void broadcastForOtherLedgerKeepsEntries() {
+        when(repository.findByLedgerIdAndIsDeletedFalse(1L)).thenReturn(List.of(member(1L, 100L)));
+        cache.findByLedgerId(1L);
+
+        cache.onLedgerMemberEvent(2L, 200L, MemberRole.MEMBER);
+        delayedInvalidations.forEach(Runnable::run);
+
+        assertThat(cache.findByLedgerId(1L)).hasSize(1);
+        verify(repository, times(1)).findByLedgerIdAndIsDeletedFalse(1L);
+    }
+
+    private static TestLedgerMember member(Long ledgerId, Long accountId) {
+        TestLedgerMember member = new TestLedgerMember();
+        member.updateFromEvent(ledgerId, accountId, MemberRole.MEMBER);
+        return member;
+    }
+
+    static class TestLedgerMember extends SyncedLedgerMember {
+    }
+}
@@ -0,0 +1,130 @@
+package com.hamkkebu.boilerplate.common.ledger.consumer;
+
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerMember;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerMemberAddedEvent;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerChangeListener;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerMemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AbstractLedgerMemberEventConsumerTest {
+
+    private static final Map<String, Object> ADDED_EVENT = Map.of(
+            "eventType", LedgerMemberAddedEvent.EVENT_TYPE,
+            "eventId", "event-1",
+            "ledgerMemberId", 10L,
+            "ledgerId", 1L,
+            "accountId", 100L,
+            "role", "MEMBER");
+
+    @SuppressWarnings("unchecked")
+    private final SyncedLedgerMemberRepository<TestLedgerMember> repository = mock(SyncedLedgerMemberRepository.class);
+    private final SyncedLedgerChangeListener listener = mock(SyncedLedgerChangeListener.class);
+    private final TestLedgerMemberEventConsumer consumer = new TestLedgerMemberEventConsumer(repository);
+
+    @Test
+    void concurrentDuplicateAddedEventIsIgnored() throws Exception {
+        consumer.setChangeListeners(List.of(listener));
+        consumer.setTransactionManager(transactionManagerProvider(null));
+        CyclicBarrier bothChecked = new CyclicBarrier(2);
+        when(repository.findById(10L)).thenAnswer(invocation -> {
+            bothChecked.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        AtomicBoolean inserted = new AtomicBoolean();
+        when(repository.saveAndFlush(any(TestLedgerMember.class))).thenAnswer(invocation -> {
+            if (!inserted.compareAndSet(false, true)) {
+                throw new DataIntegrityViolationException("Duplicate entry '10' for key 'PRIMARY'");
+            }
+            return invocation.getArgument(0);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> consumer.processLedgerMemberEvent(ADDED_EVENT));
+            Future<?> second = executor.submit(() -> consumer.processLedgerMemberEvent(ADDED_EVENT));
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(repository, times(2)).saveAndFlush(any(TestLedgerMember.class));
+        verify(listener, times(1)).onLedgerMemberChanged(any());
+    }
+
+    @Test
+    void insertsInSeparateTransactionAndRollsBackOnlyThatTransactionOnDuplicate() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        SimpleTransactionStatus insertTransaction = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(insertTransaction);
+        consumer.setTransactionManager(transactionManagerProvider(transactionManager));
+        when(repository.findById(10L)).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(TestLedgerMember.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry '10' for key 'PRIMARY'"));
+
+        consumer.processLedgerMemberEvent(ADDED_EVENT);
+
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager).rollback(insertTransaction);
+    }
+
+    @Test
+    void existingMemberIsSkippedWithoutInsert() {
+        when(repository.findById(10L)).thenReturn(Optional.of(new TestLedgerMember()));
+
+        consumer.processLedgerMemberEvent(ADDED_EVENT);
+
+        verify(repository, times(0)).saveAndFlush(any(TestLedgerMember.class));
+        assertThat(consumer.created).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<PlatformTransactionManager> transactionManagerProvider(
+            PlatformTransactionManager transactionManager) {
+        ObjectProvider<PlatformTransactionManager> provider = mock(ObjectProvider.class);
+        when(provider.getIfUnique()).thenReturn(transactionManager);
+        return provider;
+    }
+
+    static class TestLedgerMember extends SyncedLedgerMember {
+    }
+
+    static class TestLedgerMemberEventConsumer extends AbstractLedgerMemberEventConsumer<TestLedgerMember> {
+
+        private volatile boolean created;
+
+        TestLedgerMemberEventConsumer(SyncedLedgerMemberRepository<TestLedgerMember> repository) {
+            super(repository);
+        }
+
+        @Override
+        protected TestLedgerMember createLedgerMemberEntity(Map<String, Object> eventData) {
+            created = true;
+            return new TestLedgerMember();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.hamkkebu.boilerplate.common.ledger.consumer;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+import com.hamkkebu.boilerplate.common.ledger.entity.SyncedLedgerShare;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerDeletedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerMemberAddedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerMemberRemovedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareAcceptedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareCreatedEvent;
+import com.hamkkebu.boilerplate.common.ledger.event.LedgerShareDeletedEvent;
+import com.hamkkebu.boilerplate.common.ledger.listener.SyncedLedgerBroadcastListener;
+import com.hamkkebu.boilerplate.common.ledger.repository.SyncedLedgerShareRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class AbstractSyncedLedgerBroadcastConsumerTest {
+
+    @SuppressWarnings("unchecked")
+    private final SyncedLedgerShareRepository<SyncedLedgerShare> shareRepository = mock(SyncedLedgerShareRepository.class);
+    private final SyncedLedgerBroadcastListener listener = mock(SyncedLedgerBroadcastListener.class);
+    private final TestBroadcastConsumer consumer = new TestBroadcastConsumer(shareRepository);
+
+    @Test
+    void deliversMemberAddAndRemoveByKey() {
+        consumer.setBroadcastListeners(List.of(listener));
+
+        consumer.processLedgerMemberBroadcast(Map.of("eventType", LedgerMemberAddedEvent.EVENT_TYPE,
+                "ledgerMemberId", 10, "ledgerId", 1, "accountId", "100", "role", "ADMIN"));
+        consumer.processLedgerMemberBroadcast(Map.of("eventType", LedgerMemberRemovedEvent.EVENT_TYPE,
+                "ledgerMemberId", 10, "ledgerId", 1, "accountId", 100));
+
+        verify(listener).onLedgerMemberEvent(1L, 100L, MemberRole.ADMIN);
+        verify(listener).onLedgerMemberEvent(1L, 100L, null);
+    }
+
+    @Test
+    void deliversLedgerDeletionWithOwner() {
+        consumer.setBroadcastListeners(List.of(listener));
+
+        consumer.processLedgerBroadcast(Map.of("eventType", LedgerDeletedEvent.EVENT_TYPE,
+                "ledgerId", 1, "userId", 7));
+
+        verify(listener).onLedgerEvent(1L, 7L, true);
+    }
+
+    @Test
+    void resolvesMissingShareFieldsByShareId() {
+        consumer.setBroadcastListeners(List.of(listener));
+        SyncedLedgerShare share = mock(SyncedLedgerShare.class);
+        when(share.getPermission()).thenReturn(SharePermission.READ_WRITE);
+        when(share.getSharedUserId()).thenReturn(200L);
+        when(shareRepository.findById(30L)).thenReturn(Optional.of(share));
+
+        consumer.processLedgerShareBroadcast(Map.of("eventType", LedgerShareAcceptedEvent.EVENT_TYPE,
+                "ledgerShareId", 30, "ledgerId", 1, "sharedUserId", 200));
+        consumer.processLedgerShareBroadcast(Map.of("eventType", LedgerShareDeletedEvent.EVENT_TYPE,
+                "ledgerShareId", 30, "ledgerId", 1));
+
+        verify(listener).onLedgerShareEvent(1L, 200L, SharePermission.READ_WRITE);
+        verify(listener).onLedgerShareEvent(1L, 200L, null);
+    }
+
+    @Test
+    void pendingShareIsNotActive() {
+        consumer.setBroadcastListeners(List.of(listener));
+
+        consumer.processLedgerShareBroadcast(Map.of("eventType", LedgerShareCreatedEvent.EVENT_TYPE,
+                "ledgerShareId", 30, "ledgerId", 1, "ownerId", 7, "sharedUserId", 200,
+                "permission", "ADMIN", "status", "PENDING"));
+
+        verify(listener).onLedgerShareEvent(1L, 200L, null);
+    }
+
+    @Test
+    void malformedEventsAndFailingListenersAreSkipped() {
+        SyncedLedgerBroadcastListener failing = mock(SyncedLedgerBroadcastListener.class);
+        doThrow(new IllegalStateException("boom")).when(failing).onLedgerMemberEvent(anyLong(), anyLong(), isNull());
+        consumer.setBroadcastListeners(List.of(failing, listener));
+
+        consumer.processLedgerMemberBroadcast(Map.of("eventType", LedgerMemberRemovedEvent.EVENT_TYPE,
+                "ledgerMemberId", 10, "accountId", 100));
+        verifyNoInteractions(listener);
+
+        consumer.processLedgerMemberBroadcast(Map.of("eventType", LedgerMemberRemovedEvent.EVENT_TYPE,
+                "ledgerMemberId", 10, "ledgerId", 1, "accountId", 100));
+        verify(listener).onLedgerMemberEvent(1L, 100L, null);
+    }
+
+    static class TestBroadcastConsumer extends AbstractSyncedLedgerBroadcastConsumer {
+
+        TestBroadcastConsumer(SyncedLedgerShareRepository<SyncedLedgerShare> shareRepository) {
+            super(shareRepository);
+        }
+    }
+}
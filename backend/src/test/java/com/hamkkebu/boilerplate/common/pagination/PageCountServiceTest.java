@@ -0,0 +1,121 @@
+package com.hamkkebu.boilerplate.common.pagination;
+
+import com.hamkkebu.boilerplate.common.dto.PageRequestDto;
+import com.hamkkebu.boilerplate.common.dto.PageResponseDto;
+import com.hamkkebu.boilerplate.common.enums.PageCountMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class PageCountServiceTest {
+
+    private final PageCountService pageCountService =
+            new PageCountService(mock(JdbcTemplate.class), new SimpleMeterRegistry(), 60, 100);
+
+    /**
+     * 실제 행 수
+     */
+    private final AtomicInteger rows = new AtomicInteger(45);
+    private final AtomicInteger countCalls = new AtomicInteger();
+
+    private final Function<Pageable, Slice<Integer>> sliceQuery = pageable -> {
+        int from = (int) pageable.getOffset();
+        int to = Math.min(rows.get(), from + pageable.getPageSize());
+        List<Integer> content = from < to ? IntStream.range(from, to).boxed().toList() : List.of();
+        return new SliceImpl<>(content, pageable, to < rows.get());
+    };
+
+    private final LongSupplier countQuery = () -> {
+        countCalls.incrementAndGet();
+        return rows.get();
+    };
+
+    @Test
+    void exactCountsEveryRequest() {
+        PageResponseDto<Integer> first = pageCountService.fetch(request(0, PageCountMode.EXACT), "key", sliceQuery,
+                countQuery);
+        rows.set(60);
+        PageResponseDto<Integer> second = pageCountService.fetch(request(0, PageCountMode.EXACT), "key", sliceQuery,
+                countQuery);
+
+        assertThat(first.getTotalElements()).isEqualTo(45);
+        assertThat(first.getTotalPages()).isEqualTo(3);
+        assertThat(first.getCountMode()).isEqualTo(PageCountMode.EXACT);
+        assertThat(second.getTotalElements()).isEqualTo(60);
+        assertThat(countCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void noneSkipsCount() {
+        PageResponseDto<Integer> response = pageCountService.fetch(request(0, PageCountMode.NONE), "key", sliceQuery,
+                countQuery);
+
+        assertThat(response.getTotalElements()).isEqualTo(PageResponseDto.UNKNOWN_TOTAL);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(countCalls.get()).isZero();
+    }
+
+    @Test
+    void estimatedCachesCountPerKey() {
+        pageCountService.fetch(request(0, PageCountMode.ESTIMATED), "key", sliceQuery, countQuery);
+        PageResponseDto<Integer> cached = pageCountService.fetch(request(1, PageCountMode.ESTIMATED), "key",
+                sliceQuery, countQuery);
+
+        assertThat(cached.getTotalElements()).isEqualTo(45);
+        assertThat(cached.getCountMode()).isEqualTo(PageCountMode.ESTIMATED);
+        assertThat(countCalls.get()).isEqualTo(1);
+
+        pageCountService.evictCount("key");
+        pageCountService.fetch(request(1, PageCountMode.ESTIMATED), "key", sliceQuery, countQuery);
+        assertThat(countCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void estimatedTakesNavigationFromSliceNotStaleCount() {
+        pageCountService.fetch(request(0, PageCountMode.ESTIMATED), "key", sliceQuery, countQuery);
+        // 캐시된 개수(45)보다 행이 늘어남 → 2번 페이지(40~59) 뒤에도 다음 페이지가 있음
+        rows.set(100);
+
+        PageResponseDto<Integer> response = pageCountService.fetch(request(2, PageCountMode.ESTIMATED), "key",
+                sliceQuery, countQuery);
+
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.isLast()).isFalse();
+        assertThat(response.getNumberOfElements()).isEqualTo(20);
+        // 추정값은 이미 확인된 개수보다 작게 보고하지 않음
+        assertThat(response.getTotalElements()).isEqualTo(61);
+        assertThat(response.getTotalPages()).isEqualTo(4);
+        assertThat(countCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void estimatedLastPageUsesExactTotalWithoutCount() {
+        PageResponseDto<Integer> response = pageCountService.fetch(request(2, PageCountMode.ESTIMATED), "key",
+                sliceQuery, countQuery);
+
+        assertThat(response.isLast()).isTrue();
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getTotalElements()).isEqualTo(45);
+        assertThat(countCalls.get()).isZero();
+    }
+
+    private static PageRequestDto request(int page, PageCountMode countMode) {
+        return PageRequestDto.builder()
+                .page(page)
+                .size(20)
+                .countMode(countMode)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BCryptCostCalibratorTest {
+
+    private static final long MILLIS = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void raisesStrengthWhileDoubledCostFitsTarget() {
+        // cost 12 = 50ms → 13 = 100ms → 14 = 200ms
+        assertThat(BCryptCostCalibrator.chooseStrength(50 * MILLIS, 200 * MILLIS, 12, 16)).isEqualTo(14);
+    }
+
+    @Test
+    void neverGoesBelowMinimumOnSlowHosts() {
+        assertThat(BCryptCostCalibrator.chooseStrength(250 * MILLIS, 200 * MILLIS, 12, 14)).isEqualTo(12);
+        assertThat(BCryptCostCalibrator.chooseStrength(900 * MILLIS, 200 * MILLIS, 12, 14)).isEqualTo(12);
+    }
+
+    @Test
+    void capsAtMaximumStrength() {
+        assertThat(BCryptCostCalibrator.chooseStrength(MILLIS, 10_000 * MILLIS, 12, 14)).isEqualTo(14);
+    }
+
+    @Test
+    void calibrateStaysWithinBounds() {
+        int strength = BCryptCostCalibrator.calibrate(Duration.ofMillis(1), 4, 6);
+
+        assertThat(strength).isBetween(4, 6);
+    }
+}
@@ -0,0 +1,112 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JwtVerificationCacheTest {
+
+    private static final long MAX_TTL_SECONDS = 300;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger decodes = new AtomicInteger();
+    private final AtomicInteger conversions = new AtomicInteger();
+    private final JwtVerificationCache cache = new JwtVerificationCache(
+            true, 100, MAX_TTL_SECONDS, new SimpleMeterRegistry(), nanos::get);
+
+    @Test
+    void cachesVerifiedTokenUntilExp() {
+        JwtDecoder decoder = decoder(Duration.ofSeconds(60));
+
+        Jwt first = cache.decode("token-a", decoder);
+        advance(Duration.ofSeconds(58));
+        assertThat(cache.decode("token-a", decoder)).isSameAs(first);
+        assertThat(decodes.get()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(3));
+        cache.decode("token-a", decoder);
+        assertThat(decodes.get()).isEqualTo(2);
+    }
+
+    @Test
+    void capsEntryLifetimeAtMaxTtl() {
+        JwtDecoder decoder = decoder(Duration.ofHours(1));
+
+        cache.decode("token-a", decoder);
+        advance(Duration.ofSeconds(MAX_TTL_SECONDS - 1));
+        cache.decode("token-a", decoder);
+        assertThat(decodes.get()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(2));
+        cache.decode("token-a", decoder);
+        assertThat(decodes.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotCacheExpiredTokens() {
+        JwtDecoder decoder = decoder(Duration.ofSeconds(-1));
+
+        cache.decode("token-a", decoder);
+        cache.decode("token-a", decoder);
+
+        assertThat(decodes.get()).isEqualTo(2);
+    }
+
+    @Test
+    void revokedTokenIsVerifiedAgain() {
+        JwtDecoder decoder = decoder(Duration.ofMinutes(5));
+
+        cache.decode("token-a", decoder);
+        cache.invalidate("token-a");
+        cache.decode("token-a", decoder);
+
+        assertThat(decodes.get()).isEqualTo(2);
+    }
+
+    @Test
+    void reusesConvertedAuthoritiesForCachedToken() {
+        JwtDecoder decoder = decoder(Duration.ofMinutes(5));
+
+        AbstractAuthenticationToken first = cache.convert(cache.decode("token-a", decoder), this::convert);
+        AbstractAuthenticationToken second = cache.convert(cache.decode("token-a", decoder), this::convert);
+
+        assertThat(conversions.get()).isEqualTo(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("alice");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    private JwtDecoder decoder(Duration expiresIn) {
+        return token -> {
+            decodes.incrementAndGet();
+            Instant now = Instant.now();
+            return Jwt.withTokenValue(token)
+                    .header("alg", "RS256")
+                    .subject("alice")
+                    .issuedAt(now.minusSeconds(60))
+                    .expiresAt(now.plus(expiresIn))
+                    .build();
+        };
+    }
+
+    private AbstractAuthenticationToken convert(Jwt jwt) {
+        conversions.incrementAndGet();
+        return new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("ROLE_USER")), jwt.getSubject());
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
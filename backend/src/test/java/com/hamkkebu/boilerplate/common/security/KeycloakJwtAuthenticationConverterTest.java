@@ -0,0 +1,71 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeycloakJwtAuthenticationConverterTest {
+
+    private final KeycloakJwtAuthenticationConverter converter = new KeycloakJwtAuthenticationConverter();
+
+    @Test
+    void mapsRealmAndClientRoles() {
+        Jwt jwt = jwt("alice", List.of("USER", "ADMIN"), Map.of("hamkkebu-backend", Map.of("roles", List.of("view"))));
+
+        AbstractAuthenticationToken token = converter.convert(jwt);
+
+        assertThat(token.getName()).isEqualTo("alice");
+        assertThat(token.getAuthorities()).extracting("authority")
+                .containsExactly("ROLE_USER", "ROLE_ADMIN", "USER", "ADMIN", "hamkkebu-backend_view");
+    }
+
+    @Test
+    void fallsBackToSubjectWithoutPreferredUsername() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user-id-1")
+                .issuedAt(Instant.now())
+                .build();
+
+        AbstractAuthenticationToken token = converter.convert(jwt);
+
+        assertThat(token.getName()).isEqualTo("user-id-1");
+        assertThat(token.getAuthorities()).isEmpty();
+    }
+
+    @Test
+    void sharesAuthorityListAcrossTokensWithSameRoles() {
+        AbstractAuthenticationToken alice = converter.convert(jwt("alice", List.of("USER"), null));
+        AbstractAuthenticationToken bob = converter.convert(jwt("bob", List.of("USER"), null));
+        AbstractAuthenticationToken admin = converter.convert(jwt("carol", List.of("USER", "ADMIN"), null));
+
+        // 같은 역할 조합은 캐싱된 authority 인스턴스를 공유 (토큰은 목록을 복사하므로 원소로 비교)
+        assertThat(first(bob)).isSameAs(first(alice));
+        assertThat(first(admin)).isNotSameAs(first(alice));
+        assertThat(admin.getAuthorities()).extracting("authority").contains("ROLE_ADMIN");
+    }
+
+    private static GrantedAuthority first(AbstractAuthenticationToken token) {
+        return token.getAuthorities().iterator().next();
+    }
+
+    private static Jwt jwt(String username, List<String> realmRoles, Map<String, Object> resourceAccess) {
+        Jwt.Builder builder = Jwt.withTokenValue("token-" + username)
+                .header("alg", "RS256")
+                .subject(username + "-id")
+                .claim("preferred_username", username)
+                .claim("realm_access", Map.of("roles", realmRoles))
+                .issuedAt(Instant.now());
+        if (resourceAccess != null) {
+            builder.claim("resource_access", resourceAccess);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger encodes = new AtomicInteger();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    @Test
+    void rejectsWithServiceBusyWhenQueueIsFull() {
+        service = new PasswordHashingService(blockingEncoder(), meterRegistry, 1, 1, 5_000);
+
+        service.encodeAsync("running");
+        service.encodeAsync("queued");
+
+        assertThatThrownBy(() -> service.encode("rejected"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SERVICE_BUSY);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void timesOutAndSkipsQueuedWorkPastBudget() throws Exception {
+        service = new PasswordHashingService(blockingEncoder(), meterRegistry, 1, 10, 100);
+
+        CompletableFuture<String> running = service.encodeAsync("running");
+        CompletableFuture<String> queued = service.encodeAsync("queued");
+
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(BusinessException.class);
+        assertThatThrownBy(running::join).hasCauseInstanceOf(BusinessException.class);
+
+        release.countDown();
+        // 단일 스레드 FIFO: probe가 끝나면 앞선 queued 작업도 처리됨
+        assertThat(service.encodeAsync("probe").get(5, TimeUnit.SECONDS)).isEqualTo("hash:probe");
+        // 큐에서 시간 예산을 넘긴 작업은 해싱하지 않음 (running + probe)
+        assertThat(encodes.get()).isEqualTo(2);
+    }
+
+    @Test
+    void upgradesHashWithLowerCost() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(5), meterRegistry, 1, 10, 5_000);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("Ledger_Book9");
+
+        PasswordHashingService.VerificationResult result = service.verify("Ledger_Book9", legacyHash);
+
+        assertThat(result.isMatched()).isTrue();
+        assertThat(result.getUpgradedHash()).startsWith("$2a$05$");
+        assertThat(service.matches("Ledger_Book9", result.getUpgradedHash())).isTrue();
+        assertThat(service.verify("Ledger_Book9", result.getUpgradedHash()).getUpgradedHash()).isNull();
+        assertThat(service.verify("wrong-password", legacyHash).isMatched()).isFalse();
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                encodes.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+public class PasswordValidatorTest {
+
+    private final PasswordValidator passwordValidator = new PasswordValidator(
+            mock(PasswordHashingService.class),
+            new BreachedPasswordFilter(new ClassPathResource("security/common-passwords.txt"), 0.001));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Hamkkebu!2024x", "a1!b2@c3#", "Ledger_Book9", "xK9$mQ2&"})
+    void acceptsValidPasswords(String password) {
+        assertThatCode(() -> passwordValidator.validatePasswordFormat(password)).doesNotThrowAnyException();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "Ab1!",                 // 길이 부족
+            "abcdefgh!",            // 숫자 없음
+            "13579246!",            // 영문자 없음
+            "Hamkkebu2024x",        // 특수문자 없음
+            "Hamkkebu!\n2024x",     // 줄바꿈 포함
+            "Ledger!1234x",         // 연속 숫자
+            "Ledger!abcd9",         // 연속 영문자
+            "Ledger!dcba9",         // 역순 연속
+            "Ledger!aaaa9",         // 반복 문자
+            "P@ssw0rd123"           // 흔한 비밀번호 (대소문자 무시)
+    })
+    void rejectsInvalidPasswords(String password) {
+        assertThatThrownBy(() -> passwordValidator.validatePasswordFormat(password))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void validatePasswordAndUpgradeReturnsNewHashForLowerCost() {
+        PasswordHashingService hashingService = new PasswordHashingService(
+                new BCryptPasswordEncoder(5), new SimpleMeterRegistry(), 1, 10, 5_000);
+        PasswordValidator validator = new PasswordValidator(hashingService,
+                new BreachedPasswordFilter(new ClassPathResource("security/common-passwords.txt"), 0.001));
+        String legacyHash = new BCryptPasswordEncoder(4).encode("Ledger_Book9");
+        try {
+            Optional<String> upgraded = validator.validatePasswordAndUpgrade("Ledger_Book9", legacyHash, "user-1");
+
+            assertThat(upgraded).hasValueSatisfying(hash -> assertThat(hash).startsWith("$2a$05$"));
+            assertThat(validator.validatePasswordAndUpgrade("Ledger_Book9", upgraded.get(), "user-1")).isEmpty();
+            assertThatThrownBy(() -> validator.validatePasswordAndUpgrade("Wrong_Book9", legacyHash, "user-1"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.AUTHENTICATION_FAILED);
+        } finally {
+            hashingService.destroy();
+        }
+    }
+
+    @Test
+    void rejectsTooLongPassword() {
+        String password = "Ab1!" + "x9".repeat(50);
+
+        assertThatThrownBy(() -> passwordValidator.validatePasswordFormat(password))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("비밀번호는 100자 이하여야 합니다");
+    }
+
+    @Test
+    void tooShortPasswordReportsMinimumLength() {
+        assertThatThrownBy(() -> passwordValidator.validatePasswordFormat("Ab1!"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("비밀번호는 8자 이상");
+    }
+}
@@ -0,0 +1,145 @@
+package com.hamkkebu.boilerplate.common.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RefreshingJwkSourceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(1);
+
+    @Test
+    void loadsKeysFromLocalJwksFileAtStartup(@TempDir Path tempDir) throws Exception {
+        RSAKey key = new RSAKeyGenerator(2048).keyID("file-key").generate();
+        Path jwksFile = tempDir.resolve("jwks.json");
+        Files.writeString(jwksFile, new JWKSet(key).toString(true), StandardCharsets.UTF_8);
+
+        RefreshingJwkSource source = new RefreshingJwkSource(
+                RefreshingJwkSource.fromResource(new FileSystemResource(jwksFile)), TTL, REFRESH_AHEAD, Duration.ZERO);
+        source.afterPropertiesSet();
+        try {
+            assertThat(source.get(selectorFor("file-key"), null)).hasSize(1);
+            assertThat(source.isStale()).isFalse();
+        } finally {
+            source.destroy();
+        }
+    }
+
+    @Test
+    void servesStaleKeysWhenRefreshFails() throws Exception {
+        RSAKey key = new RSAKeyGenerator(2048).keyID("k1").generate();
+        AtomicBoolean failing = new AtomicBoolean(false);
+
+        RefreshingJwkSource source = new RefreshingJwkSource(() -> {
+            if (failing.get()) {
+                throw new IOException("keycloak unavailable");
+            }
+            return new JWKSet(key);
+        }, TTL, REFRESH_AHEAD, Duration.ZERO);
+
+        source.refresh();
+        failing.set(true);
+        source.refresh();
+
+        assertThat(source.get(selectorFor("k1"), null)).hasSize(1);
+    }
+
+    @Test
+    void refetchesOnUnknownKeyId() throws Exception {
+        RSAKey oldKey = new RSAKeyGenerator(2048).keyID("old").generate();
+        RSAKey newKey = new RSAKeyGenerator(2048).keyID("new").generate();
+        AtomicReference<JWKSet> published = new AtomicReference<>(new JWKSet(oldKey));
+        AtomicInteger fetchCount = new AtomicInteger();
+
+        RefreshingJwkSource source = new RefreshingJwkSource(() -> {
+            fetchCount.incrementAndGet();
+            return published.get();
+        }, TTL, REFRESH_AHEAD, Duration.ZERO);
+        source.refresh();
+
+        published.set(new JWKSet(newKey));
+
+        assertThat(source.get(selectorFor("new"), null)).hasSize(1);
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void unknownKeyIdDoesNotWaitForRefreshInProgress() throws Exception {
+        RSAKey oldKey = new RSAKeyGenerator(2048).keyID("old").generate();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean slow = new AtomicBoolean(false);
+
+        RefreshingJwkSource source = new RefreshingJwkSource(() -> {
+            if (slow.get()) {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new JWKSet(oldKey);
+        }, TTL, REFRESH_AHEAD, Duration.ZERO);
+        source.refresh();
+
+        slow.set(true);
+        CompletableFuture<JWKSet> background = CompletableFuture.supplyAsync(source::refresh);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThat(CompletableFuture.supplyAsync(() -> select(source, "new")).get(1, TimeUnit.SECONDS))
+                    .isEmpty();
+            assertThat(select(source, "old")).hasSize(1);
+        } finally {
+            release.countDown();
+        }
+        assertThat(background.get(5, TimeUnit.SECONDS).getKeyByKeyId("old")).isNotNull();
+    }
+
+    @Test
+    void failsWhenNoKeysWereEverLoaded() {
+        RefreshingJwkSource source = new RefreshingJwkSource(() -> {
+            throw new IOException("keycloak unavailable");
+        }, TTL, REFRESH_AHEAD, Duration.ZERO);
+
+        assertThatThrownBy(() -> source.get(selectorFor("k1"), null))
+                .isInstanceOf(KeySourceException.class);
+    }
+
+    private static List<JWK> select(RefreshingJwkSource source, String keyId) {
+        try {
+            return source.get(selectorFor(keyId), null);
+        } catch (KeySourceException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JWKSelector selectorFor(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+}
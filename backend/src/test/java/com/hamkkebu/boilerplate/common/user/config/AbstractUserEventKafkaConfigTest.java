@@ -0,0 +1,33 @@
+package com.hamkkebu.boilerplate.common.user.config;
+
+import com.hamkkebu.boilerplate.common.datasource.ConnectionPathRecordInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AbstractUserEventKafkaConfigTest {
+
+    private final AbstractUserEventKafkaConfig config = new AbstractUserEventKafkaConfig() {
+        @Override
+        protected String getBootstrapServers() {
+            return "localhost:9092";
+        }
+
+        @Override
+        protected String getGroupId() {
+            return "ledger-service-group";
+        }
+    };
+
+    @Test
+    void containerFactoryRoutesListenersToConsumerPool() {
+        ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> factory = config.createContainerFactory();
+
+        assertThat(ReflectionTestUtils.getField(factory, "recordInterceptor"))
+                .isInstanceOf(ConnectionPathRecordInterceptor.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.hamkkebu.boilerplate.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongPairIntMapTest {
+
+    @Test
+    void putGetAndRemoveByZero() {
+        LongPairIntMap map = new LongPairIntMap(4);
+
+        map.put(1L, 10L, 3);
+        map.put(1L, 11L, 5);
+
+        assertThat(map.get(1L, 10L)).isEqualTo(3);
+        assertThat(map.get(1L, 11L)).isEqualTo(5);
+        assertThat(map.get(10L, 1L)).isZero();
+
+        map.put(1L, 10L, 0);
+
+        assertThat(map.get(1L, 10L)).isZero();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void updateMergesBits() {
+        LongPairIntMap map = new LongPairIntMap(4);
+
+        map.update(7L, 8L, old -> old | 1);
+        map.update(7L, 8L, old -> old | 4);
+        assertThat(map.get(7L, 8L)).isEqualTo(5);
+
+        map.update(7L, 8L, old -> old & ~5);
+        assertThat(map.get(7L, 8L)).isZero();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        LongPairIntMap map = new LongPairIntMap(8);
+        Map<List<Long>, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long first = random.nextInt(200);
+            long second = random.nextInt(200);
+            int value = random.nextInt(4) == 0 ? 0 : random.nextInt(100) + 1;
+
+            map.put(first, second, value);
+            if (value == 0) {
+                expected.remove(List.of(first, second));
+            } else {
+                expected.put(List.of(first, second), value);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long first = 0; first < 200; first++) {
+            for (long second = 0; second < 200; second++) {
+                assertThat(map.get(first, second)).isEqualTo(expected.getOrDefault(List.of(first, second), 0));
+            }
+        }
+    }
+
+    @Test
+    void removeAllByFirstKeepsOtherEntries() {
+        LongPairIntMap map = new LongPairIntMap(4);
+        for (long userId = 1; userId <= 100; userId++) {
+            map.put(1L, userId, 1);
+            map.put(2L, userId, 2);
+        }
+
+        assertThat(map.removeAllByFirst(1L)).isEqualTo(100);
+
+        assertThat(map.size()).isEqualTo(100);
+        assertThat(map.get(1L, 50L)).isZero();
+        assertThat(map.get(2L, 50L)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,61 @@
+package com.hamkkebu.boilerplate.common.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApiResponseHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final ApiResponseHttpMessageConverter converter =
+            new ApiResponseHttpMessageConverter(new ApiResponseWriter(objectMapper), objectMapper);
+
+    @Test
+    void writesSuccessEnvelopeLikeObjectMapper() throws Exception {
+        ApiResponse<Map<String, Object>> response = ApiResponse.success(Map.of("ledgerId", 1L), "조회 성공");
+
+        assertWrittenLikeObjectMapper(response);
+    }
+
+    @Test
+    void writesErrorEnvelopeLikeObjectMapper() throws Exception {
+        ApiResponse<Object> response = ApiResponse.error(
+                ErrorCode.VALIDATION_FAILED.getCode(), "입력값 오류", Map.of("field", "name"));
+
+        assertWrittenLikeObjectMapper(response);
+    }
+
+    @Test
+    void onlyWritesApiResponses() {
+        assertThat(converter.canWrite(ApiResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(Map.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(ApiResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private void assertWrittenLikeObjectMapper(ApiResponse<?> response) throws Exception {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(response));
+        JsonNode actual = objectMapper.readTree(outputMessage.getBodyAsBytes());
+        assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(withoutTimestamp(actual)).isEqualTo(withoutTimestamp(expected));
+    }
+
+    private static JsonNode withoutTimestamp(JsonNode node) {
+        ObjectNode copy = node.deepCopy();
+        copy.remove("timestamp");
+        return copy;
+    }
+}
@@ -0,0 +1,60 @@
+package com.hamkkebu.boilerplate.common.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApiResponseWriterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final ApiResponseWriter apiResponseWriter = new ApiResponseWriter(objectMapper);
+
+    @ParameterizedTest
+    @EnumSource(ErrorCode.class)
+    void errorBodyMatchesObjectMapperOutput(ErrorCode errorCode) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        apiResponseWriter.writeError(response, errorCode);
+
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(
+                ApiResponse.error(errorCode.getCode(), errorCode.getMessage())));
+        JsonNode actual = objectMapper.readTree(response.getContentAsByteArray());
+
+        assertThat(response.getStatus()).isEqualTo(errorCode.getStatusValue());
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(actual.get("timestamp").asText()).matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}");
+        assertThat(withoutTimestamp(actual)).isEqualTo(withoutTimestamp(expected));
+    }
+
+    @Test
+    void successBodyMatchesObjectMapperOutput() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, Object> data = Map.of("ledgerId", 1L, "name", "생활비 \"공용\"");
+
+        apiResponseWriter.writeSuccess(response, HttpStatus.OK, data, "Success");
+
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(ApiResponse.success(data)));
+        JsonNode actual = objectMapper.readTree(response.getContentAsByteArray());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(withoutTimestamp(actual)).isEqualTo(withoutTimestamp(expected));
+    }
+
+    private static JsonNode withoutTimestamp(JsonNode node) {
+        ObjectNode copy = node.deepCopy();
+        copy.remove("timestamp");
+        return copy;
+    }
+}
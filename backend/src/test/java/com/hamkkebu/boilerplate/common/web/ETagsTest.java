@@ -0,0 +1,59 @@
+package com.hamkkebu.boilerplate.common.web;
+
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ETagsTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 15, 10, 0, 0);
+
+    @Test
+    void etagChangesWithVersion() {
+        String etag = ETags.of("ledger", 1L, UPDATED_AT);
+
+        assertThat(etag).matches("\"[0-9a-f]{32}\"");
+        assertThat(ETags.of("ledger", 1L, UPDATED_AT)).isEqualTo(etag);
+        assertThat(ETags.of("ledger", 1L, UPDATED_AT.plusSeconds(1))).isNotEqualTo(etag);
+        assertThat(ETags.of("ledger", 2L, UPDATED_AT)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void returnsNotModifiedWithoutBuildingBody() {
+        String etag = ETags.of("ledger", 1L, UPDATED_AT);
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1/ledgers/1");
+        servletRequest.addHeader("If-None-Match", etag);
+        AtomicInteger bodyCalls = new AtomicInteger();
+
+        ResponseEntity<ApiResponse<String>> response = ETags.okOrNotModified(
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()), etag,
+                () -> "body-" + bodyCalls.incrementAndGet());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(bodyCalls).hasValue(0);
+    }
+
+    @Test
+    void returnsBodyWhenEtagDiffers() {
+        String etag = ETags.of("ledger", 1L, UPDATED_AT);
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1/ledgers/1");
+        servletRequest.addHeader("If-None-Match", ETags.of("ledger", 1L, UPDATED_AT.minusDays(1)));
+
+        ResponseEntity<ApiResponse<String>> response = ETags.okOrNotModified(
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()), etag, () -> "body");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody().getData()).isEqualTo("body");
+    }
+}
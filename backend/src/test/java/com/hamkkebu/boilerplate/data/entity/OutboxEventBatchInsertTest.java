@@ -0,0 +1,63 @@
+package com.hamkkebu.boilerplate.data.entity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutboxEvent INSERT가 JDBC 배치로 묶이는지 검증 (pooled TABLE ID + hibernate.jdbc.batch_size)
+ *
+ * <p>TABLE 생성기는 선택 사항이므로 mapping-resources로 활성화합니다.</p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.mapping-resources=META-INF/outbox-table-id-orm.xml",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class OutboxEventBatchInsertTest {
+
+    private static final int EVENT_COUNT = 200;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void insertsAreBatched() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            entityManager.persist(OutboxEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType("TEST_EVENT")
+                    .topic("test-topic")
+                    .resourceId(String.valueOf(i))
+                    .payload("{}")
+                    .build());
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(EVENT_COUNT);
+        // INSERT 배치 (EVENT_COUNT / BATCH_SIZE) + ID 구간 할당 (EVENT_COUNT / allocationSize, 구간당 SELECT/UPDATE)
+        // IDENTITY였다면 INSERT마다 statement가 필요하므로 EVENT_COUNT 이상
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo(EVENT_COUNT / BATCH_SIZE * 4 + 4);
+    }
+}